@@ -0,0 +1,87 @@
+package dev.webfx.kit.benchmarks;
+
+import com.sun.javafx.event.EventHandlerManager;
+import com.sun.javafx.event.EventUtil;
+import javafx.event.Event;
+import javafx.event.EventDispatchChain;
+import javafx.event.EventHandler;
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event dispatch through EventHandlerManager: directly on a single target with several handlers, and through the
+ * dispatch chain of a node at the given depth whose ancestors all have a filter and a handler (like a mouse event
+ * fired on a deep node of the scene graph).
+ *
+ * @author Bruno Salmon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventDispatchBenchmark {
+
+    private static final EventType<Event> BENCHMARK_EVENT = new EventType<>(Event.ANY, "BENCHMARK_EVENT");
+    private static final EventType<Event> OTHER_EVENT = new EventType<>(Event.ANY, "OTHER_EVENT");
+
+    @Param({"1", "4"})
+    public int handlerCount;
+
+    @Param({"4", "16"})
+    public int depth;
+
+    private EventTarget singleTarget;
+    private Node deepNode;
+    private int handledCount;
+
+    @Setup
+    public void setup() {
+        EventHandler<Event> handler = e -> handledCount++;
+        EventHandlerManager eventHandlerManager = new EventHandlerManager(this);
+        for (int i = 0; i < handlerCount; i++) {
+            eventHandlerManager.addEventHandler(BENCHMARK_EVENT, handler);
+            // Handlers of other event types that the dispatch must skip
+            eventHandlerManager.addEventHandler(OTHER_EVENT, handler);
+        }
+        singleTarget = new EventTarget() {
+            @Override
+            public EventDispatchChain buildEventDispatchChain(EventDispatchChain tail) {
+                return tail.prepend(eventHandlerManager);
+            }
+        };
+        Pane parent = new Pane();
+        for (int level = 1; level < depth; level++) {
+            Pane child = new Pane();
+            parent.getChildren().add(child);
+            parent = child;
+        }
+        deepNode = new Group();
+        parent.getChildren().add(deepNode);
+        for (Node node = deepNode; node != null; node = node.getParent()) {
+            for (int i = 0; i < handlerCount; i++) {
+                node.addEventFilter(BENCHMARK_EVENT, handler);
+                node.addEventHandler(BENCHMARK_EVENT, handler);
+            }
+        }
+    }
+
+    @Benchmark
+    public int singleTargetDispatch() {
+        EventUtil.fireEvent(singleTarget, new Event(BENCHMARK_EVENT));
+        return handledCount;
+    }
+
+    @Benchmark
+    public int nodeChainDispatch() {
+        Event.fireEvent(deepNode, new Event(BENCHMARK_EVENT));
+        return handledCount;
+    }
+}
@@ -0,0 +1,110 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layout passes on trees of layout containers, where each container has childCount children and the leaves (fixed
+ * pref size regions) are at the given depth. The trees are not inserted in a scene (which would require a browser
+ * scene peer and a UI scheduler), so the root is resized and laid out directly, like the scene pulse does.
+ *
+ * @author Bruno Salmon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LayoutBenchmark {
+
+    public enum ContainerType { HBOX, VBOX, GRID_PANE, FLOW_PANE }
+
+    @Param({"HBOX", "VBOX", "GRID_PANE", "FLOW_PANE"})
+    public ContainerType containerType;
+
+    @Param({"4", "8"})
+    public int childCount;
+
+    @Param({"2", "4"})
+    public int depth;
+
+    private Region root;
+    private final List<Parent> containers = new ArrayList<>();
+    private Region deepestLeaf;
+    private boolean toggle;
+
+    @Setup
+    public void setup() {
+        containers.clear();
+        root = (Region) createTree(depth);
+        root.resize(1920, 1080);
+        root.layout();
+    }
+
+    private Node createTree(int level) {
+        if (level == 0) {
+            Region leaf = new Region();
+            leaf.setPrefSize(40, 20);
+            deepestLeaf = leaf;
+            return leaf;
+        }
+        Pane container = createContainer();
+        containers.add(container);
+        int columnCount = (int) Math.ceil(Math.sqrt(childCount));
+        for (int i = 0; i < childCount; i++) {
+            Node child = createTree(level - 1);
+            if (container instanceof GridPane)
+                GridPane.setConstraints(child, i % columnCount, i / columnCount);
+            container.getChildren().add(child);
+        }
+        return container;
+    }
+
+    private Pane createContainer() {
+        switch (containerType) {
+            case HBOX:      return new HBox(2);
+            case VBOX:      return new VBox(2);
+            case GRID_PANE: return new GridPane();
+            default:        return new FlowPane(2, 2);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AllContainersDirty {
+
+        @Setup(Level.Invocation)
+        public void invalidateAllContainers(LayoutBenchmark tree) {
+            for (Parent container : tree.containers)
+                container.requestLayout();
+        }
+    }
+
+    @Benchmark
+    public Region fullLayout(AllContainersDirty allContainersDirty) { // All size caches cleared (ex: first layout or css change)
+        root.layout();
+        return root;
+    }
+
+    @Benchmark
+    public Region deepLeafPrefSizeChange() { // Typical incremental change (ex: a text change in a label)
+        toggle = !toggle;
+        deepestLeaf.setPrefWidth(toggle ? 60 : 40);
+        root.layout();
+        return root;
+    }
+
+    @Benchmark
+    public Region rootResize() { // Typical window resize
+        toggle = !toggle;
+        root.resize(toggle ? 1280 : 1920, toggle ? 720 : 1080);
+        root.layout();
+        return root;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.webfx.kit.benchmarks;
+
+import dev.webfx.kit.benchmarks.stub.StubNodePeer;
+import dev.webfx.kit.benchmarks.stub.StubSceneRequester;
+import javafx.scene.layout.Region;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node -> peer property update dispatch (NodePeerBase + NodePeerPropertyUpdaters) with stub peers: the cost of
+ * finding and calling the updater of a changed property, of a full update (as done when the peer is bound) and of
+ * binding a new peer to a node.
+ *
+ * @author Bruno Salmon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NodePeerUpdateBenchmark {
+
+    private Region node;
+    private StubNodePeer<Region> nodePeer;
+    private double value;
+
+    @Setup
+    public void setup() {
+        StubNodePeer.registerFactories();
+        node = new Region();
+        nodePeer = (StubNodePeer<Region>) StubSceneRequester.createAndBindNodePeer(node);
+    }
+
+    @Benchmark
+    public int changedPropertyUpdate() { // The scene requester updates the peer synchronously on property change
+        node.setTranslateX(++value);
+        return nodePeer.getUpdateCount();
+    }
+
+    @Benchmark
+    public int lastRegisteredPropertyUpdate() {
+        nodePeer.updateProperty(node.onDragDoneProperty());
+        return nodePeer.getUpdateCount();
+    }
+
+    @Benchmark
+    public int fullUpdate() {
+        nodePeer.updateProperty(null);
+        return nodePeer.getUpdateCount();
+    }
+
+    @Benchmark
+    public StubNodePeer<Region> bindNewPeer() {
+        return (StubNodePeer<Region>) StubSceneRequester.createAndBindNodePeer(new Region());
+    }
+}
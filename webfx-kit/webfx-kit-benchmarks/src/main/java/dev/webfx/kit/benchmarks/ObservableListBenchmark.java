@@ -0,0 +1,94 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk changes on ObservableListWrapper (the FXCollections.observableArrayList() implementation) with a listener that
+ * walks the whole change, so the cost of building the change with ListChangeBuilder and of reading it is included.
+ *
+ * @author Bruno Salmon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObservableListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private List<Integer> items;
+    private List<Integer> otherItems;
+    private Set<Integer> evenItems;
+    private ObservableList<Integer> list;
+    private int changedCount;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        otherItems = new ArrayList<>(size);
+        evenItems = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            items.add(i);
+            otherItems.add(size - i);
+            if ((i & 1) == 0)
+                evenItems.add(i);
+        }
+        list = FXCollections.observableArrayList();
+        list.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated())
+                    changedCount += c.getTo() - c.getFrom();
+                else
+                    changedCount += c.getAddedSize() + c.getRemovedSize();
+            }
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void fillList() {
+        list.setAll(items);
+    }
+
+    @Benchmark
+    public int setAll() {
+        list.setAll(otherItems);
+        return changedCount;
+    }
+
+    @Benchmark
+    public int addAll() {
+        list.addAll(otherItems);
+        return changedCount;
+    }
+
+    @Benchmark
+    public int removeEveryOtherItem() { // Many disjoint removals aggregated in a single change
+        list.removeAll(evenItems);
+        return changedCount;
+    }
+
+    @Benchmark
+    public int clear() {
+        list.clear();
+        return changedCount;
+    }
+
+    @Benchmark
+    public int sort() { // Permutation change
+        list.sort(Comparator.reverseOrder());
+        return changedCount;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ChangeListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Property set & notification through ExpressionHelper (which switches between its single and generic listener
+ * implementations depending on the listener count), and evaluation of a chain of bindings.
+ *
+ * @author Bruno Salmon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyBenchmark {
+
+    @Param({"0", "1", "4", "16"})
+    public int listenerCount;
+
+    @Param({"INVALIDATION", "CHANGE"})
+    public String listenerType;
+
+    @Param({"4"})
+    public int bindingChainLength;
+
+    private DoubleProperty property;
+    private DoubleProperty chainSource;
+    private DoubleBinding chainEnd;
+    private double value;
+    private double notifiedSum;
+    private final InvalidationListener extraListener = o -> {};
+
+    @Setup
+    public void setup() {
+        property = new SimpleDoubleProperty();
+        for (int i = 0; i < listenerCount; i++) {
+            if ("CHANGE".equals(listenerType))
+                property.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> notifiedSum += newValue.doubleValue());
+            else // Validating the property again (otherwise the next set wouldn't notify the invalidation listeners)
+                property.addListener((InvalidationListener) o -> notifiedSum += property.get());
+        }
+        chainSource = new SimpleDoubleProperty();
+        DoubleBinding binding = chainSource.add(1);
+        for (int i = 1; i < bindingChainLength; i++)
+            binding = binding.multiply(1.0001);
+        chainEnd = binding;
+    }
+
+    @Benchmark
+    public double setAndNotify() {
+        property.set(++value);
+        return notifiedSum;
+    }
+
+    @Benchmark
+    public double addAndRemoveListener() {
+        property.addListener(extraListener);
+        property.removeListener(extraListener);
+        return property.get();
+    }
+
+    @Benchmark
+    public double bindingChainEvaluation() {
+        chainSource.set(++value);
+        return chainEnd.get();
+    }
+}
@@ -0,0 +1,72 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.animation.AnimationAccessor;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.TickCalculation;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.util.Duration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timeline interpolation of keyValueCount properties over keyFrameCount key frames, as done on each animation frame.
+ * The master timer can't be used here (it needs a UI scheduler), so the frames are reproduced by jumping the timeline
+ * to the successive frame positions (60 fps) through the animation accessor, which interpolates all the key values.
+ *
+ * @author Bruno Salmon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimelineBenchmark {
+
+    private static final double DURATION_MILLIS = 1000;
+    private static final long FRAME_TICKS = TickCalculation.fromMillis(1000d / 60);
+
+    @Param({"1", "16", "64"})
+    public int keyValueCount;
+
+    @Param({"2", "8"})
+    public int keyFrameCount;
+
+    @Param({"LINEAR", "EASE_BOTH"})
+    public String interpolator;
+
+    private Timeline timeline;
+    private DoubleProperty[] properties;
+    private long cycleTicks;
+    private long ticks;
+
+    @Setup
+    public void setup() {
+        Interpolator interpolator = "LINEAR".equals(this.interpolator) ? Interpolator.LINEAR : Interpolator.EASE_BOTH;
+        properties = new DoubleProperty[keyValueCount];
+        for (int i = 0; i < keyValueCount; i++)
+            properties[i] = new SimpleDoubleProperty();
+        timeline = new Timeline();
+        for (int f = 0; f < keyFrameCount; f++) {
+            KeyValue[] keyValues = new KeyValue[keyValueCount];
+            for (int i = 0; i < keyValueCount; i++)
+                keyValues[i] = new KeyValue(properties[i], (double) (f * 100 + i), interpolator);
+            timeline.getKeyFrames().add(new KeyFrame(Duration.millis(DURATION_MILLIS * f / (keyFrameCount - 1)), keyValues));
+        }
+        cycleTicks = TickCalculation.fromMillis(DURATION_MILLIS);
+    }
+
+    @Benchmark
+    public double interpolateFrame() {
+        ticks += FRAME_TICKS;
+        if (ticks > cycleTicks)
+            ticks -= cycleTicks;
+        AnimationAccessor.getDefault().jumpTo(timeline, ticks, cycleTicks, true);
+        return properties[0].get();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * FilteredList and SortedList updates, both when their source list changes (single item changes, which is what
+ * happens most of the time in applications) and when their predicate or comparator changes (full refilter or resort).
+ *
+ * @author Bruno Salmon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformationListBenchmark {
+
+    private static final Predicate<Integer> EVEN = i -> (i & 1) == 0;
+    private static final Predicate<Integer> MULTIPLE_OF_3 = i -> i % 3 == 0;
+    private static final Comparator<Integer> ASCENDING = Comparator.naturalOrder();
+    private static final Comparator<Integer> DESCENDING = Comparator.reverseOrder();
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private ObservableList<Integer> source;
+    private FilteredList<Integer> filteredList;
+    private SortedList<Integer> sortedList;
+    private int nextValue;
+    private int changeCount;
+
+    @Setup
+    public void setup() {
+        source = FXCollections.observableArrayList();
+        for (int i = 0; i < size; i++)
+            source.add((i * 7919) % size); // Deterministic but not sorted
+        nextValue = size;
+        filteredList = new FilteredList<>(source, EVEN);
+        sortedList = new SortedList<>(source, ASCENDING);
+        // Listeners are necessary for the transformation lists to compute their changes
+        ListChangeListener<Integer> listener = c -> {
+            while (c.next())
+                changeCount++;
+        };
+        filteredList.addListener(listener);
+        sortedList.addListener(listener);
+    }
+
+    @Benchmark
+    public int addAndRemoveSourceItem() {
+        source.add(size / 2, nextValue++);
+        source.remove(size / 2);
+        return changeCount;
+    }
+
+    @Benchmark
+    public int setSourceItem() {
+        int value = nextValue++;
+        source.set((value & Integer.MAX_VALUE) % size, value);
+        return changeCount;
+    }
+
+    @Benchmark
+    public int changeFilterPredicate() {
+        filteredList.setPredicate(filteredList.getPredicate() == EVEN ? MULTIPLE_OF_3 : EVEN);
+        return filteredList.size();
+    }
+
+    @Benchmark
+    public int changeSortComparator() {
+        sortedList.setComparator(sortedList.getComparator() == ASCENDING ? DESCENDING : ASCENDING);
+        return sortedList.get(0);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.webfx.kit.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. It accepts the usual JMH command line options (ex: a benchmark regexp, -p to set
+ * the parameters, -f/-wi/-i for the forks and iterations) but emits the results as JSON by default, so they can be
+ * collected and compared from one run to another.
+ *
+ * @author Bruno Salmon
+ */
+public final class WebFxKitBenchmarks {
+
+    private static final String DEFAULT_RESULT_FILE = "webfx-kit-benchmarks.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+            if (!commandLineOptions.getResult().hasValue())
+                options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,188 @@
+package dev.webfx.kit.benchmarks.stub;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeerFactoryRegistry;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerImpl;
+import javafx.collections.ListChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.DragEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.shape.*;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Transform;
+
+import java.util.List;
+
+/**
+ * Peer that goes through the real NodePeerBase property dispatch but doesn't render anything. The updates are just
+ * counted (which also prevents the JIT from eliminating them as dead code).
+ *
+ * @author Bruno Salmon
+ */
+public class StubNodePeer<N extends Node> extends NodePeerImpl<N, StubNodePeer.Base<N>, StubNodePeer<N>> {
+
+    private int updateCount;
+
+    public StubNodePeer() {
+        super(new Base<>());
+    }
+
+    /**
+     * Registers the stub peer as the peer factory of all the nodes (to be called in the benchmarks setup).
+     */
+    public static void registerFactories() {
+        NodePeerFactoryRegistry.registerDefaultRegionPeerFactory(node -> new StubNodePeer<>());
+        NodePeerFactoryRegistry.registerDefaultGroupPeerFactory(node -> new StubNodePeer<>());
+        NodePeerFactoryRegistry.registerNodePeerFactory(Rectangle.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(Arc.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(Circle.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(Line.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(Path.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(SVGPath.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(Text.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(ImageView.class, StubNodePeer::new);
+        NodePeerFactoryRegistry.registerNodePeerFactory(Canvas.class, StubNodePeer::new);
+    }
+
+    public int getUpdateCount() {
+        return updateCount;
+    }
+
+    private void onUpdate() {
+        updateCount++;
+    }
+
+    @Override
+    public void updateMouseTransparent(Boolean mouseTransparent) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateId(String id) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateVisible(Boolean visible) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateOpacity(Double opacity) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateClip(Node clip) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateBlendMode(BlendMode blendMode) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateEffect(Effect effect) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateLayoutX(Number layoutX) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateLayoutY(Number layoutY) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateTranslateX(Number translateX) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateTranslateY(Number translateY) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateScaleX(Number scaleX) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateScaleY(Number scaleY) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateRotate(Number rotate) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateTransforms(List<Transform> transforms, ListChangeListener.Change<Transform> change) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateAllNodeTransforms(List<Transform> localToParentTransforms) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateDisabled(Boolean disabled) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateStyleClass(List<String> styleClass, ListChangeListener.Change<String> change) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateCursor(Cursor cursor) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateOnDragDetected(EventHandler<? super MouseEvent> eventHandler) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateOnDragEntered(EventHandler<? super DragEvent> eventHandler) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateOnDragOver(EventHandler<? super DragEvent> eventHandler) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateOnDragDropped(EventHandler<? super DragEvent> eventHandler) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateOnDragExited(EventHandler<? super DragEvent> eventHandler) {
+        onUpdate();
+    }
+
+    @Override
+    public void updateOnDragDone(EventHandler<? super DragEvent> eventHandler) {
+        onUpdate();
+    }
+
+    public static final class Base<N extends Node> extends NodePeerBase<N, Base<N>, StubNodePeer<N>> {
+    }
+}
@@ -0,0 +1,48 @@
+package dev.webfx.kit.benchmarks.stub;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeerFactoryRegistry;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+
+/**
+ * Scene requester applying the peer updates immediately (instead of deferring them to the next animation frame like
+ * the Scene does), so the benchmarks can measure the node -> peer dispatch without any scene or UI scheduler.
+ *
+ * @author Bruno Salmon
+ */
+public final class StubSceneRequester implements SceneRequester {
+
+    public static final StubSceneRequester INSTANCE = new StubSceneRequester();
+
+    private StubSceneRequester() {
+    }
+
+    @Override
+    public void requestNodePeerPropertyUpdate(Node node, ObservableValue changedProperty) {
+        NodePeer nodePeer = node.getNodePeer();
+        if (nodePeer != null)
+            nodePeer.updateProperty(changedProperty);
+    }
+
+    @Override
+    public void requestNodePeerListUpdate(Node node, ObservableList changedList, ListChangeListener.Change change) {
+        NodePeer nodePeer = node.getNodePeer();
+        if (nodePeer != null)
+            nodePeer.updateList(changedList, change);
+    }
+
+    /**
+     * Creates the peer of the node from the registered factories (stub peers) and binds it to the node, like the Scene
+     * does when the node is inserted in the scene graph.
+     */
+    public static <N extends Node> NodePeer<N> createAndBindNodePeer(N node) {
+        NodePeer<N> nodePeer = NodePeerFactoryRegistry.createNodePeer(node);
+        node.setNodePeer(nodePeer);
+        nodePeer.bind(node, INSTANCE);
+        return nodePeer;
+    }
+}
@@ -2,6 +2,7 @@ package dev.webfx.kit.launcher.spi.impl.gwt;
 
 import com.sun.javafx.application.ParametersImpl;
 import dev.webfx.kit.launcher.spi.FastPixelReaderWriter;
+import dev.webfx.kit.launcher.spi.impl.base.TextMetricsCache;
 import dev.webfx.kit.launcher.spi.impl.base.WebFxKitLauncherProviderBase;
 import dev.webfx.kit.mapper.WebFxKitMapper;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.CanvasElementHelper;
@@ -36,6 +37,7 @@ import javafx.stage.Screen;
 import jsinterop.base.Js;
 import jsinterop.base.JsPropertyMap;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 
@@ -55,6 +57,7 @@ public final class GwtWebFxKitLauncherProvider extends WebFxKitLauncherProviderB
 
     public GwtWebFxKitLauncherProvider() {
         super(false);
+        TextMetricsCache.clearOnFontsLoaded(Font.getLoadingFonts());
     }
 
     @Override
@@ -193,6 +196,10 @@ public final class GwtWebFxKitLauncherProvider extends WebFxKitLauncherProviderB
 
     @Override
     public Bounds measureText(String text, Font font) {
+        return TextMetricsCache.getOrMeasure(text, font, 0, () -> measureTextNow(text, font));
+    }
+
+    private Bounds measureTextNow(String text, Font font) {
         CanvasRenderingContext2D context = Context2DHelper.getCanvasContext2D(MEASURE_CANVAS_ELEMENT);
         context.font = HtmlFonts.getHtmlFontDefinition(font);
         TextMetrics textMetrics = context.measureText(text);
@@ -226,6 +233,76 @@ public final class GwtWebFxKitLauncherProvider extends WebFxKitLauncherProviderB
         return font.getBaselineOffset();
     }
 
+    private static final HTMLElement lineHeightSample = HtmlUtil.createSpanElement();
+    static {
+        lineHeightSample.appendChild(DomGlobal.document.createTextNode("Ág"));
+        lineHeightSample.style.position = "absolute";
+        lineHeightSample.style.whiteSpace = "nowrap";
+        lineHeightSample.style.lineHeight = CSSProperties.LineHeightUnionType.of("normal"); // as for non-wrapping texts
+    }
+
+    @Override
+    public double measureLineHeight(Font font) {
+        if (font == null)
+            return 0;
+        HtmlFonts.setHtmlFontStyleAttributes(font, lineHeightSample);
+        DomGlobal.document.body.appendChild(lineHeightSample);
+        double lineHeight = lineHeightSample.getBoundingClientRect().height;
+        DomGlobal.document.body.removeChild(lineHeightSample);
+        return lineHeight;
+    }
+
+    // Off-scene elements used to measure the texts as rendered by the Text peers (same tag and styles as HtmlTextPeer).
+    // There is one element per font (so the font styles are applied only once), and the least recently used ones are
+    // removed from the document when there are too many fonts.
+    private static final int MAX_TEXT_NODE_SAMPLES = 32;
+    private static final Map<String, HTMLElement> textNodeSamples = new LinkedHashMap<String, HTMLElement>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HTMLElement> eldest) {
+            if (size() <= MAX_TEXT_NODE_SAMPLES)
+                return false;
+            eldest.getValue().remove();
+            return true;
+        }
+    };
+
+    @Override
+    public Bounds measureTextNode(String text, Font font, double wrappingWidth, double lineSpacing) {
+        Font sampleFont = font != null ? font : Font.getDefault();
+        String fontDefinition = HtmlFonts.getHtmlFontDefinition(sampleFont);
+        if (wrappingWidth > 0 && lineSpacing != 0) // Not cached (rare case)
+            return measureTextNodeNow(text, sampleFont, fontDefinition, wrappingWidth, lineSpacing);
+        // Prefixed font key, so these measures are not mixed up with the canvas ones
+        return TextMetricsCache.getOrMeasure(text, "text-node " + fontDefinition, Math.max(wrappingWidth, 0), () ->
+                measureTextNodeNow(text, sampleFont, fontDefinition, wrappingWidth, lineSpacing));
+    }
+
+    private Bounds measureTextNodeNow(String text, Font font, String fontDefinition, double wrappingWidth, double lineSpacing) {
+        HTMLElement sample = textNodeSamples.get(fontDefinition);
+        if (sample == null) {
+            sample = HtmlUtil.createElement("fx-text");
+            sample.style.position = "absolute";
+            sample.style.visibility = "hidden";
+            HtmlFonts.setHtmlFontStyleAttributes(font, sample);
+            DomGlobal.document.body.appendChild(sample);
+            textNodeSamples.put(fontDefinition, sample);
+        }
+        // Same wrapping & line height mapping as HtmlTextPeer.updateWrappingWithAndLineSpacing()
+        boolean isWrapping = wrappingWidth > 0;
+        CSSStyleDeclaration style = sample.style;
+        style.whiteSpace = isWrapping ? "normal" : "nowrap";
+        style.width = isWrapping ? CSSProperties.WidthUnionType.of(HtmlNodePeer.toPx(wrappingWidth)) : null;
+        style.lineHeight = CSSProperties.LineHeightUnionType.of(isWrapping ? "130%" : "normal");
+        if (isWrapping && lineSpacing != 0) {
+            sample.textContent = "W";
+            double lineHeightPx = sample.getBoundingClientRect().height;
+            style.lineHeight = CSSProperties.LineHeightUnionType.of(HtmlNodePeer.toPx(lineHeightPx + lineSpacing));
+        }
+        sample.textContent = text;
+        DOMRect bcr = sample.getBoundingClientRect();
+        return new BoundingBox(0, 0, bcr.width, bcr.height);
+    }
+
     @Override
     public ObservableList<Font> loadingFonts() {
         return Font.getLoadingFonts();
@@ -81,6 +81,18 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         }
     }
 
+    // WebFX addition: used to know if a property is observed by other listeners than the peer's one (see the native
+    // animation offloading)
+    public static int getListenerCount(ExpressionHelper<?> helper) {
+        if (helper == null)
+            return 0;
+        if (helper instanceof Generic) {
+            Generic<?> generic = (Generic<?>) helper;
+            return generic.invalidationSize + generic.changeSize;
+        }
+        return 1; // SingleInvalidation or SingleChange
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Common implementations
 
@@ -81,6 +81,11 @@ public abstract class DoublePropertyBase extends DoubleProperty {
         ExpressionHelper.fireValueChangedEvent(helper);
     }
 
+    // WebFX addition (used by the native animation offloading)
+    public int impl_getListenerCount() {
+        return ExpressionHelper.getListenerCount(helper);
+    }
+
     private void markInvalid() {
         if (valid) {
             valid = false;
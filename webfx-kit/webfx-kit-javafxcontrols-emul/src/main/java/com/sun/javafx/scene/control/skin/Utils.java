@@ -1,8 +1,15 @@
 package com.sun.javafx.scene.control.skin;
 
+import com.sun.javafx.scene.text.GlyphTextLayout;
+import com.sun.javafx.scene.text.TextLayout;
+import com.sun.javafx.scene.text.TextNodeMetrics;
 import javafx.geometry.HPos;
 import javafx.geometry.VPos;
+import javafx.scene.control.OverrunStyle;
 import javafx.scene.text.Font;
+import javafx.scene.text.TextBoundsType;
+
+import static javafx.scene.control.OverrunStyle.*;
 
 /**
  * BE REALLY CAREFUL WITH RESTORING OR RESETTING STATE OF helper NODE AS LEFTOVER
@@ -13,14 +20,6 @@ import javafx.scene.text.Font;
  */
 public class Utils {
 
-/*
-    static final Text helper = new Text();
-    static final double DEFAULT_WRAPPING_WIDTH = helper.getWrappingWidth();
-    static final double DEFAULT_LINE_SPACING = helper.getLineSpacing();
-    static final String DEFAULT_TEXT = helper.getText();
-    static final TextBoundsType DEFAULT_BOUNDS_TYPE = helper.getBoundsType();
-*/
-
     /* Using TextLayout directly for simple text measurement.
      * Instead of restoring the TextLayout attributes to default values
      * (each renders the TextLayout unable to efficiently cache layout data).
@@ -31,78 +30,97 @@ public class Utils {
      * Note: This code assumes that TextBoundsType#VISUAL is never used by controls.
      * */
     //static final TextLayout layout = Toolkit.getToolkit().getTextLayoutFactory().createLayout();
+    // WebFX: pure Java layout based on the glyph advances of the fonts (so the measurements don't access the DOM). Note
+    // that the clipping methods don't use it, see computeRenderedTextWidth().
+    static final GlyphTextLayout layout = new GlyphTextLayout();
 
-/*
-    static double getAscent(Font font, TextBoundsType boundsType) {
-        layout.setContent("", font.impl_getNativeFont());
-        layout.setWrapWidth(0);
-        layout.setLineSpacing(0);
+    private static void setLayoutBoundsType(TextBoundsType boundsType) {
         if (boundsType == TextBoundsType.LOGICAL_VERTICAL_CENTER) {
             layout.setBoundsType(TextLayout.BOUNDS_CENTER);
         } else {
             layout.setBoundsType(0);
         }
-        return -layout.getBounds().getMinY();
     }
 
-    static double getLineHeight(Font font, TextBoundsType boundsType) {
-        layout.setContent("", font.impl_getNativeFont());
+    public static double getAscent(Font font, TextBoundsType boundsType) {
+        layout.setContent("", font);
         layout.setWrapWidth(0);
         layout.setLineSpacing(0);
-        if (boundsType == TextBoundsType.LOGICAL_VERTICAL_CENTER) {
-            layout.setBoundsType(TextLayout.BOUNDS_CENTER);
-        } else {
-            layout.setBoundsType(0);
-        }
+        setLayoutBoundsType(boundsType);
+        return -layout.getBounds().getMinY();
+    }
 
-        // RT-37092: Use the line bounds specifically, to include font leading.
-        return layout.getLines()[0].getBounds().getHeight();
+    public static double getLineHeight(Font font, TextBoundsType boundsType) {
+        layout.setContent("", font);
+        layout.setWrapWidth(0);
+        layout.setLineSpacing(0);
+        setLayoutBoundsType(boundsType);
+        return layout.getLineHeight();
     }
 
-    static double computeTextWidth(Font font, String text, double wrappingWidth) {
-        layout.setContent(text != null ? text : "", font/*.impl_getNativeFont());
+    public static double computeTextWidth(Font font, String text, double wrappingWidth) {
+        layout.setContent(text != null ? text : "", font);
         layout.setWrapWidth((float)wrappingWidth);
         return layout.getBounds().getWidth();
     }
 
-    static double computeTextHeight(Font font, String text, double wrappingWidth, TextBoundsType boundsType) {
+    public static double computeTextHeight(Font font, String text, double wrappingWidth, TextBoundsType boundsType) {
         return computeTextHeight(font, text, wrappingWidth, 0, boundsType);
     }
 
-    @SuppressWarnings("deprecation")
-    static double computeTextHeight(Font font, String text, double wrappingWidth, double lineSpacing, TextBoundsType boundsType) {
-        layout.setContent(text != null ? text : "", font/*.impl_getNativeFont());
+    public static double computeTextHeight(Font font, String text, double wrappingWidth, double lineSpacing, TextBoundsType boundsType) {
+        layout.setContent(text != null ? text : "", font);
         layout.setWrapWidth((float)wrappingWidth);
         layout.setLineSpacing((float)lineSpacing);
-        if (boundsType == TextBoundsType.LOGICAL_VERTICAL_CENTER) {
-            layout.setBoundsType(TextLayout.BOUNDS_CENTER);
-        } else {
-            layout.setBoundsType(0);
-        }
+        setLayoutBoundsType(boundsType);
         return layout.getBounds().getHeight();
     }
 
-    static int computeTruncationIndex(Font font, String text, double width) {
-        helper.setText(text);
-        helper.setFont(font);
-        helper.setWrappingWidth(0);
-        helper.setLineSpacing(0);
-        // The -2 is a fudge to make sure the result more often matches
-        // what we get from using computeTextWidth instead. It's not yet
-        // clear what causes the small discrepancies.
-        Bounds bounds = helper.getLayoutBounds();
-        Point2D endPoint = new Point2D(width - 2, bounds.getMinY() + bounds.getHeight() / 2);
-        final int index = helper.impl_hitTestChar(endPoint).getCharIndex();
-        // RESTORE STATE
-        helper.setWrappingWidth(DEFAULT_WRAPPING_WIDTH);
-        helper.setLineSpacing(DEFAULT_LINE_SPACING);
-        helper.setText(DEFAULT_TEXT);
-        return index;
+    /* WebFX: the clipping decisions are made with the same measurement source as the preferred size of the labels, i.e.
+     * the text as rendered by a Text node (see TextNodeMetrics). Otherwise a label laid out at exactly its preferred
+     * width could get an unnecessary ellipsis, because the glyph advances sum doesn't include the extra space around
+     * the rendered text. As this source can only measure whole strings, the characters are not totaled up one by one
+     * like in OpenJFX, but the number of characters fitting is found by binary search (the measures are cached).
+     */
+    private static double computeRenderedTextWidth(Font font, String text) {
+        return text.isEmpty() ? 0 : TextNodeMetrics.computeTextWidth(font, text, 0);
     }
-*/
 
-/*
-    static String computeClippedText(Font font, String text, double width,
+    private static double computeRenderedTextHeight(Font font, String text, double wrappingWidth) {
+        return TextNodeMetrics.computeTextHeight(font, text.isEmpty() ? "W" : text, wrappingWidth, 0);
+    }
+
+    // Returns the number of characters taken from the start of the text (or from its end if fromEnd is true) that fit
+    // entirely within the width.
+    private static int computeFittingCharCount(Font font, String text, double width, boolean fromEnd) {
+        int low = 0, high = text.length();
+        while (low < high) {
+            int count = (low + high + 1) >>> 1;
+            String part = fromEnd ? text.substring(text.length() - count) : text.substring(0, count);
+            if (computeRenderedTextWidth(font, part) <= width)
+                low = count;
+            else
+                high = count - 1;
+        }
+        return low;
+    }
+
+    // Same for the center ellipsis: the characters are taken alternately from the start and from the end of the text
+    // (the first one from the start).
+    private static int computeFittingCenterCharCount(Font font, String text, double width) {
+        int low = 0, high = text.length();
+        while (low < high) {
+            int count = (low + high + 1) >>> 1;
+            if (computeRenderedTextWidth(font, text.substring(0, (count + 1) / 2))
+                    + computeRenderedTextWidth(font, text.substring(text.length() - count / 2)) <= width)
+                low = count;
+            else
+                high = count - 1;
+        }
+        return low;
+    }
+
+    public static String computeClippedText(Font font, String text, double width,
                                      OverrunStyle type, String ellipsisString) {
         if (font == null) {
             throw new IllegalArgumentException("Must specify a font");
@@ -119,12 +137,12 @@ public class Utils {
         // discrepancies introduced when the available width was calculated.
         // MenuItemSkinBase.doLayout, for example, does a number of double
         // point operations when computing the available width.
-        final double stringWidth = computeTextWidth(font, text, 0);
+        final double stringWidth = computeRenderedTextWidth(font, text);
         if (stringWidth - width < 0.0010F) {
             return text;
         }
         // the width used by the ellipsis string
-        final double ellipsisWidth = computeTextWidth(font, ellipsis, 0);
+        final double ellipsisWidth = computeRenderedTextWidth(font, ellipsis);
         // the available maximum width to fit chars into. This is essentially
         // the width minus the space required for the ellipsis string
         final double availableWidth = width - ellipsisWidth;
@@ -134,22 +152,9 @@ public class Utils {
             return "";
         }
 
-        // if we got here, then we must clip the text with an ellipsis.
-        // this can be pretty expensive depending on whether "complex" text
-        // layout needs to be taken into account. So each ellipsis option has
-        // to take into account two code paths: the easy way and the correct
-        // way. This is flagged by the "complexLayout" boolean
-        // TODO make sure this function call takes into account ligatures, kerning,
-        // and such as that will change the layout characteristics of the text
-        // and will require a full complex layout
-        // TODO since we don't have all the stuff available in FX to determine
-        // complex text, I'm going to for now assume complex text is always false.
-        final boolean complexLayout = false;
-        //requiresComplexLayout(font, text);
-
-        // generally all we want to do is count characters and add their widths.
-        // For ellipsis that breaks on words, we do NOT want to include any
-        // hanging whitespace.
+        // WebFX: complex layout (bidi, ligatures, kerning) is not supported.
+        final int length = text.length();
+
         if (style == ELLIPSIS ||
                 style == WORD_ELLIPSIS ||
                 style == LEADING_ELLIPSIS ||
@@ -157,129 +162,41 @@ public class Utils {
 
             final boolean wordTrim =
                     (style == WORD_ELLIPSIS || style == LEADING_WORD_ELLIPSIS);
-            String substring;
-            if (complexLayout) {
-                //            AttributedString a = new AttributedString(text);
-                //            LineBreakMeasurer m = new LineBreakMeasurer(a.getIterator(), frc);
-                //            substring = text.substring(0, m.nextOffset((double)availableWidth));
-            } else {
-                // RT-23458: Use a faster algorithm for the most common case
-                // where truncation happens at the end, i.e. for ELLIPSIS and
-                // CLIP, but not for other cases such as WORD_ELLIPSIS, etc.
-                if (style == ELLIPSIS && !new Bidi(text, Bidi.DIRECTION_LEFT_TO_RIGHT).isMixed()) {
-                    int hit = computeTruncationIndex(font, text, width - ellipsisWidth);
-                    if (hit < 0 || hit >= text.length()) {
-                        return text;
-                    } else {
-                        return text.substring(0, hit) + ellipsis;
-                    }
-                }
-
-                // simply total up the widths of all chars to determine how many
-                // will fit in the available space. Remember the last whitespace
-                // encountered so that if we're breaking on words we can trim
-                // and omit it.
-                double total = 0.0F;
-                int whitespaceIndex = -1;
-                // at the termination of the loop, index will be one past the
-                // end of the substring
-                int index = 0;
-                int start = (style == LEADING_ELLIPSIS || style == LEADING_WORD_ELLIPSIS) ? (text.length() - 1) : (0);
-                int end = (start == 0) ? (text.length() - 1) : 0;
-                int stepValue = (start == 0) ? 1 : -1;
-                boolean done = (start == 0) ? start > end : start < end;
-                for (int i = start; !done ; i += stepValue) {
-                    index = i;
-                    char c = text.charAt(index);
-                    total = computeTextWidth(font,
-                            (start == 0) ? text.substring(0, i + 1)
-                                    : text.substring(i, start + 1),
-                            0);
-                    if (Character.isWhitespace(c)) {
-                        whitespaceIndex = index;
-                    }
-                    if (total > availableWidth) {
-                        break;
-                    }
-                    done = start == 0? i >= end : i <= end;
-                }
-                final boolean fullTrim = !wordTrim || whitespaceIndex == -1;
-                substring = (start == 0) ?
-                        (text.substring(0, fullTrim ? index : whitespaceIndex)) :
-                        (text.substring((fullTrim ? index : whitespaceIndex) + 1));
-                assert(!text.equals(substring));
+            final boolean leading =
+                    (style == LEADING_ELLIPSIS || style == LEADING_WORD_ELLIPSIS);
+            int count = computeFittingCharCount(font, text, availableWidth, leading);
+            if (count >= length) {
+                return text;
             }
-            if (style == ELLIPSIS || style == WORD_ELLIPSIS) {
+            String substring;
+            if (!leading) {
+                // index is the first char that doesn't fit. For ellipsis that
+                // breaks on words, we do NOT want to include any hanging
+                // whitespace, so we trim on the last one (up to that char).
+                int index = count;
+                int whitespaceIndex = wordTrim ? lastWhitespaceIndex(text, index) : -1;
+                substring = text.substring(0, whitespaceIndex == -1 ? index : whitespaceIndex);
                 return substring + ellipsis;
             } else {
-                //style is LEADING_ELLIPSIS or LEADING_WORD_ELLIPSIS
+                int index = length - 1 - count;
+                int whitespaceIndex = wordTrim ? firstWhitespaceIndex(text, index) : -1;
+                substring = text.substring((whitespaceIndex == -1 ? index : whitespaceIndex) + 1);
                 return ellipsis + substring;
             }
         } else {
+            // either CENTER_ELLIPSIS or CENTER_WORD_ELLIPSIS
+            // The chars are read one on the left, then one on the end, then
+            // second on the left, then second from the end, etc until all the
+            // availableWidth is used up. At that point, the string is trimmed
+            // twice: once from the start to leadingIndex, and once from
+            // trailingIndex to the end, and the ellipsis is inserted between.
             // these two indexes are INCLUSIVE not exclusive
-            int leadingIndex = 0;
-            int trailingIndex = 0;
-            int leadingWhitespace = -1;
-            int trailingWhitespace = -1;
-            // The complex case is going to be killer. What I have to do is
-            // read all the chars from the left up to the leadingIndex,
-            // and all the chars from the right up to the trailingIndex,
-            // and sum those together to get my total. That is, I cannot have
-            // a running total but must retotal the cummulative chars each time
-            if (complexLayout) {
-            } else */
-/*            double leadingTotal = 0;
-               double trailingTotal = 0;
-               for (int i=0; i<text.length(); i++) {
-               double total = computeStringWidth(metrics, text.substring(0, i));
-               if (total + trailingTotal > availableWidth) break;
-               leadingIndex = i;
-               leadingTotal = total;
-               if (Character.isWhitespace(text.charAt(i))) leadingWhitespace = leadingIndex;
-
-               int index = text.length() - (i + 1);
-               total = computeStringWidth(metrics, text.substring(index - 1));
-               if (total + leadingTotal > availableWidth) break;
-               trailingIndex = index;
-               trailingTotal = total;
-               if (Character.isWhitespace(text.charAt(index))) trailingWhitespace = trailingIndex;
-               }*//*
-
-            {
-                // either CENTER_ELLIPSIS or CENTER_WORD_ELLIPSIS
-                // for this case I read one char on the left, then one on the end
-                // then second on the left, then second from the end, etc until
-                // I have used up all the availableWidth. At that point, I trim
-                // the string twice: once from the start to firstIndex, and
-                // once from secondIndex to the end. I then insert the ellipsis
-                // between the two.
-                leadingIndex = -1;
-                trailingIndex = -1;
-                double total = 0.0F;
-                for (int i = 0; i <= text.length() - 1; i++) {
-                    char c = text.charAt(i);
-                    //total += metrics.charWidth(c);
-                    total += computeTextWidth(font, "" + c, 0);
-                    if (total > availableWidth) {
-                        break;
-                    }
-                    leadingIndex = i;
-                    if (Character.isWhitespace(c)) {
-                        leadingWhitespace = leadingIndex;
-                    }
-                    int index = text.length() - 1 - i;
-                    c = text.charAt(index);
-                    //total += metrics.charWidth(c);
-                    total += computeTextWidth(font, "" + c, 0);
-                    if (total > availableWidth) {
-                        break;
-                    }
-                    trailingIndex = index;
-                    if (Character.isWhitespace(c)) {
-                        trailingWhitespace = trailingIndex;
-                    }
-                }
+            int count = computeFittingCenterCharCount(font, text, availableWidth);
+            if (count >= length) {
+                return text;
             }
+            int leadingIndex = (count + 1) / 2 - 1;
+            int trailingIndex = count / 2 > 0 ? length - count / 2 : -1;
             if (leadingIndex < 0) {
                 return ellipsis;
             }
@@ -289,6 +206,7 @@ public class Utils {
                 }
                 return text.substring(0, leadingIndex + 1) + ellipsis + text.substring(trailingIndex);
             } else {
+                int leadingWhitespace = lastWhitespaceIndex(text, leadingIndex);
                 boolean leadingIndexIsLastLetterInWord =
                         Character.isWhitespace(text.charAt(leadingIndex + 1));
                 int index = (leadingWhitespace == -1 || leadingIndexIsLastLetterInWord) ? (leadingIndex + 1) : (leadingWhitespace);
@@ -296,6 +214,7 @@ public class Utils {
                 if (trailingIndex < 0) {
                     return leading + ellipsis;
                 }
+                int trailingWhitespace = firstWhitespaceIndex(text, trailingIndex);
                 boolean trailingIndexIsFirstLetterInWord =
                         Character.isWhitespace(text.charAt(trailingIndex - 1));
                 index = (trailingWhitespace == -1 || trailingIndexIsFirstLetterInWord) ? (trailingIndex) : (trailingWhitespace + 1);
@@ -304,10 +223,28 @@ public class Utils {
             }
         }
     }
-*/
 
-/*
-    static String computeClippedWrappedText(Font font, String text, double width,
+    // Index of the last whitespace at or before index, or -1 if none
+    private static int lastWhitespaceIndex(String text, int index) {
+        for (int i = index; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Index of the first whitespace at or after index, or -1 if none
+    private static int firstWhitespaceIndex(String text, int index) {
+        for (int i = index; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static String computeClippedWrappedText(Font font, String text, double width,
                                             double height, OverrunStyle truncationStyle,
                                             String ellipsisString, TextBoundsType boundsType) {
         if (font == null) {
@@ -315,164 +252,61 @@ public class Utils {
         }
 
         String ellipsis = (truncationStyle == CLIP) ? "" : ellipsisString;
-        int eLen = ellipsis.length();
-        // Do this before using helper, as it's not reentrant.
-        double eWidth = computeTextWidth(font, ellipsis, 0);
-        double eHeight = computeTextHeight(font, ellipsis, 0, boundsType);
+        double eWidth = computeRenderedTextWidth(font, ellipsis);
+        double eHeight = computeRenderedTextHeight(font, ellipsis, 0);
 
         if (width < eWidth || height < eHeight) {
             // The ellipsis doesn't fit.
             return text; // RT-30868 - return text, not empty string.
         }
 
-        helper.setText(text);
-        helper.setFont(font);
-        helper.setWrappingWidth((int)Math.ceil(width));
-        helper.setBoundsType(boundsType);
-        helper.setLineSpacing(0);
+        if (text == null || text.isEmpty() || computeRenderedTextHeight(font, text, width) <= height) {
+            return text;
+        }
 
         boolean leading =  (truncationStyle == LEADING_ELLIPSIS ||
                 truncationStyle == LEADING_WORD_ELLIPSIS);
         boolean center =   (truncationStyle == CENTER_ELLIPSIS ||
                 truncationStyle == CENTER_WORD_ELLIPSIS);
-        boolean trailing = !(leading || center);
         boolean wordTrim = (truncationStyle == WORD_ELLIPSIS ||
                 truncationStyle == LEADING_WORD_ELLIPSIS ||
                 truncationStyle == CENTER_WORD_ELLIPSIS);
 
-        String result = text;
-        int len = (result != null) ? result.length() : 0;
-        int centerLen = -1;
-
-        Point2D centerPoint = null;
-        if (center) {
-            // Find index of character in the middle of the visual text area
-            centerPoint = new Point2D((width - eWidth) / 2, height / 2 - helper.getBaselineOffset());
-        }
-
-        // Find index of character at the bottom left of the text area.
-        // This should be the first character of a line that would be clipped.
-        Point2D endPoint = new Point2D(0, height - helper.getBaselineOffset());
-
-        int hit = helper.impl_hitTestChar(endPoint).getCharIndex();
-        if (hit >= len) {
-            helper.setBoundsType(TextBoundsType.LOGICAL); // restore
-            return text;
+        // WebFX: OpenJFX makes a truncation estimate with hit tests on the wrapped text layout, and then removes one
+        // char or word at a time until the text doesn't overflow anymore. Here the number of chars kept is found by
+        // binary search, each candidate being measured wrapped within the width like the rendered text.
+        int low = 0, high = text.length() - 1;
+        while (low < high) {
+            int count = (low + high + 1) >>> 1;
+            if (computeRenderedTextHeight(font, clipWrappedText(text, count, ellipsis, leading, center, false), width) <= height)
+                low = count;
+            else
+                high = count - 1;
         }
-        if (center) {
-            hit = helper.impl_hitTestChar(centerPoint).getCharIndex();
-        }
-
-        if (hit > 0 && hit < len) {
-            // Step one, make a truncation estimate.
-
-            if (center || trailing) {
-                int ind = hit;
-                if (center) {
-                    // This is for the first part, i.e. beginning of text up to ellipsis.
-                    if (wordTrim) {
-                        int brInd = lastBreakCharIndex(text, ind + 1);
-                        if (brInd >= 0) {
-                            ind = brInd + 1;
-                        } else {
-                            brInd = firstBreakCharIndex(text, ind);
-                            if (brInd >= 0) {
-                                ind = brInd + 1;
-                            }
-                        }
-                    }
-                    centerLen = ind + eLen;
-                } // else: text node wraps at words, so wordTrim is not needed here.
-                result = result.substring(0, ind) + ellipsis;
-            }
+        return clipWrappedText(text, low, ellipsis, leading, center, wordTrim);
+    }
 
-            if (leading || center) {
-                // The hit is an index counted from the beginning, but we need
-                // the opposite, i.e. an index counted from the end.  However,
-                // the Text node does not support wrapped line layout in the
-                // reverse direction, starting at the bottom right corner.
-
-                // We'll simulate by assuming the index will be a similar
-                // number, then back up 10 characters just to add some slop.
-                // For example, the ending lines might pack tighter than the
-                // beginning lines, and therefore fit a higher number of
-                // characters.
-                int ind = Math.max(0, len - hit - 10);
-                if (ind > 0 && wordTrim) {
-                    int brInd = lastBreakCharIndex(text, ind + 1);
-                    if (brInd >= 0) {
-                        ind = brInd + 1;
-                    } else {
-                        brInd = firstBreakCharIndex(text, ind);
-                        if (brInd >= 0) {
-                            ind = brInd + 1;
-                        }
-                    }
-                }
-                if (center) {
-                    // This is for the second part, i.e. from ellipsis to end of text.
-                    result = result + text.substring(ind);
-                } else {
-                    result = ellipsis + text.substring(ind);
+    // Returns the text with count chars kept (from the start, the end or both for the center) and the ellipsis
+    private static String clipWrappedText(String text, int count, String ellipsis, boolean leading, boolean center, boolean wordTrim) {
+        int len = text.length();
+        int leadingEnd = leading ? 0 : center ? (count + 1) / 2 : count;
+        int trailingStart = leading ? len - count : center ? len - count / 2 : len;
+        if (wordTrim) {
+            if (leadingEnd > 0 && leadingEnd < len) {
+                int brInd = lastBreakCharIndex(text, leadingEnd);
+                if (brInd >= 0) {
+                    leadingEnd = brInd;
                 }
             }
-
-            // Step two, check if text still overflows after we added the ellipsis.
-            // If so, remove one char or word at a time.
-            while (true) {
-                helper.setText(result);
-                int hit2 = helper.impl_hitTestChar(endPoint).getCharIndex();
-                if (center && hit2 < centerLen) {
-                    // No room for text after ellipsis. Maybe there is a newline
-                    // here, and the next line falls outside the view.
-                    if (hit2 > 0 && result.charAt(hit2-1) == '\n') {
-                        hit2--;
-                    }
-                    result = text.substring(0, hit2) + ellipsis;
-                    break;
-                } else if (hit2 > 0 && hit2 < result.length()) {
-                    if (leading) {
-                        int ind = eLen + 1; // Past ellipsis and first char.
-                        if (wordTrim) {
-                            int brInd = firstBreakCharIndex(result, ind);
-                            if (brInd >= 0) {
-                                ind = brInd + 1;
-                            }
-                        }
-                        result = ellipsis + result.substring(ind);
-                    } else if (center) {
-                        int ind = centerLen + 1; // Past ellipsis and first char.
-                        if (wordTrim) {
-                            int brInd = firstBreakCharIndex(result, ind);
-                            if (brInd >= 0) {
-                                ind = brInd + 1;
-                            }
-                        }
-                        result = result.substring(0, centerLen) + result.substring(ind);
-                    } else {
-                        int ind = result.length() - eLen - 1; // Before last char and ellipsis.
-                        if (wordTrim) {
-                            int brInd = lastBreakCharIndex(result, ind);
-                            if (brInd >= 0) {
-                                ind = brInd;
-                            }
-                        }
-                        result = result.substring(0, ind) + ellipsis;
-                    }
-                } else {
-                    break;
+            if (trailingStart < len && trailingStart > 0) {
+                int brInd = firstBreakCharIndex(text, trailingStart - 1);
+                if (brInd >= 0) {
+                    trailingStart = brInd + 1;
                 }
             }
         }
-        // RESTORE STATE
-        helper.setWrappingWidth(DEFAULT_WRAPPING_WIDTH);
-        helper.setLineSpacing(DEFAULT_LINE_SPACING);
-        helper.setText(DEFAULT_TEXT);
-        helper.setBoundsType(DEFAULT_BOUNDS_TYPE);
-        return result;
+        return text.substring(0, leadingEnd) + ellipsis + text.substring(trailingStart);
     }
-*/
-
 
     private static int firstBreakCharIndex(String str, int start) {
         char[] chars = str.toCharArray();
@@ -0,0 +1,52 @@
+package javafx.scene.control;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * An implementation of {@link Cell} which contains an index property which maps into the data model underlying the
+ * visualization. Typically, the cells are recycled by a {@link javafx.scene.control.skin.VirtualFlow} which calls
+ * {@link #updateIndex(int)} each time a cell is reused to represent another row.
+ *
+ * @author Bruno Salmon
+ */
+public class IndexedCell<T> extends Cell<T> {
+
+    private final IntegerProperty index = new SimpleIntegerProperty(this, "index", -1);
+
+    public IndexedCell() {
+        getStyleClass().addAll(DEFAULT_STYLE_CLASS);
+    }
+
+    public final ReadOnlyIntegerProperty indexProperty() {
+        return index;
+    }
+
+    public final int getIndex() {
+        return index.get();
+    }
+
+    /**
+     * Updates the index associated with this IndexedCell. This method is called by the virtual flow (and should not be
+     * called by developers) each time the cell is (re)used to represent another row. The {@link #indexChanged(int, int)}
+     * callback is always invoked, even if the index didn't change, so the cell can refresh its item.
+     *
+     * @param i The new index for this IndexedCell.
+     */
+    public void updateIndex(int i) {
+        int oldIndex = index.get();
+        index.set(i);
+        indexChanged(oldIndex, i);
+    }
+
+    /**
+     * This method is called whenever the index is changed, regardless of whether the new index is the same as the old
+     * index.
+     */
+    void indexChanged(int oldIndex, int newIndex) {
+    }
+
+    private static final String DEFAULT_STYLE_CLASS = "indexed-cell";
+
+}
@@ -0,0 +1,68 @@
+package javafx.scene.control;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.skin.ListCellSkin;
+
+/**
+ * The {@link Cell} type used within {@link ListView} instances. The ListView skin creates only the cells needed to
+ * fill the viewport and recycles them as the user scrolls, so a ListCell can be reused to represent any item of the
+ * list over time. Custom cells must therefore override {@link #updateItem(Object, boolean)} and not rely on any state
+ * from a previous item.
+ *
+ * @author Bruno Salmon
+ */
+public class ListCell<T> extends IndexedCell<T> {
+
+    private final ObjectProperty<ListView<T>> listView = new SimpleObjectProperty<>(this, "listView");
+
+    public ListCell() {
+        getStyleClass().addAll(DEFAULT_STYLE_CLASS);
+    }
+
+    public final ReadOnlyObjectProperty<ListView<T>> listViewProperty() {
+        return listView;
+    }
+
+    public final ListView<T> getListView() {
+        return listView.get();
+    }
+
+    /**
+     * Updates the ListView associated with this Cell.
+     *
+     * @param listView The new ListView that should be associated with this Cell.
+     */
+    public final void updateListView(ListView<T> listView) {
+        this.listView.set(listView);
+    }
+
+    @Override
+    void indexChanged(int oldIndex, int newIndex) {
+        updateItem(oldIndex);
+    }
+
+    private void updateItem(int oldIndex) {
+        ListView<T> lv = getListView();
+        ObservableList<T> items = lv == null ? null : lv.getItems();
+        int index = getIndex();
+        if (items != null && index >= 0 && index < items.size()) {
+            T oldItem = getItem();
+            T newItem = items.get(index);
+            // Skipping the (possibly costly) updateItem() call when the cell is reused for the same item
+            if (oldIndex != index || isEmpty() || isItemChanged(oldItem, newItem))
+                updateItem(newItem, false);
+        } else if (!isEmpty() || getItem() != null)
+            updateItem(null, true);
+    }
+
+    @Override
+    protected Skin<?> createDefaultSkin() {
+        return new ListCellSkin<>(this);
+    }
+
+    private static final String DEFAULT_STYLE_CLASS = "list-cell";
+
+}
@@ -0,0 +1,142 @@
+package javafx.scene.control;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.skin.ListViewSkin;
+import javafx.util.Callback;
+
+/**
+ * A ListView displays a vertical list of items. Unlike a VBox in a ScrollPane, it doesn't create one node per item:
+ * its skin relies on a {@link javafx.scene.control.skin.VirtualFlow} that creates only the cells necessary to fill the
+ * viewport (plus a small overscan), and recycles them while scrolling. So the number of nodes (and therefore of peers
+ * and DOM elements) stays constant whatever the number of items.
+ *
+ * The rows can have a fixed height (see {@link #fixedCellSizeProperty()}), which is the fastest option, or a variable
+ * height measured from each cell preferred height when it is displayed.
+ *
+ * Note: this emulation doesn't support selection, focus and editing yet.
+ *
+ * @author Bruno Salmon
+ */
+public class ListView<T> extends Control {
+
+    public ListView() {
+        this(FXCollections.observableArrayList());
+    }
+
+    public ListView(ObservableList<T> items) {
+        getStyleClass().setAll(DEFAULT_STYLE_CLASS);
+        setItems(items);
+    }
+
+    // --- items
+    private final ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>(this, "items");
+
+    public final ObjectProperty<ObservableList<T>> itemsProperty() {
+        return items;
+    }
+
+    public final void setItems(ObservableList<T> value) {
+        items.set(value);
+    }
+
+    public final ObservableList<T> getItems() {
+        return items.get();
+    }
+
+    // --- cell factory
+    private ObjectProperty<Callback<ListView<T>, ListCell<T>>> cellFactory;
+
+    public final ObjectProperty<Callback<ListView<T>, ListCell<T>>> cellFactoryProperty() {
+        if (cellFactory == null)
+            cellFactory = new SimpleObjectProperty<>(this, "cellFactory");
+        return cellFactory;
+    }
+
+    public final void setCellFactory(Callback<ListView<T>, ListCell<T>> value) {
+        cellFactoryProperty().set(value);
+    }
+
+    public final Callback<ListView<T>, ListCell<T>> getCellFactory() {
+        return cellFactory == null ? null : cellFactory.get();
+    }
+
+    // --- fixed cell size
+    private DoubleProperty fixedCellSize;
+
+    /**
+     * Specifies whether this ListView has a fixed cell size. A value greater than zero means that all the cells have
+     * this height, which allows the virtual flow to compute the visible range directly without measuring any cell.
+     * Otherwise (the default), the height of each cell is its preferred height.
+     */
+    public final DoubleProperty fixedCellSizeProperty() {
+        if (fixedCellSize == null)
+            fixedCellSize = new SimpleDoubleProperty(this, "fixedCellSize", USE_COMPUTED_SIZE);
+        return fixedCellSize;
+    }
+
+    public final void setFixedCellSize(double value) {
+        fixedCellSizeProperty().set(value);
+    }
+
+    public final double getFixedCellSize() {
+        return fixedCellSize == null ? USE_COMPUTED_SIZE : fixedCellSize.get();
+    }
+
+    // --- placeholder
+    private ObjectProperty<Node> placeholder;
+
+    public final ObjectProperty<Node> placeholderProperty() {
+        if (placeholder == null)
+            placeholder = new SimpleObjectProperty<>(this, "placeholder");
+        return placeholder;
+    }
+
+    public final void setPlaceholder(Node value) {
+        placeholderProperty().set(value);
+    }
+
+    public final Node getPlaceholder() {
+        return placeholder == null ? null : placeholder.get();
+    }
+
+    /**
+     * Scrolls the ListView so that the item at the given index is at the top of the viewport.
+     */
+    public void scrollTo(int index) {
+        Skin<?> skin = getSkin();
+        if (skin instanceof ListViewSkin)
+            ((ListViewSkin<?>) skin).scrollTo(index);
+    }
+
+    public void scrollTo(T object) {
+        ObservableList<T> items = getItems();
+        if (items != null) {
+            int index = items.indexOf(object);
+            if (index >= 0)
+                scrollTo(index);
+        }
+    }
+
+    /**
+     * Forces all the visible cells to be updated (ex: after a change in the items that is not reported by the list).
+     */
+    public void refresh() {
+        Skin<?> skin = getSkin();
+        if (skin instanceof ListViewSkin)
+            ((ListViewSkin<?>) skin).refresh();
+    }
+
+    @Override
+    protected Skin<?> createDefaultSkin() {
+        return new ListViewSkin<>(this);
+    }
+
+    private static final String DEFAULT_STYLE_CLASS = "list-view";
+
+}
@@ -3,9 +3,13 @@ package javafx.scene.control;
 import com.sun.javafx.scene.control.behavior.ScrollPaneBehavior;
 import com.sun.javafx.scene.control.skin.BehaviorSkinBase;
 import dev.webfx.kit.registry.javafxcontrols.JavaFxControlsRegistry;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.*;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
 import javafx.geometry.*;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 
 /**
  * @author Bruno Salmon
@@ -24,20 +28,15 @@ public class ScrollPane extends Control {
         setContent(content);
     }
 
+    // The content is scrolled natively (not through its layout position), so the scroll position is considered here
     @Override
-    protected void sceneToLocal(com.sun.javafx.geom.Point2D pt) {
-        super.sceneToLocal(pt);
-        Bounds viewportBounds = getViewportBounds();
-        pt.x += (/*cast to fix CodeQL implicit-cast-in-compound-assignment security issue*/float) viewportBounds.getMinX();
-        pt.y += (/*cast to fix CodeQL implicit-cast-in-compound-assignment security issue*/float) viewportBounds.getMinY();
+    protected double impl_getLocalToSceneOffsetX() {
+        return -getViewportBounds().getMinX();
     }
 
     @Override
-    protected void localToScene(com.sun.javafx.geom.Point2D pt) {
-        Bounds viewportBounds = getViewportBounds();
-        pt.x -= (/*cast to fix CodeQL implicit-cast-in-compound-assignment security issue*/float) viewportBounds.getMinX();
-        pt.y -= (/*cast to fix CodeQL implicit-cast-in-compound-assignment security issue*/float) viewportBounds.getMinY();
-        super.localToScene(pt);
+    protected double impl_getLocalToSceneOffsetY() {
+        return -getViewportBounds().getMinY();
     }
 
     private Property<ScrollBarPolicy> hbarPolicyProperty = new SimpleObjectProperty<>(ScrollBarPolicy.AS_NEEDED);
@@ -277,6 +276,126 @@ public class ScrollPane extends Control {
         fitToHeightProperty.set(fitHeight);
     }
 
+    /***************************************************************************
+     *                                                                         *
+     * Viewport culling (WebFX addition)                                       *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * When enabled, the direct children of the content that are out of the viewport (extended by the culling margin)
+     * are culled (see Node.impl_setCulled()), i.e. neither rendered nor picked, and they are restored as the scroll
+     * position changes. This makes the scrolling of long contents (ex: a VBox with thousands of rows) much lighter for
+     * the browser, while the JavaFX model stays unchanged. Disabled by default.
+     */
+    private BooleanProperty cullingEnabled;
+
+    public final BooleanProperty cullingEnabledProperty() {
+        if (cullingEnabled == null) {
+            cullingEnabled = new SimpleBooleanProperty(this, "cullingEnabled") {
+                @Override
+                protected void invalidated() {
+                    onCullingEnabledChanged();
+                }
+            };
+        }
+        return cullingEnabled;
+    }
+
+    public final boolean isCullingEnabled() {
+        return cullingEnabled != null && cullingEnabled.get();
+    }
+
+    public final void setCullingEnabled(boolean value) {
+        cullingEnabledProperty().set(value);
+    }
+
+    /**
+     * The distance (in pixels) around the viewport in which the children are still rendered, so they are already there
+     * when scrolled into view. Default value is 200.
+     */
+    private DoubleProperty cullingMargin;
+
+    public final DoubleProperty cullingMarginProperty() {
+        if (cullingMargin == null) {
+            cullingMargin = new SimpleDoubleProperty(this, "cullingMargin", 200) {
+                @Override
+                protected void invalidated() {
+                    updateCulling();
+                }
+            };
+        }
+        return cullingMargin;
+    }
+
+    public final double getCullingMargin() {
+        return cullingMargin == null ? 200 : cullingMargin.get();
+    }
+
+    public final void setCullingMargin(double value) {
+        cullingMarginProperty().set(value);
+    }
+
+    private Parent culledContent; // the content whose children are currently observed for the culling
+    private final InvalidationListener cullingInvalidationListener = observable -> updateCulling();
+    // Updating the culling once the content has been laid out (the children may have moved or been added)
+    private final ChangeListener<Boolean> culledContentLayoutListener = (observable, oldValue, needsLayout) -> {
+        if (!needsLayout)
+            updateCulling();
+    };
+    // Removed children are restored, as they may be reused elsewhere
+    private final ListChangeListener<Node> culledChildrenListener = c -> {
+        while (c.next())
+            if (c.wasRemoved())
+                for (Node child : c.getRemoved())
+                    child.impl_setCulled(false);
+    };
+
+    private void onCullingEnabledChanged() {
+        if (isCullingEnabled()) {
+            contentProperty().addListener(cullingInvalidationListener);
+            viewportBoundsProperty().addListener(cullingInvalidationListener);
+        } else {
+            contentProperty().removeListener(cullingInvalidationListener);
+            viewportBoundsProperty().removeListener(cullingInvalidationListener);
+        }
+        updateCulling();
+    }
+
+    private void updateCulling() {
+        Node content = getContent();
+        Parent parent = isCullingEnabled() && content instanceof Parent ? (Parent) content : null;
+        if (parent != culledContent) {
+            if (culledContent != null) {
+                culledContent.getChildrenUnmodifiable().removeListener(culledChildrenListener);
+                culledContent.needsLayoutProperty().removeListener(culledContentLayoutListener);
+                for (Node child : culledContent.getChildrenUnmodifiable())
+                    child.impl_setCulled(false);
+            }
+            culledContent = parent;
+            if (parent != null) {
+                parent.getChildrenUnmodifiable().addListener(culledChildrenListener);
+                parent.needsLayoutProperty().addListener(culledContentLayoutListener);
+            }
+        }
+        Bounds vb = getViewportBounds();
+        if (parent == null || vb.getWidth() <= 0 || vb.getHeight() <= 0) // viewport not yet initialised by the peer
+            return;
+        // The viewport (as scrolled by the peer) expressed in the content coordinates, and extended by the margin
+        double margin = getCullingMargin();
+        double minX = vb.getMinX() - parent.getLayoutX() - parent.getTranslateX() - margin;
+        double minY = vb.getMinY() - parent.getLayoutY() - parent.getTranslateY() - margin;
+        double maxX = minX + vb.getWidth() + 2 * margin;
+        double maxY = minY + vb.getHeight() + 2 * margin;
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            // Bounds in parent, ignoring the possible scale & rotate of the child (not expected in long contents)
+            Bounds lb = child.getLayoutBounds();
+            double x = child.getLayoutX() + child.getTranslateX() + lb.getMinX();
+            double y = child.getLayoutY() + child.getTranslateY() + lb.getMinY();
+            child.impl_setCulled(x + lb.getWidth() < minX || x > maxX || y + lb.getHeight() < minY || y > maxY);
+        }
+    }
+
     @Override
     protected void layoutChildren() {
         boolean fitToWidth = isFitToWidth(), fitToHeight = isFitToHeight();
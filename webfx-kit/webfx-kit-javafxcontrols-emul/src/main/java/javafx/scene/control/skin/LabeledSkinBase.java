@@ -4,7 +4,7 @@ import com.sun.javafx.scene.control.LabeledText;
 import com.sun.javafx.scene.control.behavior.BehaviorBase;
 import com.sun.javafx.scene.control.skin.BehaviorSkinBase;
 import com.sun.javafx.scene.control.skin.Utils;
-import dev.webfx.kit.util.properties.FXProperties;
+import com.sun.javafx.scene.text.TextNodeMetrics;
 import dev.webfx.platform.util.Strings;
 import javafx.geometry.HPos;
 import javafx.geometry.Orientation;
@@ -17,11 +17,8 @@ import javafx.scene.control.OverrunStyle;
 import javafx.scene.image.ImageView;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 import javafx.scene.text.TextBoundsType;
 
-import java.util.Objects;
-
 import static javafx.scene.control.ContentDisplay.*;
 import static javafx.scene.control.OverrunStyle.CLIP;
 
@@ -32,8 +29,7 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
      *  for the sake of testing!
      */
     LabeledText text;
-    final Text noWrappingText = new Text(); { noWrappingText.setVisible(false); } // WebFX addition (to remove if possible)
-    private double noWrappingTextWidth;
+    private double noWrappingTextWidth; // WebFX addition
 
     /**
      * Indicates that the text content is invalid and needs to be updated.
@@ -578,14 +574,14 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
             if (labeled.getContentDisplay() == GRAPHIC_ONLY) {
                 getChildren().clear();
             } else {
-                getChildren().setAll(noWrappingText, text);
+                getChildren().setAll(text);
             }
         } else {
             //graphic.layoutBoundsProperty().addListener(graphicPropertyChangedListener);
             if (isIgnoreText()) {
                 getChildren().setAll(graphic);
             } else {
-                getChildren().setAll(graphic, noWrappingText, text);
+                getChildren().setAll(graphic, text);
             }
 
             // RT-37420
@@ -696,43 +692,27 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
         // Alternative WebFX code:
         if (Strings.isEmpty(text))
             return 0;
-        /*if (wrappingWidth <= 0) // Commented because it doesn't include the extra space around the text like in the html node
-            return WebFxKitLauncher.measureText(text, font).getWidth();*/
-        double textWidth = getTextToMeasure(font, text, wrappingWidth).prefWidth(-1);
-        if (wrappingWidth == 0)
-            noWrappingTextWidth = textWidth;
-        return textWidth;
+        // The text is measured off-scene as rendered by a Text node (shared element per font), so no hidden Text node is
+        // needed in each labeled. The same source is used on a single line and wrapped, so the wrapping decision (see
+        // noWrappingTextWidth in updateWrappingWidth()) and the preferred sizes are consistent with the rendered text.
+        // Note: this.text is not used, as constantly changing its wrappingWidth between 0 and the actual value set by
+        // the application would create an infinite loop in the layout pass.
+        double noWrapWidth = TextNodeMetrics.computeTextWidth(font, text, 0);
+        if (wrappingWidth <= 0)
+            return noWrappingTextWidth = noWrapWidth;
+        if (wrappingWidth >= noWrapWidth) // The text will stay on 1 line
+            return noWrapWidth;
+        return TextNodeMetrics.computeTextWidth(font, text, wrappingWidth);
     }
 
     private double computeTextHeight(Font font, String text, double wrappingWidth, double lineSpacing, TextBoundsType boundsType) {
         //return Utils.computeTextHeight(font, text, wrappingWidth, lineSpacing, boundsType); // Not supported by WebFX
-        // Alternative WebFX code:
-        /*if (wrappingWidth <= 0 || Strings.isEmpty(text)) // Commented because it doesn't include the extra space around the text like in the html node
-            return WebFxKitLauncher.measureText(text, font).getHeight();*/
-        return getTextToMeasure(font, text, wrappingWidth).prefHeight(-1);
-    }
-
-    private Text getTextToMeasure(Font font, String text, double wrappingWidth) { // WebFX code
-        Text textToMesure;
-        // Using noWrappingText (and not this.text) in case of computation with no wrappingWidth (which happens each
-        // time JavaFX computes the label min and pref widths), because if we were using this.text, this constant
-        // changing of wrappingWidth (between 0 and the actual value set by the application) would create an infinite
-        // loop in the layout pass (not blocking loop but very time-consuming on each animation frame)
-        if (wrappingWidth <= 0) {
-            textToMesure = noWrappingText;
-            textToMesure.setFont(font);
-            //textToMesure.setTextAlignment(getSkinnable().getTextAlignment());
-            // Reusing also noWrappingText if the passed wrapping width is greater (=> for sure text will stay on 1 line) and text & font identical
-        } else if (noWrappingTextWidth > 0 && wrappingWidth >= noWrappingTextWidth && Objects.equals(noWrappingText.getText(), text) && Objects.equals(noWrappingText.getFont(), font)) {
-            textToMesure = noWrappingText;
-        } else { // Otherwise using this.text to measure and apply wrapping width & text to it (should be final values to apply for html mapping)
-            textToMesure = this.text;
-            //textToMesure.setFont(font); // already bound in LabeledText
-            //textToMesure.setLineSpacing(lineSpacing) // already bound in LabeledText
-            textToMesure.setWrappingWidth(wrappingWidth);
-        }
-        FXProperties.setIfNotEquals(textToMesure.textProperty(), text);
-        return textToMesure;
+        // Alternative WebFX code (same source as computeTextWidth()):
+        if (Strings.isEmpty(text)) // An empty text still has the height of one line (but not the HTML element)
+            text = "W";
+        if (wrappingWidth <= 0 || wrappingWidth >= TextNodeMetrics.computeTextWidth(font, text, 0)) // Single line (or only explicit new lines)
+            wrappingWidth = 0;
+        return TextNodeMetrics.computeTextHeight(font, text, wrappingWidth, lineSpacing);
     }
 
     @Override protected double computeMinHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
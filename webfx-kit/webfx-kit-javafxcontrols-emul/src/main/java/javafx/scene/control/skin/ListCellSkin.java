@@ -0,0 +1,48 @@
+package javafx.scene.control.skin;
+
+import com.sun.javafx.scene.control.behavior.BehaviorBase;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+
+import java.util.Collections;
+
+/**
+ * Default skin implementation for the {@link ListCell} control.
+ *
+ * @author Bruno Salmon
+ */
+public class ListCellSkin<T> extends CellSkinBase<ListCell<T>, BehaviorBase<ListCell<T>>> {
+
+    public ListCellSkin(ListCell<T> control) {
+        super(control, new BehaviorBase<>(control, Collections.emptyList()));
+    }
+
+    @Override
+    protected double computePrefHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        double fixedCellSize = getFixedCellSize();
+        if (fixedCellSize > 0)
+            return fixedCellSize;
+        return super.computePrefHeight(width, topInset, rightInset, bottomInset, leftInset);
+    }
+
+    @Override
+    protected double computeMinHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        double fixedCellSize = getFixedCellSize();
+        if (fixedCellSize > 0)
+            return fixedCellSize;
+        return super.computeMinHeight(width, topInset, rightInset, bottomInset, leftInset);
+    }
+
+    @Override
+    protected double computeMaxHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        double fixedCellSize = getFixedCellSize();
+        if (fixedCellSize > 0)
+            return fixedCellSize;
+        return super.computeMaxHeight(width, topInset, rightInset, bottomInset, leftInset);
+    }
+
+    private double getFixedCellSize() {
+        ListView<T> listView = getSkinnable().getListView();
+        return listView == null ? -1 : listView.getFixedCellSize();
+    }
+}
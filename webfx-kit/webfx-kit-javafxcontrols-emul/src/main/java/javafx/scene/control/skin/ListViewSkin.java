@@ -0,0 +1,106 @@
+package javafx.scene.control.skin;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SkinBase;
+import javafx.util.Callback;
+
+/**
+ * Default skin implementation for the {@link ListView} control. The cells are managed by a {@link VirtualFlow}, so
+ * only the visible ones are created and they are recycled as the list scrolls.
+ *
+ * @author Bruno Salmon
+ */
+public class ListViewSkin<T> extends SkinBase<ListView<T>> {
+
+    private final VirtualFlow<ListCell<T>> flow = new VirtualFlow<>();
+    private ObservableList<T> listViewItems;
+    private final ListChangeListener<T> itemsListener = c -> onItemsChanged();
+
+    public ListViewSkin(ListView<T> control) {
+        super(control);
+        flow.fixedCellSizeProperty().bind(control.fixedCellSizeProperty());
+        flow.setCellFactory(f -> createCell());
+        registerChangeListener(control.cellFactoryProperty(), e -> flow.recreateCells());
+        registerChangeListener(control.itemsProperty(), e -> updateListViewItems());
+        registerChangeListener(control.placeholderProperty(), e -> updatePlaceholder());
+        updateListViewItems();
+    }
+
+    public void scrollTo(int index) {
+        flow.scrollTo(index);
+    }
+
+    public void refresh() {
+        flow.refresh();
+    }
+
+    private ListCell<T> createCell() {
+        ListView<T> listView = getSkinnable();
+        Callback<ListView<T>, ListCell<T>> cellFactory = listView.getCellFactory();
+        ListCell<T> cell = cellFactory != null ? cellFactory.call(listView) : createDefaultCellImpl();
+        cell.updateListView(listView);
+        return cell;
+    }
+
+    private static <T> ListCell<T> createDefaultCellImpl() {
+        return new ListCell<T>() {
+            @Override
+            protected void updateItem(T item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                    setGraphic(null);
+                } else if (item instanceof Node) {
+                    setText(null);
+                    setGraphic((Node) item);
+                } else {
+                    setText(item.toString());
+                    setGraphic(null);
+                }
+            }
+        };
+    }
+
+    private void updateListViewItems() {
+        if (listViewItems != null)
+            listViewItems.removeListener(itemsListener);
+        listViewItems = getSkinnable().getItems();
+        if (listViewItems != null)
+            listViewItems.addListener(itemsListener);
+        onItemsChanged();
+    }
+
+    private void onItemsChanged() {
+        flow.setCellCount(listViewItems == null ? 0 : listViewItems.size());
+        // Even if the count didn't change (ex: replaced items), the visible cells must check their item
+        flow.requestCellsUpdate();
+        updatePlaceholder();
+    }
+
+    private void updatePlaceholder() {
+        Node placeholder = getSkinnable().getPlaceholder();
+        Node child = placeholder != null && flow.getCellCount() == 0 ? placeholder : flow;
+        if (getChildren().size() != 1 || getChildren().get(0) != child)
+            getChildren().setAll(child);
+    }
+
+    @Override
+    protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return 250; // Same default as OpenJFX (which doesn't measure the cells either)
+    }
+
+    @Override
+    protected double computePrefHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return 400; // Same default as OpenJFX
+    }
+
+    @Override
+    protected void layoutChildren(double contentX, double contentY, double contentWidth, double contentHeight) {
+        for (Node child : getChildren())
+            child.resizeRelocate(contentX, contentY, contentWidth, contentHeight);
+    }
+}
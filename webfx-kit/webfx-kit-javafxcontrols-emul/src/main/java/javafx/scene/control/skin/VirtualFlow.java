@@ -0,0 +1,455 @@
+package javafx.scene.control.skin;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.Bounds;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.Region;
+import javafx.util.Callback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Virtualized container of cells, used by ListView. Only the cells covering the viewport (plus a small overscan above
+ * and below) are created and kept in the scene graph; as the viewport scrolls, the cells that move out of it are
+ * recycled to represent the rows that move in (through {@link IndexedCell#updateIndex(int)}). So the number of cells,
+ * and therefore of peers and DOM elements, depends only on the viewport height and not on the cell count.
+ *
+ * The scrolling itself is delegated to a ScrollPane (which is mapped to a native scrollable element in the browser)
+ * whose content is a sheet sized to the total height of the rows. With a fixed cell size, the rows offsets are simply
+ * computed from their index. Otherwise, the height of each row is measured the first time its cell is displayed, and
+ * the rows not yet measured are estimated with the average height of the measured ones.
+ *
+ * @author Bruno Salmon
+ */
+public class VirtualFlow<T extends IndexedCell> extends Region {
+
+    // Number of extra cells laid out above and below the viewport, so that small scrolls don't reveal empty areas
+    private static final int OVERSCAN_CELL_COUNT = 2;
+
+    private final ScrollPane scrollPane = new ScrollPane();
+    private final Sheet sheet = new Sheet();
+    // The cells currently laid out, in index order (i.e. covering a contiguous range of rows)
+    private final List<T> cells = new ArrayList<>();
+    // The cells created but not used at the moment (they stay hidden in the sheet to avoid DOM insertions & removals)
+    private final List<T> pile = new ArrayList<>();
+    // Variable cell size management (not used with a fixed cell size)
+    private double[] cellHeights = new double[0]; // measured height of each row, 0 if not yet measured
+    private double[] cellOffsets; // y position of each row (+ total height at the end), computed from cellHeights
+    private double measuredHeightsSum;
+    private int measuredCellCount;
+    private double totalHeight;
+    private boolean cellsIndexDirty, forceCellsUpdate;
+    private double lastViewportTop = -1, lastViewportHeight = -1, lastWidth = -1;
+
+    public VirtualFlow() {
+        getStyleClass().add("virtual-flow");
+        scrollPane.setFitToWidth(true);
+        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
+        scrollPane.setContent(sheet);
+        getChildren().add(scrollPane);
+        // Relaying out the cells (but only this flow, the size of its ancestors is not affected) on scroll
+        scrollPane.viewportBoundsProperty().addListener((observable, oldValue, viewportBounds) -> {
+            if (viewportBounds.getMinY() != lastViewportTop || viewportBounds.getHeight() != lastViewportHeight)
+                setNeedsLayout(true);
+        });
+    }
+
+    // --- cell factory
+    private final ObjectProperty<Callback<VirtualFlow<T>, T>> cellFactory = new SimpleObjectProperty<Callback<VirtualFlow<T>, T>>(this, "cellFactory") {
+        @Override
+        protected void invalidated() {
+            recreateCells();
+        }
+    };
+
+    public final ObjectProperty<Callback<VirtualFlow<T>, T>> cellFactoryProperty() {
+        return cellFactory;
+    }
+
+    public final void setCellFactory(Callback<VirtualFlow<T>, T> value) {
+        cellFactory.set(value);
+    }
+
+    public final Callback<VirtualFlow<T>, T> getCellFactory() {
+        return cellFactory.get();
+    }
+
+    // --- cell count
+    private final IntegerProperty cellCount = new SimpleIntegerProperty(this, "cellCount", 0) {
+        @Override
+        protected void invalidated() {
+            onCellCountChanged();
+        }
+    };
+
+    public final IntegerProperty cellCountProperty() {
+        return cellCount;
+    }
+
+    public final void setCellCount(int value) {
+        cellCount.set(value);
+    }
+
+    public final int getCellCount() {
+        return cellCount.get();
+    }
+
+    // --- fixed cell size
+    private final DoubleProperty fixedCellSize = new SimpleDoubleProperty(this, "fixedCellSize", USE_COMPUTED_SIZE) {
+        @Override
+        protected void invalidated() {
+            cellOffsets = null;
+            requestLayout();
+        }
+    };
+
+    public final DoubleProperty fixedCellSizeProperty() {
+        return fixedCellSize;
+    }
+
+    public final void setFixedCellSize(double value) {
+        fixedCellSize.set(value);
+    }
+
+    public final double getFixedCellSize() {
+        return fixedCellSize.get();
+    }
+
+    private boolean isFixedCellSize() {
+        return getFixedCellSize() > 0;
+    }
+
+    /**
+     * Requests the visible cells to be updated with their index on next layout pass. This should be called when the
+     * underlying items have changed, the cells will decide if they actually need to be updated.
+     */
+    public void requestCellsUpdate() {
+        cellsIndexDirty = true;
+        requestLayout();
+    }
+
+    /**
+     * Forces all the visible cells to be updated on next layout pass, even if their item didn't change.
+     */
+    public void refresh() {
+        forceCellsUpdate = true;
+        requestCellsUpdate();
+    }
+
+    /**
+     * Discards all the cells (ex: after the cell factory changed). They will be recreated on next layout pass.
+     */
+    public void recreateCells() {
+        cells.clear();
+        pile.clear();
+        sheet.getChildren().clear();
+        requestLayout();
+    }
+
+    /**
+     * Scrolls the flow so that the row at the given index is at the top of the viewport.
+     */
+    public void scrollTo(int index) {
+        int n = getCellCount();
+        if (n == 0)
+            return;
+        double offset = getCellOffset(Math.max(0, Math.min(index, n - 1)));
+        double scrollableHeight = getTotalHeight() - scrollPane.getHeight();
+        double vmin = scrollPane.getVmin(), vmax = scrollPane.getVmax();
+        double vvalue = scrollableHeight <= 0 ? vmin : vmin + Math.min(1, offset / scrollableHeight) * (vmax - vmin);
+        scrollPane.setVvalue(vvalue);
+    }
+
+    /**
+     * @return the first cell displayed (even partially) in the viewport, or null if there is no cell.
+     */
+    public T getFirstVisibleCell() {
+        for (T cell : cells)
+            if (cell.getLayoutY() + cell.getHeight() > lastViewportTop)
+                return cell;
+        return null;
+    }
+
+    /**
+     * @return the last cell displayed (even partially) in the viewport, or null if there is no cell.
+     */
+    public T getLastVisibleCell() {
+        double viewportBottom = lastViewportTop + lastViewportHeight;
+        for (int i = cells.size() - 1; i >= 0; i--) {
+            T cell = cells.get(i);
+            if (cell.getLayoutY() < viewportBottom)
+                return cell;
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of cells created so far (i.e. laid out + recycled ones), which doesn't depend on the cell count.
+     */
+    public int getCreatedCellCount() {
+        return cells.size() + pile.size();
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return snappedLeftInset() + sheet.prefWidth(-1) + snappedRightInset();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return snappedTopInset() + getTotalHeight() + snappedBottomInset();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double x = snappedLeftInset(), y = snappedTopInset();
+        double width = getWidth() - x - snappedRightInset();
+        double height = getHeight() - y - snappedBottomInset();
+        scrollPane.resizeRelocate(x, y, width, height);
+        // The cells are laid out here rather than in the sheet, so the sheet height is up-to-date when the scroll pane
+        // is laid out just after (in the same layout pass)
+        layoutCells(width, height);
+    }
+
+    private void layoutCells(double width, double viewportHeight) {
+        Bounds viewportBounds = scrollPane.getViewportBounds();
+        double viewportTop = Math.max(0, viewportBounds.getMinY());
+        if (viewportBounds.getHeight() > 0)
+            viewportHeight = viewportBounds.getHeight();
+        lastViewportTop = viewportTop;
+        lastViewportHeight = viewportHeight;
+        boolean widthChanged = width != lastWidth;
+        lastWidth = width;
+        if (widthChanged && !isFixedCellSize()) // the rows heights may depend on the width (ex: wrapped text)
+            resetCellHeights();
+        int n = getCellCount();
+        double previousTotalHeight = getTotalHeight();
+        // The cells laid out in the previous pass will be reused in priority for the same rows
+        OldCells oldCells = new OldCells(cells);
+        cells.clear();
+        if (forceCellsUpdate) {
+            for (T cell : oldCells.cells)
+                cell.updateIndex(-1);
+        }
+        if (n > 0 && viewportHeight > 0) {
+            double viewportBottom = viewportTop + viewportHeight;
+            int firstIndex = Math.max(0, getCellIndexAt(viewportTop) - OVERSCAN_CELL_COUNT);
+            int lastVisibleIndex = -1;
+            double cellY = getCellOffset(firstIndex);
+            for (int i = firstIndex; i < n; i++) {
+                T cell = oldCells.take(i);
+                if (cell == null) {
+                    cell = oldCells.steal(firstIndex);
+                    if (cell == null)
+                        cell = pile.isEmpty() ? createCell() : pile.remove(pile.size() - 1);
+                    cell.setVisible(true);
+                    cell.updateIndex(i);
+                } else if (cellsIndexDirty || forceCellsUpdate)
+                    cell.updateIndex(i);
+                double cellHeight = isFixedCellSize() ? getFixedCellSize() : measureCellHeight(i, cell, width);
+                cell.resizeRelocate(0, cellY, width, cellHeight);
+                cells.add(cell);
+                cellY += cellHeight;
+                if (lastVisibleIndex == -1 && cellY >= viewportBottom)
+                    lastVisibleIndex = i;
+                if (lastVisibleIndex != -1 && i >= lastVisibleIndex + OVERSCAN_CELL_COUNT)
+                    break;
+            }
+        }
+        // Recycling the cells not reused in this pass
+        for (T cell : oldCells.remaining()) {
+            cell.setVisible(false);
+            pile.add(cell);
+        }
+        cellsIndexDirty = forceCellsUpdate = false;
+        // If the measured heights changed the total height, the sheet needs to be resized by the scroll pane
+        if (getTotalHeight() != previousTotalHeight)
+            sheet.requestLayout();
+    }
+
+    private T createCell() {
+        Callback<VirtualFlow<T>, T> factory = getCellFactory();
+        T cell = factory.call(this);
+        sheet.getChildren().add(cell);
+        return cell;
+    }
+
+    private double measureCellHeight(int index, T cell, double width) {
+        double cellHeight = cell.prefHeight(width);
+        double knownHeight = cellHeights[index];
+        if (cellHeight != knownHeight) {
+            if (knownHeight == 0)
+                measuredCellCount++;
+            measuredHeightsSum += cellHeight - knownHeight;
+            cellHeights[index] = cellHeight;
+            cellOffsets = null;
+        }
+        return cellHeight;
+    }
+
+    private void onCellCountChanged() {
+        int n = getCellCount();
+        if (n != cellHeights.length) {
+            // Note: the heights are kept by index, so they may not match the items after an insertion or removal in
+            // the middle of the list, but they will be corrected when the cells are displayed again.
+            double[] newCellHeights = Arrays.copyOf(cellHeights, n);
+            for (int i = n; i < cellHeights.length; i++) {
+                if (cellHeights[i] > 0) {
+                    measuredCellCount--;
+                    measuredHeightsSum -= cellHeights[i];
+                }
+            }
+            cellHeights = newCellHeights;
+        }
+        cellOffsets = null;
+        requestCellsUpdate();
+    }
+
+    private void resetCellHeights() {
+        Arrays.fill(cellHeights, 0);
+        measuredHeightsSum = 0;
+        measuredCellCount = 0;
+        cellOffsets = null;
+    }
+
+    private double getEstimatedCellHeight() {
+        return measuredCellCount > 0 ? measuredHeightsSum / measuredCellCount : CellSkinBase.DEFAULT_CELL_SIZE;
+    }
+
+    private void computeCellOffsetsIfNecessary() {
+        if (cellOffsets == null) {
+            int n = getCellCount();
+            double estimatedCellHeight = getEstimatedCellHeight();
+            double[] offsets = new double[n + 1];
+            double y = 0;
+            for (int i = 0; i < n; i++) {
+                offsets[i] = y;
+                double h = cellHeights[i];
+                y += h > 0 ? h : estimatedCellHeight;
+            }
+            offsets[n] = totalHeight = y;
+            cellOffsets = offsets;
+        }
+    }
+
+    private double getTotalHeight() {
+        if (isFixedCellSize())
+            return getCellCount() * getFixedCellSize();
+        computeCellOffsetsIfNecessary();
+        return totalHeight;
+    }
+
+    private double getCellOffset(int index) {
+        if (isFixedCellSize())
+            return index * getFixedCellSize();
+        computeCellOffsetsIfNecessary();
+        return cellOffsets[index];
+    }
+
+    private int getCellIndexAt(double y) {
+        int n = getCellCount();
+        if (isFixedCellSize())
+            return Math.min(n - 1, (int) (y / getFixedCellSize()));
+        computeCellOffsetsIfNecessary();
+        // Binary search of the last row starting at or before y
+        int low = 0, high = n - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (cellOffsets[mid] <= y)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * The cells laid out in the previous pass, which are first reused for the same rows, and then for other rows.
+     */
+    private final class OldCells {
+        private final List<T> cells;
+        private final int firstIndex;
+        private int low, high; // range of the cells not yet taken
+
+        OldCells(List<T> cells) {
+            this.cells = new ArrayList<>(cells);
+            firstIndex = cells.isEmpty() ? 0 : cells.get(0).getIndex();
+            low = 0;
+            high = cells.size() - 1;
+        }
+
+        T take(int index) {
+            int k = index - firstIndex;
+            if (k < low || k > high)
+                return null;
+            T cell = cells.get(k);
+            if (cell == null || cell.getIndex() != index)
+                return null;
+            cells.set(k, null);
+            return cell;
+        }
+
+        // Returns a cell not yet taken that will very probably not be needed in this pass, i.e. either a cell above the
+        // new first row, or a cell at the end of the previous range.
+        T steal(int newFirstIndex) {
+            while (low <= high && cells.get(low) == null)
+                low++;
+            while (high >= low && cells.get(high) == null)
+                high--;
+            if (low > high)
+                return null;
+            T cell = cells.get(low);
+            if (cell.getIndex() < newFirstIndex) {
+                cells.set(low++, null);
+                return cell;
+            }
+            cell = cells.get(high);
+            cells.set(high--, null);
+            return cell;
+        }
+
+        List<T> remaining() {
+            List<T> remaining = new ArrayList<>();
+            for (T cell : cells)
+                if (cell != null)
+                    remaining.add(cell);
+            return remaining;
+        }
+    }
+
+    /**
+     * The scroll pane content, sized to the total height of the rows. The cells are positioned by the flow.
+     */
+    private final class Sheet extends Region {
+
+        Sheet() {
+            getStyleClass().add("sheet");
+        }
+
+        @Override
+        protected double computePrefWidth(double height) {
+            double prefWidth = 0;
+            for (T cell : cells)
+                prefWidth = Math.max(prefWidth, cell.prefWidth(-1));
+            return prefWidth;
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            return getTotalHeight();
+        }
+
+        @Override
+        protected void layoutChildren() {
+            // Already done by the flow
+        }
+    }
+}
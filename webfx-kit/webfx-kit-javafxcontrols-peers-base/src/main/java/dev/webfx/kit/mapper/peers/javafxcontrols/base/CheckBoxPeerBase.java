@@ -1,6 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
-import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import javafx.scene.control.CheckBox;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -20,10 +20,8 @@ public class CheckBoxPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        CheckBox c = getNode();
-        return super.updateProperty(changedProperty)
-                || updateProperty(c.selectedProperty(), changedProperty, mixin::updateSelected)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(CheckBox::selectedProperty, (m, p) -> m.updateSelected(p));
     }
 }
@@ -1,6 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
-import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import javafx.scene.control.Labeled;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -27,15 +27,14 @@ public abstract class LabeledPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.fontProperty(), changedProperty, mixin::updateFont)
-                || updateProperty(node.textAlignmentProperty(), changedProperty, mixin::updateTextAlignment)
-                || updateProperty(node.textFillProperty(), changedProperty, mixin::updateTextFill)
-                || updateProperty(node.graphicProperty(), changedProperty, mixin::updateGraphic)
-                || updateProperty(node.textProperty(), changedProperty, mixin::updateText)
-                || updateProperty(node.wrapTextProperty(), changedProperty, mixin::updateWrapText)
-                || updateProperty(node.lineSpacingProperty(), changedProperty, mixin::updateLineSpacing)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Labeled::fontProperty, (m, p) -> m.updateFont(p));
+        updaters.add(Labeled::textAlignmentProperty, (m, p) -> m.updateTextAlignment(p));
+        updaters.add(Labeled::textFillProperty, (m, p) -> m.updateTextFill(p));
+        updaters.add(Labeled::graphicProperty, (m, p) -> m.updateGraphic(p));
+        updaters.add(Labeled::textProperty, (m, p) -> m.updateText(p));
+        updaters.add(Labeled::wrapTextProperty, (m, p) -> m.updateWrapText(p));
+        updaters.add(Labeled::lineSpacingProperty, (m, p) -> m.updateLineSpacing(p));
     }
 }
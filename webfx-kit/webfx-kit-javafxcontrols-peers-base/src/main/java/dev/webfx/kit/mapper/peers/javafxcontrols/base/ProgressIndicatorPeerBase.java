@@ -1,7 +1,7 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
-import javafx.beans.value.ObservableValue;
 import javafx.scene.control.ProgressIndicator;
 
 /**
@@ -21,9 +21,8 @@ public abstract class ProgressIndicatorPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.progressProperty(), changedProperty, mixin::updateProgress)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(ProgressIndicator::progressProperty, (m, p) -> m.updateProgress(p));
     }
 }
@@ -1,6 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
-import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import javafx.scene.control.ScrollPane;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.RegionPeerBase;
@@ -29,17 +29,16 @@ public class ScrollPanePeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.hbarPolicyProperty(), changedProperty, mixin::updateHbarPolicy)
-                || updateProperty(node.vbarPolicyProperty(), changedProperty, mixin::updateVbarPolicy)
-                || updateProperty(node.hvalueProperty(), changedProperty, mixin::updateHvalue)
-                || updateProperty(node.vvalueProperty(), changedProperty, mixin::updateVvalue)
-                || updateProperty(node.hminProperty(), changedProperty, mixin::updateHmin)
-                || updateProperty(node.hmaxProperty(), changedProperty, mixin::updateHmax)
-                || updateProperty(node.vminProperty(), changedProperty, mixin::updateVmin)
-                || updateProperty(node.vmaxProperty(), changedProperty, mixin::updateVmax)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(ScrollPane::hbarPolicyProperty, (m, p) -> m.updateHbarPolicy(p));
+        updaters.add(ScrollPane::vbarPolicyProperty, (m, p) -> m.updateVbarPolicy(p));
+        updaters.add(ScrollPane::hvalueProperty, (m, p) -> m.updateHvalue(p));
+        updaters.add(ScrollPane::vvalueProperty, (m, p) -> m.updateVvalue(p));
+        updaters.add(ScrollPane::hminProperty, (m, p) -> m.updateHmin(p));
+        updaters.add(ScrollPane::hmaxProperty, (m, p) -> m.updateHmax(p));
+        updaters.add(ScrollPane::vminProperty, (m, p) -> m.updateVmin(p));
+        updaters.add(ScrollPane::vmaxProperty, (m, p) -> m.updateVmax(p));
     }
 
 }
@@ -1,6 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
-import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import javafx.scene.control.Slider;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -24,13 +24,11 @@ public class SliderPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N s = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(s.minProperty(), changedProperty, mixin::updateMin)
-                || updateProperty(s.maxProperty(), changedProperty, mixin::updateMax)
-                || updateProperty(s.valueProperty(), changedProperty, mixin::updateValue)
-                || updateProperty(s.orientationProperty(), changedProperty, mixin::updateOrientation)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Slider::minProperty, (m, p) -> m.updateMin(p));
+        updaters.add(Slider::maxProperty, (m, p) -> m.updateMax(p));
+        updaters.add(Slider::valueProperty, (m, p) -> m.updateValue(p));
+        updaters.add(Slider::orientationProperty, (m, p) -> m.updateOrientation(p));
     }
 }
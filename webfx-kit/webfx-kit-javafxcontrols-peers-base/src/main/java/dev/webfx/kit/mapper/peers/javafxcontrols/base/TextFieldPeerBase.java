@@ -1,6 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
-import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import javafx.scene.control.TextField;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -21,10 +21,9 @@ public class TextFieldPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.alignmentProperty(), changedProperty, mixin::updateAlignment)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(TextField::alignmentProperty, (m, p) -> m.updateAlignment(p));
     }
 
 }
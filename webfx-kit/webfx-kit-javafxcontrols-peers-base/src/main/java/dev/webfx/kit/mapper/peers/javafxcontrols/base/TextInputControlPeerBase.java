@@ -1,6 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
-import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import javafx.scene.control.TextInputControl;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -24,12 +24,11 @@ public abstract class TextInputControlPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.fontProperty(), changedProperty, mixin::updateFont)
-                || updateProperty(node.textProperty(), changedProperty, mixin::updateText)
-                || updateProperty(node.promptTextProperty(), changedProperty, mixin::updatePromptText)
-                || updateProperty(node.editableProperty(), changedProperty, mixin::updateEditable)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(TextInputControl::fontProperty, (m, p) -> m.updateFont(p));
+        updaters.add(TextInputControl::textProperty, (m, p) -> m.updateText(p));
+        updaters.add(TextInputControl::promptTextProperty, (m, p) -> m.updatePromptText(p));
+        updaters.add(TextInputControl::editableProperty, (m, p) -> m.updateEditable(p));
     }
 }
@@ -1,6 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxcontrols.base;
 
-import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import javafx.scene.control.ToggleButton;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -20,10 +20,8 @@ public class ToggleButtonPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N tb = getNode();
-        return super.updateProperty(changedProperty)
-                || updateProperty(tb.selectedProperty(), changedProperty, mixin::updateSelected)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(ToggleButton::selectedProperty, (m, p) -> m.updateSelected(p));
     }
 }
@@ -7,9 +7,9 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.HtmlRegionPeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlLayoutMeasurable;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
 import dev.webfx.kit.util.properties.FXProperties;
-import dev.webfx.platform.uischeduler.UiScheduler;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
+import javafx.animation.FrameTiming;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
@@ -47,7 +47,15 @@ public final class HtmlScrollPanePeer
         // scene = null until 2) => scene reestablished, but Perfect scrollbar lost its state when removed from the DOM.
         // This listener will trigger a schedule update at 2) which will restore the perfect scrollbar state (scrollTop
         // & scrollLeft will be reapplied).
-        FXProperties.runOnPropertiesChange(this::scheduleUpdate, node.sceneProperty());
+        getNodePeerBase().addUnregisterable(FXProperties.runOnPropertiesChange(this::scheduleUpdate, node.sceneProperty()));
+    }
+
+    @Override
+    public void unbind() {
+        N node = getNode();
+        if (node != null)
+            node.setOnChildrenLayout(null); // so that the node doesn't retain this peer anymore
+        super.unbind();
     }
 
     private double scrollTop, scrollLeft;
@@ -149,7 +157,8 @@ public final class HtmlScrollPanePeer
     private void scheduleUpdate() {
         if (!pending) {
             pending = true;
-            UiScheduler.scheduleDeferred(() -> {
+            // The scrollbars update is low-priority work that can be postponed if the animations need the frame time
+            FrameTiming.scheduleLowPriority(() -> {
                 Element psContainer = getChildrenContainer();
                 if (!psInitialized) {
                     N node = getNode();
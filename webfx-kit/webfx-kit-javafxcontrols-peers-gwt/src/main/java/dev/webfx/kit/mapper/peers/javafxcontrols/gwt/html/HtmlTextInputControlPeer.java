@@ -48,7 +48,7 @@ public abstract class HtmlTextInputControlPeer
     @Override
     public void bind(N node, SceneRequester sceneRequester) {
         super.bind(node, sceneRequester);
-        FXProperties.runNowAndOnPropertiesChange(() -> onSceneChanged(node.getScene()), node.sceneProperty());
+        getNodePeerBase().addUnregisterable(FXProperties.runNowAndOnPropertiesChange(() -> onSceneChanged(node.getScene()), node.sceneProperty()));
     }
 
     private static final Set<Scene> FOCUS_LISTENER_SCENES = new HashSet<>();
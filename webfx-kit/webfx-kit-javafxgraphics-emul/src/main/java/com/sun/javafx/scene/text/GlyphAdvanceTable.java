@@ -0,0 +1,131 @@
+package com.sun.javafx.scene.text;
+
+import dev.webfx.kit.launcher.WebFxKitLauncher;
+import dev.webfx.kit.launcher.spi.impl.base.LruCache;
+import javafx.collections.ListChangeListener;
+import javafx.scene.text.Font;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Glyph advances of a font (WebFX addition). Each character is measured only once through the platform (canvas in the
+ * browser), and then the text widths are computed in pure Java by summing the advances. The advances of the Latin-1
+ * characters are stored in a compact array, and the other characters in a map. Kerning and ligatures are ignored, which
+ * is usually not significant for UI texts.
+ * <p>
+ * The tables are kept per font in a bounded LRU cache, which is cleared when a font has finished loading (as the
+ * measurements made before were done with a fallback font).
+ *
+ * @author Bruno Salmon
+ */
+public final class GlyphAdvanceTable {
+
+    private static final int MAX_TABLES = 64;
+    private static final int LATIN_SIZE = 256;
+
+    private static int generation; // incremented on each clear(), so the layouts know their table is obsolete
+
+    private static final LruCache<Font, GlyphAdvanceTable> TABLES = new LruCache<>(MAX_TABLES);
+
+    static {
+        Font.getLoadingFonts().addListener((ListChangeListener<Font>) c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    clear();
+                    return;
+                }
+            }
+        });
+    }
+
+    private final Font font;
+    private final float[] latinAdvances = new float[LATIN_SIZE]; // NaN = not yet measured
+    private Map<Character, Float> otherAdvances;
+    private double lineHeight = -1;
+
+    private GlyphAdvanceTable(Font font) {
+        this.font = font;
+        Arrays.fill(latinAdvances, Float.NaN);
+    }
+
+    public static GlyphAdvanceTable forFont(Font font) {
+        if (font == null)
+            font = Font.getDefault();
+        GlyphAdvanceTable table = TABLES.get(font);
+        if (table == null)
+            TABLES.put(font, table = new GlyphAdvanceTable(font));
+        return table;
+    }
+
+    public static void clear() {
+        TABLES.clear();
+        generation++;
+    }
+
+    static int getGeneration() {
+        return generation;
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    public float getAdvance(char c) {
+        if (c == '\n' || c == '\r')
+            return 0;
+        if (c < LATIN_SIZE) {
+            float advance = latinAdvances[c];
+            if (Float.isNaN(advance))
+                latinAdvances[c] = advance = measureAdvance(c);
+            return advance;
+        }
+        if (otherAdvances == null)
+            otherAdvances = new HashMap<>();
+        Float advance = otherAdvances.get(c);
+        if (advance == null)
+            otherAdvances.put(c, advance = measureAdvance(c));
+        return advance;
+    }
+
+    // Presets the advance of a character instead of measuring it through the platform (ex: fixed metrics in tests)
+    void setAdvance(char c, float advance) {
+        if (c < LATIN_SIZE)
+            latinAdvances[c] = advance;
+        else {
+            if (otherAdvances == null)
+                otherAdvances = new HashMap<>();
+            otherAdvances.put(c, advance);
+        }
+    }
+
+    void setLineHeight(double lineHeight) {
+        this.lineHeight = lineHeight;
+    }
+
+    private float measureAdvance(char c) {
+        return (float) WebFxKitLauncher.measureText(String.valueOf(c), font).getWidth();
+    }
+
+    public double getTextWidth(CharSequence text, int start, int end) {
+        double width = 0;
+        for (int i = start; i < end; i++)
+            width += getAdvance(text.charAt(i));
+        return width;
+    }
+
+    public double getTextWidth(CharSequence text) {
+        return text == null ? 0 : getTextWidth(text, 0, text.length());
+    }
+
+    public double getLineHeight() {
+        if (lineHeight < 0)
+            lineHeight = WebFxKitLauncher.measureLineHeight(font);
+        return lineHeight;
+    }
+
+    public double getBaselineOffset() {
+        return font.getBaselineOffset();
+    }
+}
@@ -0,0 +1,233 @@
+package com.sun.javafx.scene.text;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.RectBounds;
+import javafx.scene.text.Font;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Pure Java implementation of TextLayout (WebFX addition) for single span texts, based on the glyph advances of the
+ * font (see {@link GlyphAdvanceTable}). It computes the line breaks (on new lines, and on white spaces when a wrap
+ * width is set), the text bounds, the truncation index and the character hit by a point, without any DOM access, so
+ * the controls skins can measure texts as in OpenJFX. The coordinates are relative to the baseline of the first line,
+ * as for a Text node with the default text origin.
+ * <p>
+ * Not supported (so far): bidi & complex scripts, tabs expansion, and the vertical centering of BOUNDS_CENTER.
+ *
+ * @author Bruno Salmon
+ */
+public final class GlyphTextLayout implements TextLayout {
+
+    private String text = "";
+    private Font font;
+    private float wrapWidth;
+    private float lineSpacing;
+    private int boundsType;
+
+    // Computed layout (invalidated on any change)
+    private GlyphAdvanceTable table;
+    private int tableGeneration; // the table is looked up again after GlyphAdvanceTable.clear() (ex: font loaded)
+    private float[] prefixWidths; // prefixWidths[i] = width of the first i characters
+    private int lineCount;
+    private int[] lineStarts = new int[4];
+    private int[] lineEnds = new int[4]; // exclusive, including the trailing white spaces but not the new line
+    private float[] lineWidths = new float[4]; // not including the trailing white spaces of the wrapped lines
+    private boolean layoutValid;
+
+    @Override
+    public boolean setContent(String string, Object font) {
+        if (string == null)
+            string = "";
+        if (string.equals(text) && Objects.equals(font, this.font))
+            return false;
+        text = string;
+        this.font = (Font) font;
+        layoutValid = false;
+        table = null;
+        return true;
+    }
+
+    @Override
+    public boolean setWrapWidth(float wrapWidth) {
+        if (Float.isNaN(wrapWidth) || wrapWidth < 0)
+            wrapWidth = 0;
+        if (wrapWidth == this.wrapWidth)
+            return false;
+        this.wrapWidth = wrapWidth;
+        layoutValid = false;
+        return true;
+    }
+
+    @Override
+    public boolean setLineSpacing(float spacing) {
+        if (spacing == lineSpacing)
+            return false;
+        lineSpacing = spacing;
+        return true;
+    }
+
+    @Override
+    public boolean setBoundsType(int type) {
+        type &= BOUNDS_MASK;
+        if (type == boundsType)
+            return false;
+        boundsType = type;
+        return true;
+    }
+
+    @Override
+    public BaseBounds getBounds() {
+        ensureLayout();
+        float width = 0;
+        for (int i = 0; i < lineCount; i++)
+            width = Math.max(width, lineWidths[i]);
+        float minY = (float) -table.getBaselineOffset();
+        return new RectBounds(0, minY, width, minY + (float) getHeight());
+    }
+
+    public double getHeight() {
+        ensureLayout();
+        return lineCount * getLineHeight() + (lineCount - 1) * lineSpacing;
+    }
+
+    public double getLineHeight() {
+        ensureTable();
+        return table.getLineHeight();
+    }
+
+    public int getLineCount() {
+        ensureLayout();
+        return lineCount;
+    }
+
+    public int getLineStart(int line) {
+        ensureLayout();
+        return lineStarts[line];
+    }
+
+    public int getLineEnd(int line) {
+        ensureLayout();
+        return lineEnds[line];
+    }
+
+    public double getLineWidth(int line) {
+        ensureLayout();
+        return lineWidths[line];
+    }
+
+    /**
+     * @return the number of characters of the first line that fit entirely in the passed width (found by binary search)
+     */
+    public int getTruncationIndex(double width) {
+        ensureLayout();
+        return fitEnd(lineStarts[0], lineEnds[0], width);
+    }
+
+    /**
+     * @return the index of the character hit by the point (relative to the first line baseline), or the text length if
+     * the point is after the last line
+     */
+    public int hitTestChar(double x, double y) {
+        ensureLayout();
+        int line = (int) Math.floor((y + table.getBaselineOffset()) / (getLineHeight() + lineSpacing));
+        if (line < 0)
+            line = 0;
+        else if (line >= lineCount)
+            return text.length();
+        int start = lineStarts[line], end = lineEnds[line];
+        if (x <= 0)
+            return start;
+        int index = fitEnd(start, end, x); // the character hit is the first one that doesn't fit entirely
+        return index < end ? index : line < lineCount - 1 ? end : text.length();
+    }
+
+    private void ensureTable() {
+        int generation = GlyphAdvanceTable.getGeneration();
+        if (table == null || tableGeneration != generation) {
+            table = GlyphAdvanceTable.forFont(font);
+            tableGeneration = generation;
+            layoutValid = false; // The advances may have changed
+        }
+    }
+
+    private void ensureLayout() {
+        ensureTable();
+        if (layoutValid)
+            return;
+        int n = text.length();
+        if (prefixWidths == null || prefixWidths.length < n + 1)
+            prefixWidths = new float[n + 1];
+        for (int i = 0; i < n; i++)
+            prefixWidths[i + 1] = prefixWidths[i] + table.getAdvance(text.charAt(i));
+        lineCount = 0;
+        int paragraphStart = 0;
+        while (true) {
+            int paragraphEnd = text.indexOf('\n', paragraphStart);
+            if (paragraphEnd < 0)
+                paragraphEnd = n;
+            int lineStart = paragraphStart;
+            do {
+                int lineEnd = wrapWidth > 0 ? wrapLine(lineStart, paragraphEnd) : paragraphEnd;
+                int visibleEnd = lineEnd;
+                if (lineEnd < paragraphEnd) // Wrapped line => the trailing white spaces are not visible
+                    while (visibleEnd > lineStart && Character.isWhitespace(text.charAt(visibleEnd - 1)))
+                        visibleEnd--;
+                addLine(lineStart, lineEnd, prefixWidths[visibleEnd] - prefixWidths[lineStart]);
+                lineStart = lineEnd;
+            } while (lineStart < paragraphEnd);
+            if (paragraphEnd >= n)
+                break;
+            paragraphStart = paragraphEnd + 1;
+        }
+        layoutValid = true;
+    }
+
+    // Returns the end of the line starting at lineStart, breaking after the last white space that fits in the wrap
+    // width (or inside the word if it is longer than the wrap width).
+    private int wrapLine(int lineStart, int paragraphEnd) {
+        int fitEnd = fitEnd(lineStart, paragraphEnd, wrapWidth);
+        if (fitEnd >= paragraphEnd)
+            return paragraphEnd;
+        int lineEnd = -1;
+        for (int i = fitEnd; i > lineStart; i--)
+            if (Character.isWhitespace(text.charAt(i))) {
+                lineEnd = i + 1;
+                break;
+            }
+        if (lineEnd < 0) // No white space => the word is broken (with at least one character per line)
+            return Math.max(fitEnd, lineStart + 1);
+        // The white spaces following the break stay on that line (they are not visible)
+        while (lineEnd < paragraphEnd && Character.isWhitespace(text.charAt(lineEnd)))
+            lineEnd++;
+        return lineEnd;
+    }
+
+    // Returns the greatest index i in [start, end] such that the characters from start to i fit in the width
+    private int fitEnd(int start, int end, double width) {
+        double limit = prefixWidths[start] + width;
+        int low = start, high = end;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (prefixWidths[middle] <= limit)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+        return low;
+    }
+
+    private void addLine(int start, int end, float width) {
+        if (lineCount == lineStarts.length) {
+            int capacity = lineCount * 2;
+            lineStarts = Arrays.copyOf(lineStarts, capacity);
+            lineEnds = Arrays.copyOf(lineEnds, capacity);
+            lineWidths = Arrays.copyOf(lineWidths, capacity);
+        }
+        lineStarts[lineCount] = start;
+        lineEnds[lineCount] = end;
+        lineWidths[lineCount] = width;
+        lineCount++;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sun.javafx.scene.text;
+
+import dev.webfx.kit.launcher.WebFxKitLauncher;
+import javafx.scene.text.Font;
+
+/**
+ * Off-scene measurement of the texts as they are rendered by a Text node (WebFX addition). The toolkit measures them
+ * with a shared element per font (in the browser), so no hidden measuring Text node is needed in the scene graph. Unlike
+ * the glyph advances (see {@link GlyphTextLayout}), these measures include the extra space around the text in the
+ * rendered element, so they must be used when the result is compared to the actual Text node (ex: labels preferred
+ * size and wrapping decision).
+ *
+ * @author Bruno Salmon
+ */
+public final class TextNodeMetrics {
+
+    public static double computeTextWidth(Font font, String text, double wrappingWidth) {
+        return WebFxKitLauncher.measureTextNode(text, font, wrappingWidth, 0).getWidth();
+    }
+
+    public static double computeTextHeight(Font font, String text, double wrappingWidth, double lineSpacing) {
+        return WebFxKitLauncher.measureTextNode(text, font, wrappingWidth, lineSpacing).getHeight();
+    }
+}
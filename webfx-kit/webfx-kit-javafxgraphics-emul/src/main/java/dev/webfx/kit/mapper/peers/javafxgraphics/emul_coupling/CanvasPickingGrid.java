@@ -0,0 +1,162 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid of the nodes scene bounds, used by CanvasScenePeer to pick nodes without walking the whole scene graph.
+ * Each grid cell keeps the nodes whose bounds overlap it, sorted by decreasing z-order (i.e. the order in which they
+ * must be tested for picking), so the candidates under the pointer are directly available.
+ *
+ * @author Bruno Salmon
+ */
+final class CanvasPickingGrid {
+
+    private static final double CELL_SIZE = 64;
+
+    private final Map<Node, Entry> entries = new HashMap<>();
+    private List<Entry>[] cells;
+    private int colCount, rowCount;
+    private double width, height;
+    private int nonIndexableNodeCount;
+
+    void reset(double width, double height) {
+        this.width = width;
+        this.height = height;
+        colCount = Math.max(1, (int) Math.ceil(width / CELL_SIZE));
+        rowCount = Math.max(1, (int) Math.ceil(height / CELL_SIZE));
+        cells = new List[colCount * rowCount];
+        entries.clear();
+        nonIndexableNodeCount = 0;
+    }
+
+    boolean hasSize(double width, double height) {
+        return cells != null && this.width == width && this.height == height;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // Returns true if there are nodes whose bounds couldn't be computed (ex: non-invertible transforms)
+    boolean hasNonIndexableNodes() {
+        return nonIndexableNodeCount > 0;
+    }
+
+    void put(Node node, int zOrder, Bounds sceneBounds) {
+        Entry entry = entries.get(node);
+        if (entry == null)
+            entries.put(node, entry = new Entry(node, zOrder));
+        else
+            removeFromCells(entry);
+        entry.zOrder = zOrder;
+        addToCells(entry, sceneBounds);
+    }
+
+    void updateBounds(Node node, Bounds sceneBounds) {
+        Entry entry = entries.get(node);
+        if (entry != null) {
+            removeFromCells(entry);
+            addToCells(entry, sceneBounds);
+        }
+    }
+
+    boolean contains(double x, double y) {
+        return cells != null && x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    List<Node> getCandidates(double x, double y) {
+        List<Entry> cell = cells[cellIndex(col(x), row(y))];
+        if (cell == null)
+            return Collections.emptyList();
+        List<Node> candidates = new ArrayList<>(cell.size());
+        for (Entry entry : cell)
+            candidates.add(entry.node);
+        return candidates;
+    }
+
+    private void addToCells(Entry entry, Bounds b) {
+        if (b == null || b.isEmpty()) {
+            entry.minCol = -1; // Not in any cell (can't be picked)
+            return;
+        }
+        if (isNotFinite(b.getMinX()) || isNotFinite(b.getMinY()) || isNotFinite(b.getMaxX()) || isNotFinite(b.getMaxY())) {
+            entry.minCol = -1;
+            entry.nonIndexable = true;
+            nonIndexableNodeCount++;
+            return;
+        }
+        entry.minCol = col(b.getMinX());
+        entry.minRow = row(b.getMinY());
+        entry.maxCol = col(b.getMaxX());
+        entry.maxRow = row(b.getMaxY());
+        for (int row = entry.minRow; row <= entry.maxRow; row++)
+            for (int col = entry.minCol; col <= entry.maxCol; col++) {
+                int index = cellIndex(col, row);
+                List<Entry> cell = cells[index];
+                if (cell == null)
+                    cells[index] = cell = new ArrayList<>();
+                cell.add(insertionIndex(cell, entry.zOrder), entry);
+            }
+    }
+
+    private void removeFromCells(Entry entry) {
+        if (entry.nonIndexable) {
+            entry.nonIndexable = false;
+            nonIndexableNodeCount--;
+        }
+        if (entry.minCol < 0)
+            return;
+        for (int row = entry.minRow; row <= entry.maxRow; row++)
+            for (int col = entry.minCol; col <= entry.maxCol; col++)
+                cells[cellIndex(col, row)].remove(entry);
+        entry.minCol = -1;
+    }
+
+    // Binary search of the insertion index that keeps the cell sorted by decreasing z-order
+    private static int insertionIndex(List<Entry> cell, int zOrder) {
+        int low = 0, high = cell.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cell.get(mid).zOrder > zOrder)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private int col(double x) {
+        return Math.max(0, Math.min(colCount - 1, (int) (x / CELL_SIZE)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rowCount - 1, (int) (y / CELL_SIZE)));
+    }
+
+    private int cellIndex(int col, int row) {
+        return row * colCount + col;
+    }
+
+    private static boolean isNotFinite(double v) {
+        return Double.isNaN(v) || Double.isInfinite(v);
+    }
+
+    private static final class Entry {
+        private final Node node;
+        private int zOrder;
+        private int minCol = -1, minRow, maxCol, maxRow;
+        private boolean nonIndexable;
+
+        private Entry(Node node, int zOrder) {
+            this.node = node;
+            this.zOrder = zOrder;
+        }
+    }
+}
@@ -2,16 +2,50 @@ package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
 
 import com.sun.javafx.geom.Point2D;
 import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.base.ScenePeerBase;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.effect.BoxBlur;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.effect.InnerShadow;
 import javafx.scene.input.PickResult;
+import javafx.scene.shape.Shape;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
+ * Base class of the scene peers that paint the whole scene graph into a single canvas.
+ *
+ * To avoid repainting the whole scene each time a single node changes (ex: a blinking caret or a moving sprite), this
+ * peer keeps track of the nodes whose properties changed since the last paint, and of the scene bounds of each node
+ * subtree. On repaint, the old and new bounds of the changed nodes are merged into a few damage rectangles, and only
+ * these rectangles are cleared and repainted, with only the nodes intersecting them. The subtree bounds include the
+ * extent of the effects (shadows, blurs) and are restricted by the clips, and a change inside a node with an effect
+ * damages the whole area of that node (as the effect is computed from all its content). A full repaint still happens
+ * when the damage area exceeds a fraction of the scene area (see {@link #setFullRepaintThreshold(double)}), when the
+ * subclass doesn't support the clipping of the canvas context (see {@link #clipCanvasContext}, implemented by
+ * {@link GraphicsContextCanvasScenePeer}), or when the subclass calls {@link #paintCanvas(Object)} directly.
+ *
+ * Subclasses should call {@link #repaintCanvas(Object)} when processing the repaint requested by
+ * {@link #requestCanvasRepaint()}.
+ *
+ * Picking walks the whole scene graph by default. Optionally (see {@link #setSpatialPickingEnabled(boolean)}, enabled by
+ * {@link GraphicsContextCanvasScenePeer}), the nodes scene bounds can be indexed in a uniform grid maintained
+ * incrementally from the node changes, so that only the nodes under the pointer are tested. The picking falls back to
+ * the scene graph walk when some nodes bounds can't be indexed.
+ *
  * @author Bruno Salmon
  */
 public abstract class CanvasScenePeer
@@ -19,6 +53,27 @@ public abstract class CanvasScenePeer
 
         extends ScenePeerBase {
 
+    // Maximal number of damage rectangles, beyond which the closest ones are merged together
+    private static final int MAX_DAMAGE_RECT_COUNT = 8;
+    // Extra margin around the nodes bounds for antialiasing
+    private static final double DAMAGE_MARGIN = 2;
+
+    // Scene bounds of each node subtree (i.e. the node + its descendants) as they were on last paint
+    private final Map<Node, Bounds> paintedSubtreeBounds = new HashMap<>();
+    // Nodes owning the clips (a clip is not a child, so it has no parent)
+    private final Map<Node, Node> clipOwners = new HashMap<>();
+    private final Set<Node> dirtyNodes = new LinkedHashSet<>();
+    // Last painted bounds of the subtrees removed from the scene graph since the last paint
+    private final List<Bounds> detachedBounds = new ArrayList<>();
+    private final List<Bounds> damageRects = new ArrayList<>();
+    private boolean fullRepaintRequired = true;
+    private double fullRepaintThreshold = 0.5;
+    private long fullRepaintCount, partialRepaintCount;
+    // Optional spatial index for picking
+    private CanvasPickingGrid pickingGrid;
+    private final Set<Node> pickingDirtyNodes = new LinkedHashSet<>();
+    private boolean pickingStructureChanged;
+
     public CanvasScenePeer(Scene scene) {
         super(scene);
     }
@@ -26,18 +81,123 @@ public abstract class CanvasScenePeer
     @Override
     public void updateParentAndChildrenPeers(Parent parent, ListChangeListener.Change<? extends Node> childrenChange) {
         scene.updateChildrenPeers(parent.getChildren());
-        requestCanvasRepaint();
+        // The removed children are forgotten (but their old area will be repainted), and the new children bounds will
+        // be included in the parent subtree new bounds
+        if (childrenChange != null) {
+            while (childrenChange.next())
+                for (Node child : childrenChange.getRemoved())
+                    if (child.getParent() != parent) // otherwise it's just moved within the parent
+                        forgetSubtree(child);
+            childrenChange.reset();
+        }
+        markNodeDirty(parent);
+        // The z-order of the nodes may have changed, so the picking grid will be rebuilt
+        pickingStructureChanged = true;
     }
 
     @Override
     public void onPropertyHit() {
+        requestFullCanvasRepaint();
+        pickingStructureChanged = true;
+    }
+
+    @Override
+    public void onNodePropertyHit(Node node, ObservableValue changedProperty) {
+        markNodeDirty(node);
+    }
+
+    private void markNodeDirty(Node node) {
+        if (!fullRepaintRequired)
+            dirtyNodes.add(node);
+        if (pickingGrid != null)
+            pickingDirtyNodes.add(node);
+        requestCanvasRepaint();
+    }
+
+    public void requestFullCanvasRepaint() {
+        fullRepaintRequired = true;
+        dirtyNodes.clear();
+        detachedBounds.clear();
         requestCanvasRepaint();
     }
 
+    private void forgetSubtree(Node node) {
+        Bounds bounds = paintedSubtreeBounds.remove(node);
+        if (bounds != null && !fullRepaintRequired)
+            detachedBounds.add(bounds);
+        Node clip = node.getClip();
+        if (clip != null)
+            clipOwners.remove(clip);
+        if (node instanceof Parent)
+            for (Node child : ((Parent) node).getChildren())
+                forgetSubtree(child);
+    }
+
+    /**
+     * Sets the ratio of the scene area beyond which the damage rectangles are not repainted individually, but the
+     * whole scene is repainted instead (which is faster in this case). Default value is 0.5.
+     */
+    public void setFullRepaintThreshold(double fullRepaintThreshold) {
+        this.fullRepaintThreshold = fullRepaintThreshold;
+    }
+
+    public double getFullRepaintThreshold() {
+        return fullRepaintThreshold;
+    }
+
+    public long getFullRepaintCount() {
+        return fullRepaintCount;
+    }
+
+    public long getPartialRepaintCount() {
+        return partialRepaintCount;
+    }
+
+    /**
+     * Repaints what has changed since the last paint: either the damage rectangles only, or the whole scene.
+     */
+    public void repaintCanvas(CC canvasContext) {
+        if (!fullRepaintRequired)
+            computeDamageRects();
+        Parent root = scene.getRoot();
+        if (!fullRepaintRequired && root != null) { // Note: no damage means that the changes are not visible
+            for (int i = 0; i < damageRects.size(); i++) {
+                Bounds damageRect = damageRects.get(i);
+                CC clippedCanvasContext = createCanvasContext(canvasContext);
+                if (!clipCanvasContext(clippedCanvasContext, damageRect.getMinX(), damageRect.getMinY(), damageRect.getWidth(), damageRect.getHeight())) {
+                    disposeCanvasContext(clippedCanvasContext);
+                    fullRepaintRequired = true; // Clipping not supported (known from the first rectangle)
+                    break;
+                }
+                clearCanvasArea(clippedCanvasContext, damageRect.getMinX(), damageRect.getMinY(), damageRect.getWidth(), damageRect.getHeight());
+                paintNode(root, clippedCanvasContext, damageRect);
+                disposeCanvasContext(clippedCanvasContext);
+            }
+        }
+        if (fullRepaintRequired) {
+            clearCanvasArea(canvasContext, 0, 0, scene.getWidth(), scene.getHeight());
+            paintCanvas(canvasContext);
+            return;
+        }
+        dirtyNodes.clear();
+        damageRects.clear();
+        partialRepaintCount++;
+    }
+
     public void paintCanvas(CC canvasContext) {
         Parent root = scene.getRoot();
-        if (root != null)
+        if (root != null) {
             paintNode(root, canvasContext);
+            // Recording the painted bounds of the whole scene graph for the next partial repaints
+            paintedSubtreeBounds.clear();
+            clipOwners.clear();
+            computeSubtreeBounds(root);
+        }
+        dirtyNodes.clear();
+        detachedBounds.clear();
+        damageRects.clear();
+        fullRepaintRequired = false;
+        fullRepaintCount++;
     }
 
     private void paintNodes(Collection<Node> nodes, CC canvasContext) {
@@ -46,12 +206,27 @@ public abstract class CanvasScenePeer
     }
 
     public void paintNode(Node node, CC canvasContext) {
-        if (node.isVisible()) {
+        paintNode(node, canvasContext, null);
+    }
+
+    private void paintNode(Node node, CC canvasContext, Bounds damageRect) {
+        if (node.isVisible() && !node.impl_isCulled()) {
+            if (damageRect != null) {
+                Bounds subtreeBounds = paintedSubtreeBounds.get(node);
+                // Skipping the whole subtree if it doesn't intersect the damage rectangle
+                if (subtreeBounds != null && !subtreeBounds.intersects(damageRect))
+                    return;
+            }
             NB peer = (NB) scene.getOrCreateAndBindNodePeer(node);
             CC nodeCanvasContext = createCanvasContext(canvasContext);
             paintNodeView(peer, nodeCanvasContext);
-            if (node instanceof Parent)
-                paintNodes(((Parent) node).getChildren(), nodeCanvasContext);
+            if (node instanceof Parent) {
+                if (damageRect == null)
+                    paintNodes(((Parent) node).getChildren(), nodeCanvasContext);
+                else
+                    for (Node child : ((Parent) node).getChildren())
+                        paintNode(child, nodeCanvasContext, damageRect);
+            }
             disposeCanvasContext(nodeCanvasContext);
         }
     }
@@ -61,9 +236,266 @@ public abstract class CanvasScenePeer
         nodeView.paint(canvasContext);
     }
 
+    private void computeDamageRects() {
+        damageRects.clear();
+        for (Bounds bounds : detachedBounds)
+            addDamageRect(bounds);
+        detachedBounds.clear();
+        for (Node dirtyNode : dirtyNodes) {
+            Node node = getDamagedNode(dirtyNode);
+            // Old area (where the node was painted)
+            addDamageRect(paintedSubtreeBounds.get(node));
+            // New area (where the node will be painted)
+            if (node.getScene() == scene) {
+                Bounds newBounds = computeSubtreeBounds(node);
+                addDamageRect(newBounds);
+                // Extending the ancestors bounds accordingly (not shrunk until next full repaint)
+                for (Parent parent = node.getParent(); parent != null && newBounds != null; parent = parent.getParent())
+                    paintedSubtreeBounds.put(parent, union(paintedSubtreeBounds.get(parent), newBounds));
+            } else
+                forgetSubtree(node);
+        }
+        double damageArea = 0;
+        for (Bounds damageRect : damageRects)
+            damageArea += damageRect.getWidth() * damageRect.getHeight();
+        if (damageArea > fullRepaintThreshold * scene.getWidth() * scene.getHeight())
+            fullRepaintRequired = true;
+    }
+
+    private void addDamageRect(Bounds bounds) {
+        if (bounds == null || bounds.isEmpty())
+            return;
+        // Merging the new rectangle with the ones it intersects (possibly in cascade)
+        for (int i = 0; i < damageRects.size(); ) {
+            Bounds damageRect = damageRects.get(i);
+            if (damageRect.intersects(bounds)) {
+                bounds = union(damageRect, bounds);
+                damageRects.remove(i);
+                i = 0;
+            } else
+                i++;
+        }
+        damageRects.add(bounds);
+        // Limiting the number of rectangles by merging the pair that wastes the least area
+        while (damageRects.size() > MAX_DAMAGE_RECT_COUNT) {
+            int bestI = 0, bestJ = 1;
+            double bestWaste = Double.MAX_VALUE;
+            for (int i = 0; i < damageRects.size(); i++) {
+                for (int j = i + 1; j < damageRects.size(); j++) {
+                    Bounds a = damageRects.get(i), b = damageRects.get(j), u = union(a, b);
+                    double waste = area(u) - area(a) - area(b);
+                    if (waste < bestWaste) {
+                        bestWaste = waste;
+                        bestI = i;
+                        bestJ = j;
+                    }
+                }
+            }
+            Bounds merged = union(damageRects.get(bestI), damageRects.get(bestJ));
+            damageRects.remove(bestJ);
+            damageRects.set(bestI, merged);
+        }
+    }
+
+    // Returns the node whose area is damaged by a change of the passed node: the owner of a clip, and the outermost
+    // ancestor with an effect (a shadow or blur depends on the whole content of the node)
+    private Node getDamagedNode(Node node) {
+        Node owner = clipOwners.get(node);
+        if (owner != null)
+            node = owner;
+        Node damagedNode = node;
+        for (Parent parent = node.getParent(); parent != null; parent = parent.getParent())
+            if (parent.getEffect() != null)
+                damagedNode = parent;
+        return damagedNode;
+    }
+
+    private Bounds computeSubtreeBounds(Node node) {
+        Bounds bounds = computeNodeSceneBounds(node);
+        if (node instanceof Parent)
+            for (Node child : ((Parent) node).getChildren())
+                bounds = union(bounds, computeSubtreeBounds(child));
+        Effect effect = node.getEffect();
+        if (bounds != null && effect != null) {
+            double padding = computeEffectPadding(effect);
+            if (Double.isNaN(padding)) // Unknown effect extent => considering the whole scene
+                bounds = new BoundingBox(0, 0, scene.getWidth(), scene.getHeight());
+            else {
+                padding *= computeSceneScale(node);
+                bounds = new BoundingBox(bounds.getMinX() - padding, bounds.getMinY() - padding, bounds.getWidth() + 2 * padding, bounds.getHeight() + 2 * padding);
+            }
+        }
+        Node clip = node.getClip();
+        if (clip != null) {
+            clipOwners.put(clip, node);
+            if (bounds != null)
+                bounds = intersection(bounds, toSceneBounds(node, clip, clip.getLayoutBounds(), DAMAGE_MARGIN));
+        }
+        if (bounds == null)
+            paintedSubtreeBounds.remove(node);
+        else
+            paintedSubtreeBounds.put(node, bounds);
+        return bounds;
+    }
+
+    private static Bounds computeNodeSceneBounds(Node node) {
+        double margin = DAMAGE_MARGIN;
+        if (node instanceof Shape && ((Shape) node).getStroke() != null)
+            margin += ((Shape) node).getStrokeWidth();
+        return toSceneBounds(node, null, node.getLayoutBounds(), margin);
+    }
+
+    // Converts the local bounds of the node (or of its clip if not null, which is expressed in the node space) into
+    // scene bounds
+    private static Bounds toSceneBounds(Node node, Node clip, Bounds lb, double margin) {
+        if (lb == null || lb.isEmpty())
+            return null;
+        // Transforming the 4 corners, as the node transforms may include rotations
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            double x = i % 2 == 0 ? lb.getMinX() : lb.getMaxX(), y = i < 2 ? lb.getMinY() : lb.getMaxY();
+            if (clip != null) {
+                javafx.geometry.Point2D cp = clip.localToParent(x, y);
+                x = cp.getX();
+                y = cp.getY();
+            }
+            javafx.geometry.Point2D p = node.localToScene(x, y);
+            minX = Math.min(minX, p.getX());
+            minY = Math.min(minY, p.getY());
+            maxX = Math.max(maxX, p.getX());
+            maxY = Math.max(maxY, p.getY());
+        }
+        return new BoundingBox(minX - margin, minY - margin, maxX - minX + 2 * margin, maxY - minY + 2 * margin);
+    }
+
+    // Returns the distance (in the node local space) around the node that the effect may paint, or NaN if unknown
+    private static double computeEffectPadding(Effect effect) {
+        if (effect == null)
+            return 0;
+        if (effect instanceof DropShadow) {
+            DropShadow ds = (DropShadow) effect;
+            return ds.getRadius() + Math.max(Math.abs(ds.getOffsetX()), Math.abs(ds.getOffsetY())) + computeEffectPadding(ds.getInput());
+        }
+        if (effect instanceof InnerShadow) // painted inside the node
+            return computeEffectPadding(((InnerShadow) effect).getInput());
+        if (effect instanceof GaussianBlur)
+            return ((GaussianBlur) effect).getRadius();
+        if (effect instanceof BoxBlur) {
+            BoxBlur bb = (BoxBlur) effect;
+            return Math.max(bb.getWidth(), bb.getHeight()) / 2 * Math.max(1, bb.getIterations());
+        }
+        return Double.NaN;
+    }
+
+    // Approximate scale factor from the node local space to the scene space
+    private static double computeSceneScale(Node node) {
+        javafx.geometry.Point2D o = node.localToScene(0, 0), x = node.localToScene(1, 0), y = node.localToScene(0, 1);
+        return Math.max(o.distance(x), o.distance(y));
+    }
+
+    private static Bounds intersection(Bounds a, Bounds b) {
+        if (b == null)
+            return null;
+        double minX = Math.max(a.getMinX(), b.getMinX()), minY = Math.max(a.getMinY(), b.getMinY());
+        double maxX = Math.min(a.getMaxX(), b.getMaxX()), maxY = Math.min(a.getMaxY(), b.getMaxY());
+        return maxX <= minX || maxY <= minY ? null : new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    private static Bounds union(Bounds a, Bounds b) {
+        if (a == null)
+            return b;
+        if (b == null)
+            return a;
+        double minX = Math.min(a.getMinX(), b.getMinX()), minY = Math.min(a.getMinY(), b.getMinY());
+        return new BoundingBox(minX, minY, Math.max(a.getMaxX(), b.getMaxX()) - minX, Math.max(a.getMaxY(), b.getMaxY()) - minY);
+    }
+
+    private static double area(Bounds b) {
+        return b.getWidth() * b.getHeight();
+    }
+
+    public void setSpatialPickingEnabled(boolean enabled) {
+        if (enabled != isSpatialPickingEnabled()) {
+            pickingGrid = enabled ? new CanvasPickingGrid() : null;
+            pickingDirtyNodes.clear();
+            pickingStructureChanged = true;
+        }
+    }
+
+    public boolean isSpatialPickingEnabled() {
+        return pickingGrid != null;
+    }
+
     public PickResult pickNode(Point2D point) {
         Parent root = scene.getRoot();
-        return root == null ? null : pickFromNode(point, root);
+        if (root == null)
+            return null;
+        if (pickingGrid != null && updatePickingGrid(root) && pickingGrid.contains(point.x, point.y))
+            return pickFromGrid(point);
+        // Brute-force fallback
+        return pickFromNode(point, root);
+    }
+
+    // Returns false if the grid can't be used for picking (ex: nodes with non-invertible transforms)
+    private boolean updatePickingGrid(Parent root) {
+        double width = scene.getWidth(), height = scene.getHeight();
+        if (pickingStructureChanged || !pickingGrid.hasSize(width, height)) {
+            pickingGrid.reset(width, height);
+            indexSubtree(root, 0);
+            pickingStructureChanged = false;
+        } else {
+            for (Node node : pickingDirtyNodes)
+                if (node.getScene() == scene)
+                    updateSubtreeIndexBounds(node);
+        }
+        pickingDirtyNodes.clear();
+        return !pickingGrid.hasNonIndexableNodes();
+    }
+
+    // Indexes the node and its descendants with their z-order (which is the pre-order traversal index) and returns the
+    // next z-order
+    private int indexSubtree(Node node, int zOrder) {
+        pickingGrid.put(node, zOrder++, computeNodeSceneBounds(node));
+        if (node instanceof Parent)
+            for (Node child : ((Parent) node).getChildren())
+                zOrder = indexSubtree(child, zOrder);
+        return zOrder;
+    }
+
+    private void updateSubtreeIndexBounds(Node node) {
+        pickingGrid.updateBounds(node, computeNodeSceneBounds(node));
+        if (node instanceof Parent)
+            for (Node child : ((Parent) node).getChildren())
+                updateSubtreeIndexBounds(child);
+    }
+
+    private PickResult pickFromGrid(Point2D scenePoint) {
+        // The candidates are already sorted in the same order as the brute-force traversal (last painted first)
+        for (Node node : pickingGrid.getCandidates(scenePoint.x, scenePoint.y)) {
+            if (!isTreeVisible(node))
+                continue;
+            Point2D point = new Point2D(scenePoint.x, scenePoint.y);
+            sceneToNodeSpace(point, node);
+            NB nodeView = (NB) scene.getOrCreateAndBindNodePeer(node);
+            if (nodeView.containsPoint(point))
+                return new PickResult(node, point.x, point.y);
+        }
+        return null;
+    }
+
+    private static boolean isTreeVisible(Node node) {
+        for (; node != null; node = node.getParent())
+            if (!node.isVisible() || node.impl_isCulled())
+                return false;
+        return true;
+    }
+
+    // Same coordinates conversion as the brute-force traversal, but applied directly from the root to the node
+    private static void sceneToNodeSpace(Point2D point, Node node) {
+        Parent parent = node.getParent();
+        if (parent != null)
+            sceneToNodeSpace(point, parent);
+        node.localToParent(point);
     }
 
     private PickResult pickFromNodes(Point2D point, List<Node> nodes) {
@@ -77,7 +509,7 @@ public abstract class CanvasScenePeer
     }
 
     private PickResult pickFromNode(Point2D point, Node node) {
-        if (!node.isVisible())
+        if (!node.isVisible() || node.impl_isCulled())
             return null;
         // The passed point is actually expressed in the parent coordinates space (after the transforms have been applied).
         // Before going further, we need to express it in the node local coordinates space.
@@ -99,4 +531,19 @@ public abstract class CanvasScenePeer
 
     protected abstract void disposeCanvasContext(CC canvasContext);
 
+    /**
+     * Restricts the painting of the passed context (created by createCanvasContext()) to the passed scene area. Returns
+     * false if not supported (default), in which case the whole scene is always repainted.
+     */
+    protected boolean clipCanvasContext(CC canvasContext, double x, double y, double width, double height) {
+        return false;
+    }
+
+    /**
+     * Clears the passed scene area before it is repainted. Does nothing by default (for the subclasses that already
+     * clear the canvas before calling repaintCanvas()).
+     */
+    protected void clearCanvasArea(CC canvasContext, double x, double y, double width, double height) {
+    }
+
 }
@@ -0,0 +1,47 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+import javafx.scene.Scene;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Canvas scene peer painting the scene graph through a JavaFX GraphicsContext (ex: the one of an HTML canvas). The
+ * graphics context supports clipping, so only the damaged regions are repainted (see {@link CanvasScenePeer}). The
+ * same graphics context is passed to the node peers, and its state is saved and restored around each node. The spatial
+ * picking is enabled, so the pointer events don't walk the whole scene graph.
+ *
+ * @author Bruno Salmon
+ */
+public abstract class GraphicsContextCanvasScenePeer
+        <NB extends CanvasNodePeer<?, GraphicsContext>>
+
+        extends CanvasScenePeer<NB, GraphicsContext> {
+
+    public GraphicsContextCanvasScenePeer(Scene scene) {
+        super(scene);
+        setSpatialPickingEnabled(true);
+    }
+
+    @Override
+    protected GraphicsContext createCanvasContext(GraphicsContext canvasContext) {
+        canvasContext.save();
+        return canvasContext;
+    }
+
+    @Override
+    protected void disposeCanvasContext(GraphicsContext canvasContext) {
+        canvasContext.restore(); // Also removes the clip of the damage rectangle
+    }
+
+    @Override
+    protected boolean clipCanvasContext(GraphicsContext canvasContext, double x, double y, double width, double height) {
+        canvasContext.beginPath();
+        canvasContext.rect(x, y, width, height);
+        canvasContext.clip();
+        return true;
+    }
+
+    @Override
+    protected void clearCanvasArea(GraphicsContext canvasContext, double x, double y, double width, double height) {
+        canvasContext.clearRect(x, y, width, height);
+    }
+}
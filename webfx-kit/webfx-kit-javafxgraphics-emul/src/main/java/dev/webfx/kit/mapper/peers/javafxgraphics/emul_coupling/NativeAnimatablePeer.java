@@ -0,0 +1,18 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+/**
+ * Implemented by the node peers that can run the opacity and node transforms animations natively (ex: on the browser
+ * compositor), see javafx.animation.NativeAnimationOffloading.
+ *
+ * @author Bruno Salmon
+ */
+public interface NativeAnimatablePeer {
+
+    /**
+     * Starts a native animation of this peer node, and returns its handle, or null if it can't be started (in which
+     * case the animation stays on the normal path). While the native animation is active, the peer doesn't apply the
+     * animated properties changes, and it applies their current values back when the animation is cancelled.
+     */
+    NativeAnimation animateNatively(NativeAnimationSpec spec);
+
+}
@@ -0,0 +1,10 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+/**
+ * @author Bruno Salmon
+ */
+public interface NativeAnimation {
+
+    void cancel(); // Stops the native animation and reconciles the peer with the current node properties values
+
+}
@@ -0,0 +1,94 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+/**
+ * Describes a native animation of a node: the sampled values of its animated properties over one cycle (null arrays
+ * for the properties that are not animated), and the timing of the animation (as in the Web Animations API).
+ *
+ * @author Bruno Salmon
+ */
+public final class NativeAnimationSpec {
+
+    private final double[] offsets; // positions of the samples in the cycle (from 0 to 1)
+    private final double[] opacities;
+    private final double[] translateXs;
+    private final double[] translateYs;
+    private final double[] scaleXs;
+    private final double[] scaleYs;
+    private final double[] rotates;
+    private final double cycleMillis;
+    private final double iterations; // may be fractional, or infinite
+    private final String direction; // "normal", "reverse" or "alternate"
+    private final double delayMillis; // negative when starting in the middle of the animation
+    private final double playbackRate;
+
+    public NativeAnimationSpec(double[] offsets, double[] opacities, double[] translateXs, double[] translateYs, double[] scaleXs, double[] scaleYs, double[] rotates, double cycleMillis, double iterations, String direction, double delayMillis, double playbackRate) {
+        this.offsets = offsets;
+        this.opacities = opacities;
+        this.translateXs = translateXs;
+        this.translateYs = translateYs;
+        this.scaleXs = scaleXs;
+        this.scaleYs = scaleYs;
+        this.rotates = rotates;
+        this.cycleMillis = cycleMillis;
+        this.iterations = iterations;
+        this.direction = direction;
+        this.delayMillis = delayMillis;
+        this.playbackRate = playbackRate;
+    }
+
+    public double[] getOffsets() {
+        return offsets;
+    }
+
+    public double[] getOpacities() {
+        return opacities;
+    }
+
+    public double[] getTranslateXs() {
+        return translateXs;
+    }
+
+    public double[] getTranslateYs() {
+        return translateYs;
+    }
+
+    public double[] getScaleXs() {
+        return scaleXs;
+    }
+
+    public double[] getScaleYs() {
+        return scaleYs;
+    }
+
+    public double[] getRotates() {
+        return rotates;
+    }
+
+    public boolean animatesOpacity() {
+        return opacities != null;
+    }
+
+    public boolean animatesTransforms() {
+        return translateXs != null || translateYs != null || scaleXs != null || scaleYs != null || rotates != null;
+    }
+
+    public double getCycleMillis() {
+        return cycleMillis;
+    }
+
+    public double getIterations() {
+        return iterations;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public double getDelayMillis() {
+        return delayMillis;
+    }
+
+    public double getPlaybackRate() {
+        return playbackRate;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
 
 import com.sun.javafx.tk.TKScene;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
 import javafx.scene.Node;
 import javafx.scene.Parent;
@@ -24,6 +25,10 @@ public interface ScenePeer extends TKScene {
 
     default void onPropertyHit() {}
 
+    default void onNodePropertyHit(Node node, ObservableValue changedProperty) {
+        onPropertyHit();
+    }
+
     default void onBeforePulse() {}
 
     default void onAfterPulse() {}
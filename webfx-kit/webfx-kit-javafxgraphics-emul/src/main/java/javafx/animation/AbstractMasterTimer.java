@@ -1,6 +1,10 @@
 package javafx.animation;
 
+import javafx.scene.PulseProfiler;
+
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 
 /**
  * @author Bruno Salmon
@@ -13,8 +17,24 @@ abstract class AbstractMasterTimer {
     // enough in advance of the vsync to complete rendering before it happens
     private static boolean useAdaptivePulse = false; //Settings.getBoolean(ADAPTIVE_PULSE_PROP);
 
-    private final int PULSE_DURATION_NS = getPulseDuration(1000000000);
-    private final int PULSE_DURATION_TICKS = getPulseDuration((int)TickCalculation.fromMillis(1000));
+    // Initial pulse duration, then adapted to the actual animation frames cadence (see FrameCadence)
+    private long pulseDurationNs = getPulseDuration(1000000000);
+
+    // The part of the frame duration that the animations & timers can use before the low-priority work is postponed
+    private static final double DEFAULT_FRAME_BUDGET_RATIO = 0.5;
+    // The low-priority work can't be postponed more than this number of consecutive frames (no starvation)
+    private static final int MAX_POSTPONED_FRAMES = 10;
+    private double frameBudgetRatio = DEFAULT_FRAME_BUDGET_RATIO;
+    private final FrameCadence frameCadence = new FrameCadence();
+    private final Deque<Runnable> lowPriorityJobs = new ArrayDeque<>();
+    private long frameStartNanos;
+    private boolean frameInProgress;
+    private int postponedFrames;
+    // Frame statistics
+    private long frameCount;
+    private long lateFrameCount;
+    private long budgetOverrunCount;
+    private long postponedFrameCount;
 
 /*
     // This PropertyChangeListener is added to Settings to listen for changes
@@ -75,9 +95,65 @@ abstract class AbstractMasterTimer {
     }
 */
 
-    // Used by Clip.create() method that doesn't take a resolution argument
+    // Used by Clip.create() method that doesn't take a resolution argument (follows the measured frames cadence)
     public int getDefaultResolution() {
-        return PULSE_DURATION_TICKS;
+        return (int) Math.max(1, TickCalculation.fromNano(pulseDurationNs));
+    }
+
+    public long getPulseDurationNanos() {
+        return pulseDurationNs;
+    }
+
+    public double getRefreshRate() {
+        return 1_000_000_000d / pulseDurationNs;
+    }
+
+    public double getAchievedFps() {
+        long averageFrameInterval = frameCadence.getAverageInterval();
+        return averageFrameInterval <= 0 ? 0 : 1_000_000_000d / averageFrameInterval;
+    }
+
+    public double getFrameBudgetRatio() {
+        return frameBudgetRatio;
+    }
+
+    public void setFrameBudgetRatio(double frameBudgetRatio) {
+        this.frameBudgetRatio = Math.max(0, Math.min(frameBudgetRatio, 1));
+    }
+
+    public long getFrameBudgetNanos() {
+        return (long) (pulseDurationNs * frameBudgetRatio);
+    }
+
+    public boolean isFrameBudgetExceeded() {
+        // Measured from the start of the current frame (an overrun of a whole frame or more is still an overrun)
+        return frameInProgress && nanos() - frameStartNanos > getFrameBudgetNanos();
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public long getLateFrameCount() {
+        return lateFrameCount;
+    }
+
+    public long getBudgetOverrunCount() {
+        return budgetOverrunCount;
+    }
+
+    public long getPostponedFrameCount() {
+        return postponedFrameCount;
+    }
+
+    public void resetStatistics() {
+        frameCount = lateFrameCount = budgetOverrunCount = postponedFrameCount = 0;
+    }
+
+    public void addLowPriorityJob(Runnable job) {
+        lowPriorityJobs.add(job);
+        if (lowPriorityJobs.size() == 1)
+            theMaster.updateAnimationRunnable();
     }
 
     public void pause() {
@@ -209,16 +285,37 @@ abstract class AbstractMasterTimer {
 
         private long nextPulseTime = nanos();
         private long lastPulseDuration = Integer.MIN_VALUE;
+        private boolean scheduledForNextFrame; // true if the run was requested for the next animation frame
+        private long lastRunTime;
 
         @Override
         public void run() {
-            if (paused)
+            if (paused) {
+                lastRunTime = 0; // The interval with the run after resume won't be a frame interval
                 return;
+            }
             scheduled = false;
             long now = nanos();
+            frameStartNanos = now;
+            frameCount++;
+            // Measuring the animation frames cadence (only possible when running on consecutive frames)
+            if (scheduledForNextFrame && lastRunTime > 0 && frameCadence.addInterval(now - lastRunTime, pulseDurationNs))
+                lateFrameCount++;
+            pulseDurationNs = frameCadence.getFrameDuration(pulseDurationNs);
+            lastRunTime = now;
             recordStart((nextPulseTime - now) / 1000000);
-            timePulseImpl(now);
+            PulseProfiler.beginAnimationFrame();
+            long profilerStart = PulseProfiler.startPhase();
+            frameInProgress = true;
+            try {
+                timePulseImpl(now);
+            } finally {
+                frameInProgress = false;
+            }
+            PulseProfiler.endPhase(PulseProfiler.Phase.ANIMATIONS, profilerStart);
             recordEnd();
+            if (nanos() - now > getFrameBudgetNanos())
+                budgetOverrunCount++;
             updateNextPulseTime(now);
             // reschedule animation runnable if needed
             updateAnimationRunnable();
@@ -229,8 +326,12 @@ abstract class AbstractMasterTimer {
             if (fullspeed)
                 return 0;
             long now = nanos();
-            long timeUntilPulse = (nextPulseTime - now) / 1000000;
-            return Math.max(0, timeUntilPulse);
+            long timeUntilPulse = nextPulseTime - now;
+            // A pulse due before the middle of the next frame is played in that frame (otherwise, if the pulse time is
+            // just after the next vsync, a frame is skipped, which makes the animations judder).
+            if (timeUntilPulse <= pulseDurationNs / 2)
+                return 0;
+            return timeUntilPulse / 1000000;
         }
 
         private void updateNextPulseTime(long pulseStarted) {
@@ -243,7 +344,7 @@ abstract class AbstractMasterTimer {
                     // early enough to finish up the painting and call swap
                     // before vsync happens. We try to minimize the amount of
                     // time we wait for vsync blocking the EDT thread.
-                    nextPulseTime += PULSE_DURATION_NS;
+                    nextPulseTime += pulseDurationNs;
                     long pulseDuration = now - pulseStarted;
                     // if the new duration was smaller than the previous one
                     // we don't need to do anything (we have decreased the
@@ -257,23 +358,28 @@ abstract class AbstractMasterTimer {
                         pulseDuration = 2000000;
                     // if the pulse took longer than pulse_duration_ns we
                     // probably missed the vsync
-                    if (pulseDuration >= PULSE_DURATION_NS)
-                        pulseDuration = 3 * PULSE_DURATION_NS / 4;
+                    if (pulseDuration >= pulseDurationNs)
+                        pulseDuration = 3 * pulseDurationNs / 4;
                     lastPulseDuration = pulseDuration;
                     nextPulseTime = nextPulseTime - pulseDuration;
                 } else
-                    nextPulseTime = ((nextPulseTime + PULSE_DURATION_NS) / PULSE_DURATION_NS)
-                            * PULSE_DURATION_NS;
+                    nextPulseTime = ((nextPulseTime + pulseDurationNs) / pulseDurationNs)
+                            * pulseDurationNs;
             }
         }
 
         private boolean scheduled; // Flag used to avoid multiple schedules
 
         private void updateAnimationRunnable() {
-            boolean newInactive = (animationTimersLength == 0 && receiversLength == 0);
-            if (inactive != newInactive)
+            boolean newInactive = (animationTimersLength == 0 && receiversLength == 0 && lowPriorityJobs.isEmpty());
+            if (inactive != newInactive) {
                 inactive = newInactive;
+                // The loop is going idle, so the first run after restarting must not be measured as a frame interval
+                if (inactive)
+                    lastRunTime = 0;
+            }
             if (!inactive && !scheduled) {
+                scheduledForNextFrame = getDelay() == 0;
                 postUpdateAnimationRunnable(this);
                 scheduled = true; // Will be back to false once run() is called
             }
@@ -302,13 +408,82 @@ abstract class AbstractMasterTimer {
 
         TimerReceiver animationTimersSnapshot[] = animationTimers;
         int aTLength = animationTimersLength;
+        boolean hasBackgroundTimers = false;
         try {
             animationTimersLocked = true;
             // After every frame, call any frame jobs
-            for (int i = 0; i < aTLength; i++)
-                animationTimersSnapshot[i].handle(now);
+            for (int i = 0; i < aTLength; i++) {
+                TimerReceiver animationTimer = animationTimersSnapshot[i];
+                if (animationTimer.isBackground())
+                    hasBackgroundTimers = true;
+                else
+                    animationTimer.handle(now);
+            }
+            // Then the low-priority work, unless the frame budget is already exceeded (it's then postponed)
+            if (!hasBackgroundTimers && lowPriorityJobs.isEmpty())
+                postponedFrames = 0;
+            else if (isFrameBudgetExceeded() && postponedFrames < MAX_POSTPONED_FRAMES) {
+                postponedFrames++;
+                postponedFrameCount++;
+            } else {
+                boolean forced = postponedFrames >= MAX_POSTPONED_FRAMES;
+                postponedFrames = 0;
+                if (hasBackgroundTimers)
+                    for (int i = 0; i < aTLength; i++)
+                        if (animationTimersSnapshot[i].isBackground())
+                            animationTimersSnapshot[i].handle(now);
+                // Running at least one job per frame, and then as many as the budget allows (but not the jobs that were
+                // added by these jobs, which are left for the next frame)
+                int jobsCount = lowPriorityJobs.size();
+                for (int i = 0; i < jobsCount && (i == 0 || forced || !isFrameBudgetExceeded()); i++)
+                    lowPriorityJobs.poll().run();
+            }
         } finally {
             animationTimersLocked = false;
         }
     }
+
+    /**
+     * Measures the animation frames cadence (which may be 30, 60, 90, 120, 144 Hz or else depending on the device and
+     * browser throttling) from the intervals between the pulses played on consecutive frames. The frame duration is the
+     * median of the last intervals, which ignores the occasional late (i.e. dropped) frames but follows a real refresh
+     * rate change after a few frames.
+     */
+    private static final class FrameCadence {
+
+        private static final int WINDOW_SIZE = 31;
+        private static final long MIN_FRAME_DURATION = 1_000_000_000L / 240;
+        private static final long MAX_FRAME_DURATION = 1_000_000_000L / 15;
+
+        private final long[] intervals = new long[WINDOW_SIZE];
+        private final long[] sortedIntervals = new long[WINDOW_SIZE];
+        private int intervalsCount, nextIndex;
+
+        // Returns true if that interval reveals a late frame
+        boolean addInterval(long interval, long frameDuration) {
+            intervals[nextIndex] = interval;
+            nextIndex = (nextIndex + 1) % WINDOW_SIZE;
+            if (intervalsCount < WINDOW_SIZE)
+                intervalsCount++;
+            return interval > frameDuration * 3 / 2;
+        }
+
+        long getFrameDuration(long defaultFrameDuration) {
+            if (intervalsCount < 3)
+                return defaultFrameDuration;
+            System.arraycopy(intervals, 0, sortedIntervals, 0, intervalsCount);
+            Arrays.sort(sortedIntervals, 0, intervalsCount);
+            long median = sortedIntervals[intervalsCount / 2];
+            return Math.max(MIN_FRAME_DURATION, Math.min(median, MAX_FRAME_DURATION));
+        }
+
+        long getAverageInterval() {
+            if (intervalsCount == 0)
+                return 0;
+            long sum = 0;
+            for (int i = 0; i < intervalsCount; i++)
+                sum += intervals[i];
+            return sum / intervalsCount;
+        }
+    }
 }
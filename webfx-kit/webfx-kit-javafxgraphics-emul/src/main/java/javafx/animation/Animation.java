@@ -1,5 +1,6 @@
 package javafx.animation;
 
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.NativeAnimation;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.util.Duration;
@@ -8,6 +9,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
 
 import java.util.HashMap;
+import java.util.List;
 
 import static javafx.animation.TickCalculation.fromDuration;
 
@@ -178,6 +180,13 @@ public abstract class Animation {
     /* Package-private for testing purposes */
     ClipEnvelope clipEnvelope;
 
+    /**
+     * The native animations running this animation when it is offloaded (see {@link NativeAnimationOffloading}).
+     */
+    List<NativeAnimation> nativeAnimations;
+    List<DoubleProperty> nativeAnimatedProperties;
+    boolean nativeInterpolationSkipped; // true while none of the animated properties is observed (other than by peers)
+
     private boolean lastPlayedFinished = false;
 
     private boolean lastPlayedForward = true;
@@ -244,6 +253,7 @@ public abstract class Animation {
                             oldRate = newRate;
                         }
                         clipEnvelope.setRate(newRate);
+                        NativeAnimationOffloading.restart(Animation.this);
                     }
                 }
 
@@ -625,6 +635,7 @@ public abstract class Animation {
         if (getStatus() == Status.STOPPED)
             syncClipEnvelope();
         clipEnvelope.jumpTo(ticks);
+        NativeAnimationOffloading.restart(this);
     }
 
     /**
@@ -764,15 +775,17 @@ public abstract class Animation {
                     startReceiver(fromDuration(getDelay()));
                     if (Math.abs(rate) < EPSILON)
                         pauseReceiver();
-                    else {
-                    }
+                    else
+                        NativeAnimationOffloading.start(this, fromDuration(getDelay()));
                 } else
                     callOnFinishedHandler();
                 break;
             case PAUSED:
                 impl_resume();
-                if (Math.abs(getRate()) >= EPSILON)
+                if (Math.abs(getRate()) >= EPSILON) {
                     resumeReceiver();
+                    NativeAnimationOffloading.start(this, 0);
+                }
                 break;
         }
     }
@@ -924,6 +937,7 @@ public abstract class Animation {
     }
 
     void impl_pause() {
+        NativeAnimationOffloading.cancel(this);
         final double currentRate = getCurrentRate();
         if (Math.abs(currentRate) >= EPSILON)
             lastPlayedForward = Math.abs(getCurrentRate() - getRate()) < EPSILON;
@@ -937,6 +951,7 @@ public abstract class Animation {
     }
 
     void impl_stop() {
+        NativeAnimationOffloading.cancel(this);
         if (!paused)
             timer.removePulseReceiver(pulseReceiver);
         setStatus(Status.STOPPED);
@@ -952,6 +967,17 @@ public abstract class Animation {
         }
     }
 
+    NativeAnimationTracks impl_sampleNativeTracks() { // null if this animation can't be offloaded
+        return null;
+    }
+
+    long impl_getCurrentTicks() {
+        return currentTicks;
+    }
+
+    void impl_interpolateCurrentTicks() { // Used to reconcile the properties of an offloaded animation
+    }
+
     abstract void impl_playTo(long currentTicks, long cycleTicks);
 
     abstract void impl_jumpTo(long currentTicks, long cycleTicks, boolean forceJump);
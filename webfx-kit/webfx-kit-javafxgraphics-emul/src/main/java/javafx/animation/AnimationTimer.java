@@ -54,11 +54,17 @@ public abstract class AnimationTimer {
 */
             AnimationTimer.this.handle(now);
         }
+
+        @Override
+        public boolean isBackground() {
+            return background;
+        }
     }
 
     private final AbstractMasterTimer timer;
     private final AnimationTimerReceiver timerReceiver = new AnimationTimerReceiver();
     private boolean active;
+    private boolean background;
 
     // Access control context, captured in start()
     //private AccessControlContext accessCtrlCtx = null;
@@ -112,4 +118,19 @@ public abstract class AnimationTimer {
             active = false;
         }
     }
+
+    /**
+     * Flags this timer as background work (WebFX extension): it is then called after the other timers and animations,
+     * and postponed (for a few frames at most) when they have already exceeded the frame time budget.
+     *
+     * @param background true for a background timer
+     * @see FrameTiming
+     */
+    public final void setBackground(boolean background) {
+        this.background = background;
+    }
+
+    public final boolean isBackground() {
+        return background;
+    }
 }
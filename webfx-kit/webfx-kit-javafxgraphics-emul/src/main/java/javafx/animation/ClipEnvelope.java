@@ -95,4 +95,8 @@ public abstract class ClipEnvelope {
     public double getCurrentRate() {
         return currentRate;
     }
+
+    long getRemainingTicks() { // Ticks remaining to play before the end of the clip (INDEFINITE if it never ends)
+        return INDEFINITE;
+    }
 }
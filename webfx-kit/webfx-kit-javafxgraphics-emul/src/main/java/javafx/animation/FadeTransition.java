@@ -309,6 +309,16 @@ public final class FadeTransition extends Transition {
         cachedNode.setOpacity(newOpacity);
     }
 
+    @Override
+    NativeAnimationTracks impl_sampleNativeTracks() {
+        NativeAnimationTracks tracks = newNativeTracks();
+        double[] fractions = calculateNativeFractions(tracks);
+        double[] opacities = tracks.newTrack(cachedNode, NativeAnimationTracks.OPACITY);
+        for (int i = 0; i < fractions.length; i++)
+            opacities[i] = Math.max(0.0, Math.min(start + fractions[i] * delta, 1.0));
+        return tracks;
+    }
+
     private Node getTargetNode() {
         final Node node = getNode();
         return (node != null) ? node : getParentTargetNode();
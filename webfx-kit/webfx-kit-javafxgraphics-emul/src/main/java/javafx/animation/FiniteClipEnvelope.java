@@ -68,6 +68,11 @@ public class FiniteClipEnvelope extends ClipEnvelope {
         this.rate = rate;
     }
 
+    @Override
+    long getRemainingTicks() {
+        return totalTicks - ticks;
+    }
+
     private void updateTotalTicks() {
         totalTicks = cycleCount * cycleTicks;
     }
@@ -0,0 +1,80 @@
+package javafx.animation;
+
+/**
+ * Frame timing API (WebFX extension) of the master timer that plays the animations and animation timers.
+ * <p>
+ * The master timer measures the actual animation frames cadence (which depends on the device refresh rate and on the
+ * browser throttling) and adapts its pulse duration to it. It also tracks a per-frame time budget: the low-priority
+ * work (background animation timers and jobs scheduled with {@link #scheduleLowPriority(Runnable)}) is postponed to
+ * the next frames when the animations and timers have already exceeded it.
+ *
+ * @author Bruno Salmon
+ */
+public final class FrameTiming {
+
+    /**
+     * @return the measured animation frames per second (the device refresh rate, unless throttled)
+     */
+    public static double getRefreshRate() {
+        return MasterTimer.get().getRefreshRate();
+    }
+
+    public static long getFrameDurationNanos() {
+        return MasterTimer.get().getPulseDurationNanos();
+    }
+
+    /**
+     * @return the frames per second achieved by the master timer over the last frames (lower than the refresh rate when
+     * frames are dropped)
+     */
+    public static double getAchievedFps() {
+        return MasterTimer.get().getAchievedFps();
+    }
+
+    public static double getFrameBudgetRatio() {
+        return MasterTimer.get().getFrameBudgetRatio();
+    }
+
+    /**
+     * @param frameBudgetRatio the part of the frame duration (between 0 and 1) that the animations and timers can use
+     *                         before the low-priority work is postponed
+     */
+    public static void setFrameBudgetRatio(double frameBudgetRatio) {
+        MasterTimer.get().setFrameBudgetRatio(frameBudgetRatio);
+    }
+
+    public static long getFrameBudgetNanos() {
+        return MasterTimer.get().getFrameBudgetNanos();
+    }
+
+    public static boolean isFrameBudgetExceeded() {
+        return MasterTimer.get().isFrameBudgetExceeded();
+    }
+
+    public static void scheduleLowPriority(Runnable job) {
+        MasterTimer.get().addLowPriorityJob(job);
+    }
+
+    public static long getFrameCount() {
+        return MasterTimer.get().getFrameCount();
+    }
+
+    /**
+     * @return the number of frames that came later than 1.5 frame duration after the previous one (dropped frames)
+     */
+    public static long getLateFrameCount() {
+        return MasterTimer.get().getLateFrameCount();
+    }
+
+    public static long getBudgetOverrunCount() {
+        return MasterTimer.get().getBudgetOverrunCount();
+    }
+
+    public static long getPostponedFrameCount() {
+        return MasterTimer.get().getPostponedFrameCount();
+    }
+
+    public static void resetStatistics() {
+        MasterTimer.get().resetStatistics();
+    }
+}
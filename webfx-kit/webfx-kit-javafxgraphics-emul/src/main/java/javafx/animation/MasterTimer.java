@@ -21,7 +21,7 @@ class MasterTimer extends AbstractMasterTimer {
 
     @Override
     protected int getPulseDuration(int precision) {
-        int rate = 60;
+        int rate = 60; // Initial rate only, as the pulse duration is then measured from the actual animation frames
         return precision / rate;
     }
 }
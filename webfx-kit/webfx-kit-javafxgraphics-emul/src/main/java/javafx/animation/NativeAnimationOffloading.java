@@ -0,0 +1,139 @@
+package javafx.animation;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.NativeAnimatablePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.NativeAnimation;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.NativeAnimationSpec;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.DoublePropertyBase;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opt-in mode where the FadeTransition, TranslateTransition, ScaleTransition and simple Timelines animating the
+ * opacity, translateX/Y, scaleX/Y or rotate node properties are also run as native animations by the node peers (ex:
+ * Web Animations API in the browser, which runs them on the compositor). While the native animation is running, the
+ * animation timing goes on as usual (current time, key frames handlers, finish), and the peers don't write the animated
+ * properties to the DOM. If the animated properties are not observed (no listener other than the peer's one, and not
+ * bound), they are not even interpolated anymore on each frame, so reading them returns the value they had at the
+ * start (or at the last key frame). As soon as one of them is observed, the animation goes back to the per-frame
+ * interpolation, so the listeners and bindings keep receiving the intermediate values. The properties are reconciled
+ * with the current position of the animation when it is paused, stopped or finished, at which point the native
+ * animation is cancelled (and the peers apply the reconciled values to the DOM). It is restarted when the animation
+ * jumps or when its rate changes. Animations that can't be offloaded (embedded animations, other properties, peers
+ * that don't support it, etc...) simply stay on the normal path.
+ *
+ * @author Bruno Salmon
+ */
+public final class NativeAnimationOffloading {
+
+    private static final double EPSILON = 1e-12;
+
+    private static boolean enabled;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        NativeAnimationOffloading.enabled = enabled;
+    }
+
+    public static boolean isOffloaded(Animation animation) {
+        return animation.nativeAnimations != null;
+    }
+
+    static void start(Animation animation, long delayTicks) {
+        if (!enabled || animation.nativeAnimations != null || animation.parent != null || animation.getStatus() != Animation.Status.RUNNING)
+            return;
+        double currentRate = animation.getCurrentRate();
+        double cycleMillis = animation.getCycleDuration().toMillis();
+        if (Math.abs(currentRate) < EPSILON || !(cycleMillis > 0) || cycleMillis >= Animation.INDEFINITE_DURATION.toMillis())
+            return;
+        NativeAnimationTracks tracks = animation.impl_sampleNativeTracks();
+        if (tracks == null || tracks.getNodesTracks().isEmpty())
+            return;
+        // Mapping the JavaFX timing to the Web Animations API timing. The native animation local time is computed from
+        // the current position in the cycle, knowing that the alternate direction plays odd iterations backward.
+        boolean forward = currentRate > 0;
+        boolean autoReverse = animation.isAutoReverse();
+        String direction = autoReverse ? "alternate" : forward ? "normal" : "reverse";
+        double positionMillis = animation.getCurrentTime().toMillis();
+        double localMillis = forward ? positionMillis : autoReverse ? 2 * cycleMillis - positionMillis : cycleMillis - positionMillis;
+        long remainingTicks = animation.clipEnvelope.getRemainingTicks();
+        double iterations = remainingTicks == ClipEnvelope.INDEFINITE ? Double.POSITIVE_INFINITY : (localMillis + toMillis(remainingTicks)) / cycleMillis;
+        double playbackRate = Math.abs(animation.getRate());
+        double delayMillis = toMillis(delayTicks) * playbackRate - localMillis; // The delay is scaled by the playback rate
+        double[] offsets = tracks.getOffsets();
+        List<NativeAnimation> nativeAnimations = new ArrayList<>();
+        for (Map.Entry<Node, double[][]> nodeTracks : tracks.getNodesTracks().entrySet()) {
+            NodePeer nodePeer = nodeTracks.getKey().getNodePeer();
+            double[][] t = nodeTracks.getValue();
+            NativeAnimation nativeAnimation = !(nodePeer instanceof NativeAnimatablePeer) ? null :
+                    ((NativeAnimatablePeer) nodePeer).animateNatively(new NativeAnimationSpec(offsets,
+                            t[NativeAnimationTracks.OPACITY],
+                            t[NativeAnimationTracks.TRANSLATE_X], t[NativeAnimationTracks.TRANSLATE_Y],
+                            t[NativeAnimationTracks.SCALE_X], t[NativeAnimationTracks.SCALE_Y],
+                            t[NativeAnimationTracks.ROTATE],
+                            cycleMillis, iterations, direction, delayMillis, playbackRate));
+            if (nativeAnimation == null) { // All nodes must be animated natively, otherwise we stay on the normal path
+                nativeAnimations.forEach(NativeAnimation::cancel);
+                return;
+            }
+            nativeAnimations.add(nativeAnimation);
+        }
+        animation.nativeAnimations = nativeAnimations;
+        List<DoubleProperty> animatedProperties = new ArrayList<>();
+        for (Map.Entry<Node, double[][]> nodeTracks : tracks.getNodesTracks().entrySet()) {
+            double[][] t = nodeTracks.getValue();
+            for (int property = 0; property < t.length; property++)
+                if (t[property] != null)
+                    animatedProperties.add(NativeAnimationTracks.getNodeProperty(nodeTracks.getKey(), property));
+        }
+        animation.nativeAnimatedProperties = animatedProperties;
+        animation.nativeInterpolationSkipped = true; // Checked on each frame by skipsInterpolation()
+    }
+
+    // Called on each frame by the transitions and timelines before interpolating the properties
+    static boolean skipsInterpolation(Animation animation) {
+        if (!animation.nativeInterpolationSkipped)
+            return false;
+        for (DoubleProperty property : animation.nativeAnimatedProperties)
+            if (isObserved(property)) { // Back to the per-frame interpolation until the end of the native animation
+                animation.nativeInterpolationSkipped = false;
+                return false;
+            }
+        return true;
+    }
+
+    private static boolean isObserved(DoubleProperty property) {
+        // The peer listening to the node properties is the only expected listener
+        return property.isBound() || !(property instanceof DoublePropertyBase) || ((DoublePropertyBase) property).impl_getListenerCount() > 1;
+    }
+
+    static void cancel(Animation animation) {
+        List<NativeAnimation> nativeAnimations = animation.nativeAnimations;
+        if (nativeAnimations != null) {
+            if (animation.nativeInterpolationSkipped) // So the peers apply the values of the current position when cancelled
+                animation.impl_interpolateCurrentTicks();
+            animation.nativeAnimations = null;
+            animation.nativeAnimatedProperties = null;
+            animation.nativeInterpolationSkipped = false;
+            nativeAnimations.forEach(NativeAnimation::cancel);
+        }
+    }
+
+    static void restart(Animation animation) { // Called when the timing has changed (jump or rate change)
+        if (animation.nativeAnimations != null) {
+            cancel(animation);
+            start(animation, 0);
+        }
+    }
+
+    private static double toMillis(long ticks) {
+        return ticks * 1000d / TickCalculation.TICKS_PER_SECOND;
+    }
+}
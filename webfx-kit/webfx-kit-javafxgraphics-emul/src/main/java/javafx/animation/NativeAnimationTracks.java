@@ -0,0 +1,74 @@
+package javafx.animation;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The values of the node properties animated by an animation, sampled over one cycle, for the native offloading.
+ *
+ * @author Bruno Salmon
+ */
+final class NativeAnimationTracks {
+
+    static final int OPACITY = 0, TRANSLATE_X = 1, TRANSLATE_Y = 2, SCALE_X = 3, SCALE_Y = 4, ROTATE = 5;
+    private static final int PROPERTY_COUNT = 6;
+
+    private static final int SAMPLES_PER_SECOND = 60;
+    private static final int MAX_SAMPLES = 600;
+
+    private final double[] offsets; // Positions of the samples in the cycle, from 0 to 1
+    private final Map<Node, double[][]> nodesTracks = new LinkedHashMap<>();
+
+    NativeAnimationTracks(double[] offsets) {
+        this.offsets = offsets;
+    }
+
+    double[] getOffsets() {
+        return offsets;
+    }
+
+    Map<Node, double[][]> getNodesTracks() {
+        return nodesTracks;
+    }
+
+    // Returns the array to fill with the sampled values, or null if that node property has already a track
+    double[] newTrack(Node node, int property) {
+        double[][] nodeTracks = nodesTracks.computeIfAbsent(node, n -> new double[PROPERTY_COUNT][]);
+        if (nodeTracks[property] != null)
+            return null;
+        return nodeTracks[property] = new double[offsets.length];
+    }
+
+    static DoubleProperty getNodeProperty(Node node, int property) {
+        switch (property) {
+            case OPACITY:     return node.opacityProperty();
+            case TRANSLATE_X: return node.translateXProperty();
+            case TRANSLATE_Y: return node.translateYProperty();
+            case SCALE_X:     return node.scaleXProperty();
+            case SCALE_Y:     return node.scaleYProperty();
+            default:          return node.rotateProperty();
+        }
+    }
+
+    static double[] uniformOffsets(Duration cycleDuration, double... extraOffsets) {
+        int segments = (int) Math.max(1, Math.min(MAX_SAMPLES - 1, Math.round(cycleDuration.toMillis() * SAMPLES_PER_SECOND / 1000)));
+        double[] offsets = Arrays.copyOf(extraOffsets, segments + 1 + extraOffsets.length);
+        for (int i = 0; i <= segments; i++)
+            offsets[extraOffsets.length + i] = (double) i / segments;
+        return sortedUniqueOffsets(offsets);
+    }
+
+    static double[] sortedUniqueOffsets(double... offsets) {
+        Arrays.sort(offsets);
+        int n = 0;
+        for (double offset : offsets)
+            if (n == 0 || offset > offsets[n - 1])
+                offsets[n++] = offset;
+        return n == offsets.length ? offsets : Arrays.copyOf(offsets, n);
+    }
+}
@@ -501,6 +501,23 @@ public final class ScaleTransition extends Transition {
         }
     }
 
+    @Override
+    NativeAnimationTracks impl_sampleNativeTracks() {
+        NativeAnimationTracks tracks = newNativeTracks();
+        double[] fractions = calculateNativeFractions(tracks);
+        if (!Double.isNaN(startX)) {
+            double[] xs = tracks.newTrack(cachedNode, NativeAnimationTracks.SCALE_X);
+            for (int i = 0; i < fractions.length; i++)
+                xs[i] = startX + fractions[i] * deltaX;
+        }
+        if (!Double.isNaN(startY)) {
+            double[] ys = tracks.newTrack(cachedNode, NativeAnimationTracks.SCALE_Y);
+            for (int i = 0; i < fractions.length; i++)
+                ys[i] = startY + fractions[i] * deltaY;
+        }
+        return tracks;
+    }
+
     private Node getTargetNode() {
         final Node node = getNode();
         return (node != null) ? node : getParentTargetNode();
@@ -62,6 +62,11 @@ public class SingleLoopClipEnvelope extends ClipEnvelope {
         return this;
     }
 
+    @Override
+    long getRemainingTicks() {
+        return currentRate > 0 ? cycleTicks - ticks : ticks;
+    }
+
     @Override
     public void timePulse(long currentTick) {
         if (cycleTicks == 0L) {
@@ -5,10 +5,19 @@ package javafx.animation;
  */
 
 import com.sun.javafx.collections.TrackableObservableList;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.WritableValue;
+import javafx.scene.Node;
 import javafx.util.Duration;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 
 /**
  * A {@code Timeline} can be used to define a free form animation of any
@@ -153,6 +162,11 @@ public final class Timeline extends Animation {
         clipCore.playTo(currentTicks);
     }
 
+    @Override
+    void impl_interpolateCurrentTicks() {
+        clipCore.interpolate(impl_getCurrentTicks());
+    }
+
     @Override
     void impl_jumpTo(long currentTicks, long cycleTicks, boolean forceJump) {
         impl_sync(false);
@@ -172,6 +186,95 @@ public final class Timeline extends Animation {
         clipCore.start(forceSync);
     }
 
+    @Override
+    NativeAnimationTracks impl_sampleNativeTracks() {
+        // Only simple timelines can be offloaded: all key values must target the supported node properties
+        List<KeyFrame> keyFrames = new ArrayList<>(getKeyFrames());
+        keyFrames.sort(Comparator.comparing(KeyFrame::getTime));
+        Map<WritableValue<?>, List<KeyFrame>> targetsKeyFrames = new LinkedHashMap<>();
+        List<Double> keyFrameOffsets = new ArrayList<>();
+        boolean allLinear = true;
+        double cycleMillis = getCycleDuration().toMillis();
+        for (KeyFrame keyFrame : keyFrames) {
+            for (KeyValue keyValue : keyFrame.getValues()) {
+                if (getNativeProperty(keyValue.getTarget()) < 0 || !(keyValue.getEndValue() instanceof Number))
+                    return null;
+                targetsKeyFrames.computeIfAbsent(keyValue.getTarget(), t -> new ArrayList<>()).add(keyFrame);
+                allLinear &= keyValue.getInterpolator() == Interpolator.LINEAR;
+            }
+            keyFrameOffsets.add(Math.min(1, keyFrame.getTime().toMillis() / cycleMillis));
+        }
+        double[] extraOffsets = new double[keyFrameOffsets.size() + 2];
+        for (int i = 0; i < keyFrameOffsets.size(); i++)
+            extraOffsets[i] = keyFrameOffsets.get(i);
+        extraOffsets[extraOffsets.length - 1] = 1;
+        // No need to sample linear interpolations, as the native interpolation is also linear
+        NativeAnimationTracks tracks = new NativeAnimationTracks(allLinear ? NativeAnimationTracks.sortedUniqueOffsets(extraOffsets)
+                : NativeAnimationTracks.uniformOffsets(getCycleDuration(), extraOffsets));
+        double[] offsets = tracks.getOffsets();
+        boolean atStart = getCurrentTime().toMillis() == 0;
+        for (Map.Entry<WritableValue<?>, List<KeyFrame>> targetKeyFrames : targetsKeyFrames.entrySet()) {
+            WritableValue<?> target = targetKeyFrames.getKey();
+            List<KeyFrame> targetFrames = targetKeyFrames.getValue();
+            // When the first key frame is not at 0, the timeline starts from the value the target had when it was
+            // started, which we know only if the timeline is starting now (otherwise, we stay on the normal path).
+            if (targetFrames.get(0).getTime().toMillis() > 0 && !atStart)
+                return null;
+            double startValue = ((Number) target.getValue()).doubleValue();
+            double[] values = tracks.newTrack((Node) ((ReadOnlyProperty<?>) target).getBean(), getNativeProperty(target));
+            if (values == null)
+                return null;
+            for (int i = 0, k = 0; i < offsets.length; i++) {
+                double millis = offsets[i] * cycleMillis;
+                while (k < targetFrames.size() && targetFrames.get(k).getTime().toMillis() < millis)
+                    k++;
+                if (k == targetFrames.size()) // After the last key frame => keeping its value
+                    values[i] = ((Number) getKeyValue(targetFrames.get(k - 1), target).getEndValue()).doubleValue();
+                else {
+                    KeyFrame endFrame = targetFrames.get(k);
+                    KeyValue endKeyValue = getKeyValue(endFrame, target);
+                    double endMillis = endFrame.getTime().toMillis();
+                    double endValue = ((Number) endKeyValue.getEndValue()).doubleValue();
+                    if (endMillis == millis)
+                        values[i] = endValue;
+                    else {
+                        double beginMillis = k == 0 ? 0 : targetFrames.get(k - 1).getTime().toMillis();
+                        double beginValue = k == 0 ? startValue : ((Number) getKeyValue(targetFrames.get(k - 1), target).getEndValue()).doubleValue();
+                        values[i] = endKeyValue.getInterpolator().interpolate(beginValue, endValue, (millis - beginMillis) / (endMillis - beginMillis));
+                    }
+                }
+            }
+        }
+        return tracks;
+    }
+
+    private static KeyValue getKeyValue(KeyFrame keyFrame, WritableValue<?> target) {
+        for (KeyValue keyValue : keyFrame.getValues())
+            if (keyValue.getTarget() == target)
+                return keyValue;
+        return null;
+    }
+
+    private static int getNativeProperty(WritableValue<?> target) {
+        Object bean = target instanceof ReadOnlyProperty ? ((ReadOnlyProperty<?>) target).getBean() : null;
+        if (!(bean instanceof Node))
+            return -1;
+        Node node = (Node) bean;
+        if (target == node.opacityProperty())
+            return NativeAnimationTracks.OPACITY;
+        if (target == node.translateXProperty())
+            return NativeAnimationTracks.TRANSLATE_X;
+        if (target == node.translateYProperty())
+            return NativeAnimationTracks.TRANSLATE_Y;
+        if (target == node.scaleXProperty())
+            return NativeAnimationTracks.SCALE_X;
+        if (target == node.scaleYProperty())
+            return NativeAnimationTracks.SCALE_Y;
+        if (target == node.rotateProperty())
+            return NativeAnimationTracks.ROTATE;
+        return -1;
+    }
+
     /**
      * {@inheritDoc}
      */
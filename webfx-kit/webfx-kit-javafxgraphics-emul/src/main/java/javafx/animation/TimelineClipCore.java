@@ -131,7 +131,7 @@ public class TimelineClipCore {
         if (canSkipFrames) {
             clearLastKeyFrame();
             setTime(ticks);
-            clipInterpolator.interpolate(ticks);
+            interpolateIfNotOffloaded(ticks);
             return;
         }
         aborted = false;
@@ -177,10 +177,20 @@ public class TimelineClipCore {
                 || keyFrameTicks[lastKF] != ticks || (keyFrames[lastKF]
                 .getOnFinished() == null))) {
             setTime(ticks);
-            clipInterpolator.interpolate(ticks);
+            interpolateIfNotOffloaded(ticks);
         }
     }
 
+    public void interpolate(long ticks) {
+        clipInterpolator.interpolate(ticks);
+    }
+
+    private void interpolateIfNotOffloaded(long ticks) {
+        // The unobserved properties of an offloaded timeline are interpolated only when reconciled (see NativeAnimationOffloading)
+        if (!NativeAnimationOffloading.skipsInterpolation(timeline))
+            clipInterpolator.interpolate(ticks);
+    }
+
     private void setTime(long ticks) {
         curTicks = ticks;
         AnimationAccessor.getDefault().setCurrentTicks(timeline, ticks);
@@ -13,4 +13,11 @@ public interface TimerReceiver {
      *            during one frame.
      */
     public void handle(long now);
+
+    /**
+     * Background receivers are low-priority work that is postponed when the frame budget is exceeded.
+     */
+    default boolean isBackground() {
+        return false;
+    }
 }
@@ -193,6 +193,20 @@ public abstract class Transition extends Animation {
         return cachedInterpolator.interpolate(0.0, 1.0, frac);
     }
 
+    NativeAnimationTracks newNativeTracks() {
+        // Sampling the interpolator (no need with a linear interpolator, as the native interpolation is also linear)
+        return new NativeAnimationTracks(cachedInterpolator == Interpolator.LINEAR ? new double[] { 0, 1 }
+                : NativeAnimationTracks.uniformOffsets(getCycleDuration()));
+    }
+
+    double[] calculateNativeFractions(NativeAnimationTracks tracks) {
+        double[] offsets = tracks.getOffsets();
+        double[] fractions = new double[offsets.length];
+        for (int i = 0; i < offsets.length; i++)
+            fractions[i] = cachedInterpolator.interpolate(0.0, 1.0, offsets[i]);
+        return fractions;
+    }
+
     @Override
     boolean impl_startable(boolean forceSync) {
         return super.impl_startable(forceSync)
@@ -210,7 +224,13 @@ public abstract class Transition extends Animation {
     @Override
     void impl_playTo(long currentTicks, long cycleTicks) {
         impl_setCurrentTicks(currentTicks);
-        interpolate(calculateFraction(currentTicks, cycleTicks));
+        if (!NativeAnimationOffloading.skipsInterpolation(this)) // Otherwise interpolated only when reconciled
+            interpolate(calculateFraction(currentTicks, cycleTicks));
+    }
+
+    @Override
+    void impl_interpolateCurrentTicks() {
+        interpolate(calculateFraction(impl_getCurrentTicks(), TickCalculation.fromDuration(getCycleDuration())));
     }
 
     @Override
@@ -16,6 +16,7 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.LayoutMeasurable;
 import dev.webfx.kit.mapper.peers.javafxgraphics.markers.*;
 import dev.webfx.platform.uischeduler.UiScheduler;
 import javafx.beans.property.*;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -31,6 +32,7 @@ import javafx.scene.effect.Effect;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.*;
 import javafx.scene.layout.LayoutFlags;
+import javafx.scene.transform.Affine;
 import javafx.scene.transform.Rotate;
 import javafx.scene.transform.Scale;
 import javafx.scene.transform.Transform;
@@ -73,6 +75,9 @@ public abstract class Node implements INode, EventTarget, Styleable {
         @Override
         protected void invalidated() {
             Scene newScene = getScene();
+            // Releasing the peer if the node stays out of the scene graph (or keeping it if reinserted)
+            if (nodePeer != null)
+                NodePeerLifecycle.onNodeSceneChanged(Node.this, newScene);
             // Initialising the event dispatcher if not already done
             if (newScene != null)
                 newScene.initializeInternalEventDispatcher();
@@ -169,6 +174,22 @@ public abstract class Node implements INode, EventTarget, Styleable {
         return visibleProperty;
     }
 
+    // WebFX addition: a culled node is not rendered nor picked (ex: out of the viewport of a ScrollPane with culling
+    // enabled), but unlike an invisible node, it stays unchanged in the JavaFX model (visible, layout, bounds, etc...).
+    private final BooleanProperty culledProperty = new SimpleBooleanProperty();
+
+    public ReadOnlyBooleanProperty impl_culledProperty() {
+        return culledProperty;
+    }
+
+    public boolean impl_isCulled() {
+        return culledProperty.get();
+    }
+
+    public void impl_setCulled(boolean culled) {
+        culledProperty.set(culled);
+    }
+
     private final ObjectProperty<Cursor> cursorProperty = new SimpleObjectProperty<>(impl_cssGetCursorInitialValue());
     public final void setCursor(Cursor value) {
         cursorProperty().set(value);
@@ -231,13 +252,13 @@ public abstract class Node implements INode, EventTarget, Styleable {
         return effectProperty;
     }
 
-    private final DoubleProperty layoutXProperty = new SimpleDoubleProperty();
+    private final DoubleProperty layoutXProperty = new TransformDoubleProperty(0);
     @Override
     public DoubleProperty layoutXProperty() {
         return layoutXProperty;
     }
 
-    private final DoubleProperty layoutYProperty = new SimpleDoubleProperty();
+    private final DoubleProperty layoutYProperty = new TransformDoubleProperty(0);
     @Override
     public DoubleProperty layoutYProperty() {
         return layoutYProperty;
@@ -677,7 +698,9 @@ public abstract class Node implements INode, EventTarget, Styleable {
         return style;
     }
 
-    private final ObservableList<Transform> transforms = FXCollections.observableArrayList();
+    private final ObservableList<Transform> transforms = FXCollections.observableArrayList(); {
+        transforms.addListener((ListChangeListener<Transform>) c -> invalidateLocalToParentMatrix());
+    }
     @Override
     public ObservableList<Transform> getTransforms() {
         return transforms;
@@ -748,6 +771,172 @@ public abstract class Node implements INode, EventTarget, Styleable {
         return nodeLevelTransforms;
     }
 
+    // Cached 2D affine matrices from the local coordinates to the parent and to the scene, stored as (mxx, myx, mxy,
+    // myy, tx, ty) - the same order as the CSS matrix() function. The local-to-parent matrix is invalidated by the node
+    // properties it depends on, and is also checked against the things that change without notification to the node:
+    // the rotate & scale pivot (node center) and the content of the transforms (through their versions). The local-to-scene matrix is validated against the local-to-parent one and the parent
+    // local-to-scene version (each recomputed matrix gets a new unique version), so that an ancestor change is detected
+    // by a simple walk up the ancestors, without notifying the whole subtree.
+    private static long localToSceneMatrixVersionSeq;
+    private double[] localToParentMatrix;
+    private boolean localToParentMatrixValid;
+    private double localToParentMatrixPivotX, localToParentMatrixPivotY;
+    private long localToParentMatrixTransformsVersion;
+    private double[] localToSceneMatrix;
+    private boolean localToSceneMatrixValid;
+    private long localToSceneMatrixVersion;
+    private long localToSceneMatrixParentVersion;
+    private double localToSceneMatrixOffsetX, localToSceneMatrixOffsetY;
+
+    private final class TransformDoubleProperty extends SimpleDoubleProperty {
+        TransformDoubleProperty(double initialValue) {
+            super(initialValue);
+        }
+
+        @Override
+        protected void invalidated() {
+            invalidateLocalToParentMatrix();
+        }
+    }
+
+    private void invalidateLocalToParentMatrix() {
+        localToParentMatrixValid = false;
+    }
+
+    /**
+     * Returns the cached local-to-parent matrix (mxx, myx, mxy, myy, tx, ty) equivalent to getAllNodeTransforms().
+     * The returned array is reused and must not be modified.
+     */
+    public double[] impl_getLocalToParentMatrix() {
+        double px = 0, py = 0;
+        if (getRotate() != 0 || getScaleX() != 1 || getScaleY() != 1) {
+            Bounds b = getBoundsInLocal();
+            px = (b.getMinX() + b.getMaxX()) / 2;
+            py = (b.getMinY() + b.getMaxY()) / 2;
+        }
+        long transformsVersion = computeTransformsVersion();
+        if (!localToParentMatrixValid || px != localToParentMatrixPivotX || py != localToParentMatrixPivotY
+            || transformsVersion != localToParentMatrixTransformsVersion) {
+            if (localToParentMatrix == null)
+                localToParentMatrix = new double[] { 1, 0, 0, 1, 0, 0 };
+            if (computeLocalToParentMatrix(localToParentMatrix, px, py))
+                localToSceneMatrixValid = false;
+            localToParentMatrixPivotX = px;
+            localToParentMatrixPivotY = py;
+            localToParentMatrixTransformsVersion = transformsVersion;
+            localToParentMatrixValid = true;
+        }
+        return localToParentMatrix;
+    }
+
+    // The versions only increase, so their sum changes whenever one of the transforms changes (and the list changes
+    // invalidate the matrix anyway)
+    private long computeTransformsVersion() {
+        long version = 0;
+        for (int i = 0, n = transforms.size(); i < n; i++)
+            version += transforms.get(i).impl_getVersion();
+        return version;
+    }
+
+    // Computes the matrix into m (with the passed rotate & scale pivot), and returns true if it has changed
+    private boolean computeLocalToParentMatrix(double[] m, double px, double py) {
+        // Same sequence as getAllNodeTransforms(): 1) Translation (including layout), 2) Rotation, 3) Scale, 4) transforms
+        double mxx = 1, myx = 0, mxy = 0, myy = 1;
+        double tx = getTranslateX() + getLayoutX(), ty = getTranslateY() + getLayoutY();
+        double rotate = getRotate(), scaleX = getScaleX(), scaleY = getScaleY();
+        if (rotate != 0 || scaleX != 1 || scaleY != 1) {
+            double cos = 1, sin = 0;
+            if (rotate != 0) {
+                double rads = Math.toRadians(rotate);
+                cos = Math.cos(rads);
+                sin = Math.sin(rads);
+            }
+            // translate(pivot) x rotate x scale x translate(-pivot)
+            mxx = cos * scaleX;
+            mxy = -sin * scaleY;
+            myx = sin * scaleX;
+            myy = cos * scaleY;
+            tx += px - mxx * px - mxy * py;
+            ty += py - myx * px - myy * py;
+        }
+        for (int i = 0, n = transforms.size(); i < n; i++) {
+            Transform transform = transforms.get(i);
+            if (transform instanceof Rotate && !Rotate.Z_AXIS.equals(((Rotate) transform).getAxis()))
+                continue; // 3D rotations are ignored (as in Rotate.transform())
+            Affine a = transform.toAffine(); // cached by the transform until it changes
+            double nxx = mxx * a.getMxx() + mxy * a.getMyx(), nxy = mxx * a.getMxy() + mxy * a.getMyy();
+            double nyx = myx * a.getMxx() + myy * a.getMyx(), nyy = myx * a.getMxy() + myy * a.getMyy();
+            tx += mxx * a.getTx() + mxy * a.getTy();
+            ty += myx * a.getTx() + myy * a.getTy();
+            mxx = nxx; mxy = nxy; myx = nyx; myy = nyy;
+        }
+        if (m[0] == mxx && m[1] == myx && m[2] == mxy && m[3] == myy && m[4] == tx && m[5] == ty)
+            return false;
+        m[0] = mxx; m[1] = myx; m[2] = mxy; m[3] = myy; m[4] = tx; m[5] = ty;
+        return true;
+    }
+
+    /**
+     * Returns the cached local-to-scene matrix (mxx, myx, mxy, myy, tx, ty). The returned array is reused and must not
+     * be modified.
+     */
+    public double[] impl_getLocalToSceneMatrix() {
+        double[] l = impl_getLocalToParentMatrix(); // may invalidate the local-to-scene matrix
+        Parent parent = getParent();
+        double[] p = parent == null ? null : parent.impl_getLocalToSceneMatrix();
+        long parentVersion = parent == null ? 0 : ((Node) parent).localToSceneMatrixVersion; // (private field, so accessed through Node)
+        double offsetX = impl_getLocalToSceneOffsetX(), offsetY = impl_getLocalToSceneOffsetY();
+        if (!localToSceneMatrixValid || parentVersion != localToSceneMatrixParentVersion
+            || offsetX != localToSceneMatrixOffsetX || offsetY != localToSceneMatrixOffsetY) {
+            if (localToSceneMatrix == null)
+                localToSceneMatrix = new double[6];
+            double[] m = localToSceneMatrix;
+            // parent local-to-scene x local-to-parent x translate(offset)
+            double ltx = l[0] * offsetX + l[2] * offsetY + l[4], lty = l[1] * offsetX + l[3] * offsetY + l[5];
+            if (p == null) {
+                m[0] = l[0]; m[1] = l[1]; m[2] = l[2]; m[3] = l[3]; m[4] = ltx; m[5] = lty;
+            } else {
+                m[0] = p[0] * l[0] + p[2] * l[1];
+                m[1] = p[1] * l[0] + p[3] * l[1];
+                m[2] = p[0] * l[2] + p[2] * l[3];
+                m[3] = p[1] * l[2] + p[3] * l[3];
+                m[4] = p[0] * ltx + p[2] * lty + p[4];
+                m[5] = p[1] * ltx + p[3] * lty + p[5];
+            }
+            localToSceneMatrixParentVersion = parentVersion;
+            localToSceneMatrixOffsetX = offsetX;
+            localToSceneMatrixOffsetY = offsetY;
+            localToSceneMatrixVersion = ++localToSceneMatrixVersionSeq;
+            localToSceneMatrixValid = true;
+        }
+        return localToSceneMatrix;
+    }
+
+    /**
+     * Translation applied to the local coordinates of this node (and therefore of its descendants) before they are
+     * converted into scene coordinates. This is the case for nodes scrolling their content natively (ex: ScrollPane).
+     */
+    protected double impl_getLocalToSceneOffsetX() {
+        return 0;
+    }
+
+    protected double impl_getLocalToSceneOffsetY() {
+        return 0;
+    }
+
+    private static void transform(double[] m, com.sun.javafx.geom.Point2D pt) {
+        double x = pt.x, y = pt.y;
+        pt.x = (float) (m[0] * x + m[2] * y + m[4]);
+        pt.y = (float) (m[1] * x + m[3] * y + m[5]);
+    }
+
+    private static void inverseTransform(double[] m, com.sun.javafx.geom.Point2D pt) {
+        double x = pt.x - m[4], y = pt.y - m[5];
+        double det = m[0] * m[3] - m[2] * m[1];
+        pt.x = (float) ((m[3] * x - m[2] * y) / det);
+        pt.y = (float) ((m[0] * y - m[1] * x) / det);
+    }
+
     @Override
     public void autosize() {
         if (isResizable()) {
@@ -809,7 +998,11 @@ public abstract class Node implements INode, EventTarget, Styleable {
     }
 
     void requestNextPulse() {
-        UiScheduler.requestNextScenePulse();
+        Scene scene = getScene();
+        if (scene != null) // Waking up the scene pulse if it was sleeping
+            scene.requestNextPulse();
+        else
+            UiScheduler.requestNextScenePulse();
 /*
         if (getSubScene() != null) {
             getSubScene().setDirtyLayout(p);
@@ -1309,6 +1502,31 @@ public abstract class Node implements INode, EventTarget, Styleable {
         }
     }
 
+    /**
+     * Classifies a property change of this node for the pulse profiler (the emulated properties have no name).
+     *
+     * @param property the changed property, or null for the update of all the properties (initial binding)
+     */
+    protected String impl_getPeerUpdateKind(ObservableValue property) {
+        if (property == null)
+            return "all";
+        if (property == layoutXProperty || property == layoutYProperty)
+            return "layout";
+        if (property == translateXProperty || property == translateYProperty || property == scaleXProperty
+            || property == scaleYProperty || property == scaleZProperty || property == rotateProperty)
+            return "transform";
+        if (property == opacityProperty)
+            return "opacity";
+        if (property == visibleProperty || property == culledProperty)
+            return "visibility";
+        if (property instanceof ReadOnlyProperty) {
+            String name = ((ReadOnlyProperty) property).getName();
+            if (name != null && !name.isEmpty())
+                return name;
+        }
+        return "other";
+    }
+
     private List<Consumer<NodePeer>> onNodePeerReadyHandlers;
 
     public void onNodePeerReady(Consumer<NodePeer> handler) { // handler will be called when nodePeer is set and nodePeer.getNode() doesn't return null
@@ -1477,7 +1695,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
 
     public final DoubleProperty translateXProperty() {
         if (translateXProperty == null)
-            translateXProperty = new SimpleDoubleProperty(DEFAULT_TRANSLATE_X);
+            translateXProperty = new TransformDoubleProperty(DEFAULT_TRANSLATE_X);
         return translateXProperty;
     }
 
@@ -1495,7 +1713,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
 
     public final DoubleProperty translateYProperty() {
         if (translateYProperty == null)
-            translateYProperty = new SimpleDoubleProperty(DEFAULT_TRANSLATE_Y);
+            translateYProperty = new TransformDoubleProperty(DEFAULT_TRANSLATE_Y);
         return translateYProperty;
     }
 
@@ -1529,7 +1747,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
 
     public final DoubleProperty scaleXProperty() {
         if (scaleXProperty == null)
-            scaleXProperty = new SimpleDoubleProperty(DEFAULT_SCALE_X);
+            scaleXProperty = new TransformDoubleProperty(DEFAULT_SCALE_X);
         return scaleXProperty;
     }
 
@@ -1562,7 +1780,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
      */
     public final DoubleProperty scaleYProperty() {
         if (scaleYProperty == null)
-            scaleYProperty = new SimpleDoubleProperty(DEFAULT_SCALE_Y);
+            scaleYProperty = new TransformDoubleProperty(DEFAULT_SCALE_Y);
         return scaleYProperty;
     }
 
@@ -1613,7 +1831,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
 
     public final DoubleProperty rotateProperty() {
         if (rotateProperty == null)
-            rotateProperty = new SimpleDoubleProperty(DEFAULT_ROTATE);
+            rotateProperty = new TransformDoubleProperty(DEFAULT_ROTATE);
         return rotateProperty;
     }
 
@@ -1989,10 +2207,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
     }
 
     protected void localToScene(com.sun.javafx.geom.Point2D pt) {
-        localToParent(pt);
-        if (getParent() != null) {
-            getParent().localToScene(pt);
-        }
+        transform(impl_getLocalToSceneMatrix(), pt);
     }
 
     /**
@@ -2000,14 +2215,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
      * coords. Made package private for the sake of testing.
      */
     public void localToParent(com.sun.javafx.geom.Point2D pt) {
-        // Note: we need to iterate all Node transforms in the inverse order
-        List<Transform> transforms = getAllNodeTransforms();
-        for (int i = transforms.size() - 1; i >= 0; i--) {
-            Transform transform = transforms.get(i);
-            com.sun.javafx.geom.Point2D p = transform.transform(pt);
-            pt.x = p.x;
-            pt.y = p.y;
-        }
+        transform(impl_getLocalToParentMatrix(), pt);
     }
 
     public Point2D localToParent(Point2D pt) {
@@ -2035,20 +2243,11 @@ public abstract class Node implements INode, EventTarget, Styleable {
     }
 
     protected void sceneToLocal(com.sun.javafx.geom.Point2D pt) {
-        if (getParent() != null) {
-            getParent().sceneToLocal(pt);
-        }
-        parentToLocal(pt);
+        inverseTransform(impl_getLocalToSceneMatrix(), pt);
     }
 
     void parentToLocal(com.sun.javafx.geom.Point2D pt) {
-//        List<Transform> transforms = localToParentTransforms();
-        for (Transform transform : getAllNodeTransforms()) {
-//        for (int i = transforms.size() - 1; i >= 0; i--) { Transform transform = transforms.get(i);
-            com.sun.javafx.geom.Point2D p = transform.inverseTransform(pt);
-            pt.x = p.x;
-            pt.y = p.y;
-        }
+        inverseTransform(impl_getLocalToParentMatrix(), pt);
     }
 
     public Point2D parentToLocal(double x, double y) {
@@ -0,0 +1,136 @@
+package javafx.scene;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
+import dev.webfx.platform.scheduler.Scheduled;
+import dev.webfx.platform.uischeduler.UiScheduler;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Peer lifecycle (WebFX extension). When a node is removed from the scene graph, its peer (with its DOM element and
+ * the listeners it registered on the node) is kept for a grace period, so that the node can be reinserted at no cost
+ * (ex: a view that is just moved or quickly swapped back). Once that period has elapsed, the peer is unbound (which
+ * unregisters its listeners) and released from the node. If the node is reinserted later, a new peer is then lazily
+ * created and bound again, like for a new node. This prevents long-running applications that keep swapping views from
+ * accumulating the peers of all the views that have ever been displayed.
+ * <p>
+ * Peers holding a state that is not in the node (ex: canvas, web view) are never released.
+ *
+ * @author Bruno Salmon
+ */
+public final class NodePeerLifecycle {
+
+    private static final long DEFAULT_RELEASE_DELAY_MILLIS = 30_000;
+
+    // Nodes removed from the scene graph with a peer, associated with their removal time (so in chronological order)
+    private static final Map<Node, Long> DETACHED_NODES = new LinkedHashMap<>();
+    private static boolean enabled = true;
+    private static long releaseDelayMillis = DEFAULT_RELEASE_DELAY_MILLIS;
+    private static Scheduled releaseScheduled;
+    private static long releasedPeerCount;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        NodePeerLifecycle.enabled = enabled;
+        if (!enabled) {
+            DETACHED_NODES.clear();
+            cancelScheduledRelease();
+        }
+    }
+
+    public static long getReleaseDelayMillis() {
+        return releaseDelayMillis;
+    }
+
+    /**
+     * @param releaseDelayMillis the grace period during which the peer of a node removed from the scene graph is kept
+     */
+    public static void setReleaseDelayMillis(long releaseDelayMillis) {
+        NodePeerLifecycle.releaseDelayMillis = Math.max(0, releaseDelayMillis);
+        if (!DETACHED_NODES.isEmpty()) {
+            cancelScheduledRelease();
+            releaseExpiredPeers();
+        }
+    }
+
+    /**
+     * @return the number of nodes removed from the scene graph whose peer is waiting for its release
+     */
+    public static int getPendingReleaseCount() {
+        return DETACHED_NODES.size();
+    }
+
+    public static long getReleasedPeerCount() {
+        return releasedPeerCount;
+    }
+
+    /**
+     * Releases immediately the peers of all the nodes that are currently out of the scene graph (without waiting for
+     * the end of the grace period).
+     */
+    public static void releaseDetachedPeersNow() {
+        cancelScheduledRelease();
+        while (!DETACHED_NODES.isEmpty()) {
+            Iterator<Node> it = DETACHED_NODES.keySet().iterator();
+            Node node = it.next();
+            it.remove();
+            releasePeer(node);
+        }
+    }
+
+    // Called by Node when its scene changes (only if it has a peer)
+    static void onNodeSceneChanged(Node node, Scene newScene) {
+        if (!enabled)
+            return;
+        if (newScene != null) // Reinserted in the scene graph (the peer is still bound, so nothing else to do)
+            DETACHED_NODES.remove(node);
+        else if (!DETACHED_NODES.containsKey(node)) {
+            DETACHED_NODES.put(node, System.currentTimeMillis());
+            if (releaseScheduled == null)
+                scheduleRelease(releaseDelayMillis);
+        }
+    }
+
+    private static void scheduleRelease(long delayMillis) {
+        releaseScheduled = UiScheduler.scheduleDelay(delayMillis, () -> {
+            releaseScheduled = null;
+            releaseExpiredPeers();
+        });
+    }
+
+    private static void cancelScheduledRelease() {
+        if (releaseScheduled != null) {
+            releaseScheduled.cancel();
+            releaseScheduled = null;
+        }
+    }
+
+    private static void releaseExpiredPeers() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Map.Entry<Node, Long>> it = DETACHED_NODES.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Node, Long> entry = it.next();
+            long remainingMillis = entry.getValue() + releaseDelayMillis - now;
+            if (remainingMillis > 0) { // The next nodes were removed even later, so we stop here until that time
+                scheduleRelease(remainingMillis);
+                return;
+            }
+            it.remove();
+            releasePeer(entry.getKey());
+        }
+    }
+
+    private static void releasePeer(Node node) {
+        NodePeer nodePeer = node.getNodePeer();
+        // Checking the node is still out of the scene graph (the reinsertion should have removed it from the map anyway)
+        if (nodePeer == null || node.getScene() != null || !nodePeer.isReleasable())
+            return;
+        node.setNodePeer(null); // A new peer will be created if the node is reinserted into the scene graph
+        nodePeer.unbind();
+        releasedPeerCount++;
+    }
+}
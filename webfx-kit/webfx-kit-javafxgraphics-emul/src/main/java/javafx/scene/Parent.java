@@ -196,7 +196,7 @@ public class Parent extends Node {
 
     private void markDirtyLayout(boolean local) {
         setLayoutFlag(LayoutFlags.NEEDS_LAYOUT);
-        if (local || layoutRoot) {
+        if (local || layoutRoot || isRelayoutBoundary()) {
             if (sceneRoot)
                 requestNextPulse();
             else
@@ -219,6 +219,28 @@ public class Parent extends Node {
         markDirtyLayout(false);
     }
 
+    /**
+     * Indicates that the size of this parent doesn't depend on its children, so a layout request coming from its
+     * content doesn't need to be propagated to the ancestors. In that case, the ancestors are just marked as a dirty
+     * branch, and this parent is laid out as its own layout root on next pulse, so the layout cost of a localized
+     * change is proportional to this subtree and not to the whole scene. Returns false by default (see Region).
+     * Note: the changes of this parent size constraints are still propagated (see requestParentLayout()).
+     */
+    protected boolean isRelayoutBoundary() {
+        return false;
+    }
+
+    /**
+     * Indicates if the layout of this parent (or its own baseline, if its parent depends on it) depends on the baseline
+     * offset of this child. Such a child can't be a relayout boundary even with a fixed size, because its baseline can
+     * still change with its content. By default, the baseline offset of a parent is computed from its first managed
+     * child (see getBaselineOffset()), so it depends on the children baselines only if its own parent depends on it.
+     */
+    public boolean impl_dependsOnChildBaseline(Node child) {
+        Parent parent = getParent();
+        return parent != null && parent.impl_dependsOnChildBaseline(this);
+    }
+
     /**
      * Requests a layout pass of the parent to be performed before the next scene is
      * rendered. This is batched up asynchronously to happen once per
@@ -250,6 +272,7 @@ public class Parent extends Node {
     protected double impl_prefWidth(double height) {
         if (height == -1) {
             if (prefWidthCache == -1) {
+                PulseProfiler.count(PulseProfiler.Counter.PREF_SIZE_COMPUTATIONS);
                 prefWidthCache = computePrefWidth(-1);
                 if (Double.isNaN(prefWidthCache) || prefWidthCache < 0)
                     prefWidthCache = 0;
@@ -257,6 +280,7 @@ public class Parent extends Node {
             }
             return prefWidthCache;
         }
+        PulseProfiler.count(PulseProfiler.Counter.PREF_SIZE_COMPUTATIONS);
         double result = computePrefWidth(height);
         return Double.isNaN(result) || result < 0 ? 0 : result;
     }
@@ -265,6 +289,7 @@ public class Parent extends Node {
     protected double impl_prefHeight(double width) {
         if (width == -1) {
             if (prefHeightCache == -1) {
+                PulseProfiler.count(PulseProfiler.Counter.PREF_SIZE_COMPUTATIONS);
                 prefHeightCache = computePrefHeight(-1);
                 if (Double.isNaN(prefHeightCache) || prefHeightCache < 0)
                     prefHeightCache = 0;
@@ -272,6 +297,7 @@ public class Parent extends Node {
             }
             return prefHeightCache;
         }
+        PulseProfiler.count(PulseProfiler.Counter.PREF_SIZE_COMPUTATIONS);
         double result = computePrefHeight(width);
         return Double.isNaN(result) || result < 0 ? 0 : result;
     }
@@ -421,6 +447,7 @@ public class Parent extends Node {
                     resizableNode.setHeight(prefHeight);
                 }
                 layoutChildren();
+                PulseProfiler.count(PulseProfiler.Counter.LAID_OUT_NODES);
                 // Intended fall-through
             case DIRTY_BRANCH:
                 for (Node child : new ArrayList<>(children)) {
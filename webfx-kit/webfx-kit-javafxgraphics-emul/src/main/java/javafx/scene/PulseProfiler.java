@@ -0,0 +1,293 @@
+package javafx.scene;
+
+import dev.webfx.platform.uischeduler.UiScheduler;
+import javafx.beans.value.ObservableValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-frame profiler of the pulse (WebFX extension). When enabled, it records for each frame the time spent in the
+ * different phases (animation timers, deferred property changes, peer updates, CSS and layout passes) and the amount of
+ * work done (nodes laid out, preferred sizes computed, DOM measurements, peer updates, DOM children mutations). The last
+ * frames are kept in a rolling history, from which a frame time histogram can be computed. The peer updates are also
+ * counted by property kind since the last reset. The phases can be nested (ex: property changes applied during the
+ * layout pass), in which case the time of the nested phase is not counted in the enclosing one.
+ * <p>
+ * The instrumentation calls are spread over the toolkit, but they all return immediately when the profiler is disabled
+ * (which is the default), so they cost nothing in production.
+ *
+ * @author Bruno Salmon
+ */
+public final class PulseProfiler {
+
+    public enum Phase { ANIMATIONS, PROPERTY_CHANGES, PEER_UPDATES, CSS, LAYOUT }
+
+    public enum Counter { LAID_OUT_NODES, PREF_SIZE_COMPUTATIONS, DOM_MEASUREMENTS, PEER_UPDATES, DOM_CHILD_MUTATIONS }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private static final int FRAME_HISTORY_SIZE = 600; // 10s at 60 fps
+    // Upper bounds (exclusive) of the frame time histogram buckets, the last bucket collecting the longer frames
+    private static final double[] HISTOGRAM_BUCKET_BOUNDS_MILLIS = { 4, 8, 16.7, 33.3, 50 };
+
+    private static boolean enabled;
+    private static final long[] framePhaseNanos = new long[PHASES.length];
+    private static final int[] frameCounts = new int[COUNTERS.length];
+    private static final FrameSample[] frameHistory = new FrameSample[FRAME_HISTORY_SIZE];
+    private static int frameHistoryIndex; // index of the next sample to write
+    private static long frameCount;
+    private static final Map<String, Long> peerUpdatesByKind = new LinkedHashMap<>();
+    // Time spent in the nested phases, for each phase in progress (the last one being the innermost)
+    private static final long[] nestedPhaseNanos = new long[PHASES.length * 2];
+    private static int phaseDepth;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        if (enabled != PulseProfiler.enabled) {
+            PulseProfiler.enabled = enabled;
+            clearCurrentFrame();
+        }
+    }
+
+    /**
+     * Clears the frame history and the peer updates by kind.
+     */
+    public static void reset() {
+        clearCurrentFrame();
+        Arrays.fill(frameHistory, null);
+        frameHistoryIndex = 0;
+        frameCount = 0;
+        frameOpen = false;
+        peerUpdatesByKind.clear();
+    }
+
+    // ========================================== Instrumentation API ==========================================
+
+    /**
+     * @return the start time of the phase to pass to {@link #endPhase(Phase, long)}, or 0 if the profiler is disabled.
+     */
+    public static long startPhase() {
+        if (!enabled)
+            return 0;
+        if (phaseDepth < nestedPhaseNanos.length)
+            nestedPhaseNanos[phaseDepth] = 0;
+        phaseDepth++;
+        return System.nanoTime();
+    }
+
+    public static void endPhase(Phase phase, long startNanos) {
+        if (!enabled || startNanos == 0)
+            return;
+        long phaseNanos = System.nanoTime() - startNanos;
+        long nestedNanos = 0;
+        if (phaseDepth > 0 && --phaseDepth < nestedPhaseNanos.length)
+            nestedNanos = nestedPhaseNanos[phaseDepth];
+        framePhaseNanos[phase.ordinal()] += phaseNanos - nestedNanos;
+        if (phaseDepth > 0 && phaseDepth <= nestedPhaseNanos.length)
+            nestedPhaseNanos[phaseDepth - 1] += phaseNanos;
+    }
+
+    public static void count(Counter counter) {
+        if (enabled)
+            frameCounts[counter.ordinal()]++;
+    }
+
+    public static void count(Counter counter, int n) {
+        if (enabled)
+            frameCounts[counter.ordinal()] += n;
+    }
+
+    static void countPeerUpdate(Node node, ObservableValue changedProperty) {
+        if (enabled)
+            countPeerUpdate(node.impl_getPeerUpdateKind(changedProperty));
+    }
+
+    static void countPeerListUpdate() {
+        if (enabled)
+            countPeerUpdate("list");
+    }
+
+    private static void countPeerUpdate(String kind) {
+        frameCounts[Counter.PEER_UPDATES.ordinal()]++;
+        Long count = peerUpdatesByKind.get(kind);
+        peerUpdatesByKind.put(kind, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Wraps the runnable so that its execution time is recorded in the passed phase (the runnable is returned as is if
+     * the profiler is disabled).
+     */
+    public static Runnable profile(Phase phase, Runnable runnable) {
+        if (!enabled)
+            return runnable;
+        return () -> {
+            long start = startPhase();
+            try {
+                runnable.run();
+            } finally {
+                endPhase(phase, start);
+            }
+        };
+    }
+
+    private static boolean frameOpen; // true if the current frame has begun (and is not closed yet)
+    private static boolean frameEndScheduled;
+
+    /**
+     * Called by the master timer at the beginning of each animation frame where it plays the animations. The previous
+     * frame is closed here if it is still open, so that each animation frame is recorded as one frame.
+     */
+    public static void beginAnimationFrame() {
+        if (!enabled)
+            return;
+        endFrame();
+        frameOpen = true;
+    }
+
+    // Called by each scene at the end of its pulse. All the scene pulses of an animation frame run in that same frame,
+    // so the frame is closed once after them (and not once per scene). The master timer may also close it before, if
+    // the next animation frame starts first.
+    static void endScenePulse() {
+        if (!enabled)
+            return;
+        frameOpen = true;
+        if (!frameEndScheduled) {
+            frameEndScheduled = true;
+            long frameNumber = frameCount;
+            UiScheduler.scheduleDeferred(() -> {
+                frameEndScheduled = false;
+                if (frameCount == frameNumber) // otherwise already closed by the master timer
+                    endFrame();
+            });
+        }
+    }
+
+    // The work done since the previous frame (animations, property changes, peer updates, CSS and layout passes of the
+    // same animation frame) is recorded as one frame.
+    private static void endFrame() {
+        if (!enabled || !frameOpen)
+            return;
+        frameHistory[frameHistoryIndex] = new FrameSample(++frameCount, framePhaseNanos.clone(), frameCounts.clone());
+        frameHistoryIndex = (frameHistoryIndex + 1) % FRAME_HISTORY_SIZE;
+        clearCurrentFrame();
+        frameOpen = false;
+    }
+
+    private static void clearCurrentFrame() {
+        Arrays.fill(framePhaseNanos, 0);
+        Arrays.fill(frameCounts, 0);
+        phaseDepth = 0; // The frames are closed between the phases (this also recovers from a phase not ended)
+    }
+
+    // ============================================== Reporting API ==============================================
+
+    /**
+     * @return the number of frames recorded since the last reset (including those no longer in the history).
+     */
+    public static long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return the frames of the rolling history, from the oldest to the most recent one.
+     */
+    public static FrameSample[] getFrameHistory() {
+        int size = (int) Math.min(frameCount, FRAME_HISTORY_SIZE);
+        FrameSample[] samples = new FrameSample[size];
+        for (int i = 0; i < size; i++)
+            samples[i] = frameHistory[(frameHistoryIndex - size + i + FRAME_HISTORY_SIZE) % FRAME_HISTORY_SIZE];
+        return samples;
+    }
+
+    /**
+     * @return the most recent frame, or null if no frame has been recorded yet.
+     */
+    public static FrameSample getLastFrame() {
+        return frameCount == 0 ? null : frameHistory[(frameHistoryIndex - 1 + FRAME_HISTORY_SIZE) % FRAME_HISTORY_SIZE];
+    }
+
+    /**
+     * @return the upper bounds (exclusive) in milliseconds of the histogram buckets, except the last bucket which has
+     * no upper bound.
+     */
+    public static double[] getHistogramBucketBoundsMillis() {
+        return HISTOGRAM_BUCKET_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * @return the number of frames of the rolling history per frame time bucket.
+     */
+    public static int[] getFrameTimeHistogram() {
+        int[] histogram = new int[HISTOGRAM_BUCKET_BOUNDS_MILLIS.length + 1];
+        for (FrameSample sample : getFrameHistory()) {
+            double millis = sample.getTotalMillis();
+            int bucket = 0;
+            while (bucket < HISTOGRAM_BUCKET_BOUNDS_MILLIS.length && millis >= HISTOGRAM_BUCKET_BOUNDS_MILLIS[bucket])
+                bucket++;
+            histogram[bucket]++;
+        }
+        return histogram;
+    }
+
+    /**
+     * @return the average time in milliseconds spent in the passed phase over the rolling history.
+     */
+    public static double getAveragePhaseMillis(Phase phase) {
+        FrameSample[] samples = getFrameHistory();
+        if (samples.length == 0)
+            return 0;
+        double sum = 0;
+        for (FrameSample sample : samples)
+            sum += sample.getPhaseMillis(phase);
+        return sum / samples.length;
+    }
+
+    /**
+     * @return the number of peer updates per property kind (ex: "layout", "transform", "size", "all" for the initial
+     * binding) since the last reset.
+     */
+    public static Map<String, Long> getPeerUpdatesByKind() {
+        return Collections.unmodifiableMap(peerUpdatesByKind);
+    }
+
+    public static final class FrameSample {
+        private final long frameNumber;
+        private final long[] phaseNanos;
+        private final int[] counts;
+
+        private FrameSample(long frameNumber, long[] phaseNanos, int[] counts) {
+            this.frameNumber = frameNumber;
+            this.phaseNanos = phaseNanos;
+            this.counts = counts;
+        }
+
+        public long getFrameNumber() {
+            return frameNumber;
+        }
+
+        public double getPhaseMillis(Phase phase) {
+            return phaseNanos[phase.ordinal()] / 1_000_000d;
+        }
+
+        public int getCount(Counter counter) {
+            return counts[counter.ordinal()];
+        }
+
+        /**
+         * @return the time spent in all the phases of this frame, in milliseconds.
+         */
+        public double getTotalMillis() {
+            long totalNanos = 0;
+            for (long nanos : phaseNanos)
+                totalNanos += nanos;
+            return totalNanos / 1_000_000d;
+        }
+    }
+}
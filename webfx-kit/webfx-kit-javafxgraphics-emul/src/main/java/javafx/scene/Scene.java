@@ -35,6 +35,7 @@ import javafx.geometry.Orientation;
 import javafx.scene.input.*;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.LayoutFlags;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
@@ -658,7 +659,12 @@ public class Scene implements EventTarget,
 
         @Override
         public void requestNodePeerPropertyUpdate(Node node, ObservableValue changedProperty) {
-            executePropertyChange(() -> getScene(node).updateViewProperty(node, changedProperty));
+            // Changes requested during the animation frame are applied immediately (as before). Other changes are
+            // coalesced in the dirty set drained on next pulse, unless the pulse is not running (ex: scene not shown).
+            if (UiScheduler.isAnimationFrameNow() || !isPulseRunning())
+                executePropertyChange(() -> getScene(node).updateViewProperty(node, changedProperty));
+            else
+                markNodePeerPropertyDirty(node, changedProperty);
         }
 
         @Override
@@ -670,10 +676,12 @@ public class Scene implements EventTarget,
         }
 
         private void executePropertyChange(Runnable runnable) {
-            if (UiScheduler.isAnimationFrameNow())
+            if (UiScheduler.isAnimationFrameNow()) {
+                long start = PulseProfiler.startPhase();
                 runnable.run();
-            else
-                UiScheduler.schedulePropertyChangeInAnimationFrame(runnable);
+                PulseProfiler.endPhase(PulseProfiler.Phase.PROPERTY_CHANGES, start);
+            } else
+                UiScheduler.schedulePropertyChangeInAnimationFrame(PulseProfiler.profile(PulseProfiler.Phase.PROPERTY_CHANGES, runnable));
         }
     };
 
@@ -681,6 +689,53 @@ public class Scene implements EventTarget,
         return sceneRequester;
     }
 
+    // Dirty set of (node, property) pairs requested outside the animation frame and waiting for the next pulse to
+    // update their peers. A null property stands for all the node properties (initial binding). Using a set ensures
+    // that each property gets at most one peer update per frame, however many times it changed meanwhile.
+    private final Map<Node, Set<ObservableValue>> dirtyNodePeerProperties = new LinkedHashMap<>();
+    private long coalescedNodePeerPropertyUpdatesCount;
+
+    private void markNodePeerPropertyDirty(Node node, ObservableValue changedProperty) {
+        boolean firstDirtyNode = dirtyNodePeerProperties.isEmpty();
+        Set<ObservableValue> dirtyProperties = dirtyNodePeerProperties.get(node);
+        if (dirtyProperties == null)
+            dirtyNodePeerProperties.put(node, dirtyProperties = new LinkedHashSet<>());
+        if (dirtyProperties.contains(null)) // All properties will be updated anyway
+            coalescedNodePeerPropertyUpdatesCount++;
+        else if (changedProperty == null) { // Full update requested => supersedes the individual properties updates
+            coalescedNodePeerPropertyUpdatesCount += dirtyProperties.size();
+            dirtyProperties.clear();
+            dirtyProperties.add(null);
+        } else if (!dirtyProperties.add(changedProperty))
+            coalescedNodePeerPropertyUpdatesCount++;
+        if (firstDirtyNode)
+            requestNextPulse();
+    }
+
+    private void updateDirtyNodePeerProperties() {
+        if (dirtyNodePeerProperties.isEmpty())
+            return;
+        // Copying the entries first, as updating the peers may request new property changes
+        List<Map.Entry<Node, Set<ObservableValue>>> dirtyEntries = new ArrayList<>(dirtyNodePeerProperties.entrySet());
+        dirtyNodePeerProperties.clear();
+        for (Map.Entry<Node, Set<ObservableValue>> entry : dirtyEntries) {
+            Node node = entry.getKey();
+            Scene scene = node.getScene() != null ? node.getScene() : this; // same redirection as sceneRequester
+            for (ObservableValue changedProperty : entry.getValue())
+                scene.updateViewProperty(node, changedProperty);
+        }
+    }
+
+    /**
+     * Returns the number of peer property updates that have been saved so far by coalescing several changes of the
+     * same node property occurring between two pulses into a single update.
+     *
+     * @return the number of coalesced peer property updates
+     */
+    public long getCoalescedNodePeerPropertyUpdatesCount() {
+        return coalescedNodePeerPropertyUpdatesCount;
+    }
+
     void updateParentAndChildrenPeers(Parent parent, ListChangeListener.Change<? extends Node> childrenChange) {
         ScenePeer scenePeer = impl_getPeer();
         if (scenePeer != null && parent.getNodePeer() != null) {
@@ -689,9 +744,10 @@ public class Scene implements EventTarget,
     }
 
     private boolean updateViewProperty(Node node, ObservableValue changedProperty) {
+        PulseProfiler.countPeerUpdate(node, changedProperty);
         boolean hitChangedProperty = updateViewProperty(getOrCreateAndBindNodePeer(node), changedProperty);
         if (hitChangedProperty || changedProperty == null)
-            impl_getPeer().onPropertyHit();
+            impl_getPeer().onNodePropertyHit(node, changedProperty);
         return hitChangedProperty;
     }
 
@@ -700,6 +756,7 @@ public class Scene implements EventTarget,
     }
 
     private boolean updateViewList(Node node, ObservableList changedList, ListChangeListener.Change change) {
+        PulseProfiler.countPeerListUpdate();
         return updateViewList(getOrCreateAndBindNodePeer(node), changedList, change);
     }
 
@@ -766,18 +823,99 @@ public class Scene implements EventTarget,
         return nodeReplacer;
     }
 
+    // The scene pulse is demand-driven: once started (i.e. when the window is shown), it is woken up by the requests
+    // that make the scene dirty (layout requests, peer property updates, etc...) and runs at each animation frame until
+    // a frame doesn't request anything anymore, after which it goes back to sleep. So a static scene costs nothing.
+    private boolean pulseStarted;
     private Scheduled pulseScheduled;
+    private boolean pulseRequested;
+    private boolean pulseInProgress;
+    private long pulseCount;
+    private long pulseWakeUpCount;
 
     public boolean isPulseRunning() {
+        return pulseStarted;
+    }
+
+    /**
+     * @return true if the pulse is currently scheduled at each animation frame, false if it is sleeping (or stopped).
+     */
+    public boolean isPulseAwake() {
         return pulseScheduled != null;
     }
 
+    /**
+     * @return true while the pulse is being run (i.e. the peers will be notified by ScenePeer.onAfterPulse() before
+     * the end of this animation frame).
+     */
+    public boolean isPulseInProgress() {
+        return pulseInProgress;
+    }
+
+    /**
+     * @return the number of pulses that have been run so far on this scene.
+     */
+    public long getPulseCount() {
+        return pulseCount;
+    }
+
+    /**
+     * @return the number of times the pulse has been woken up after having gone to sleep.
+     */
+    public long getPulseWakeUpCount() {
+        return pulseWakeUpCount;
+    }
+
     public void startPulse() {
-        if (pulseScheduled == null)
-            pulseScheduled = UiScheduler.schedulePeriodicInAnimationFrame(scenePulseListener::pulse, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+        if (!pulseStarted) {
+            pulseStarted = true;
+            requestNextPulse(); // First pulse (initial layout)
+        }
     }
 
     public void stopPulse() {
+        if (pulseStarted) {
+            pulseStarted = false;
+            sleepPulse();
+            // The pending changes won't be drained by the pulse anymore, so we postpone them like other changes
+            if (!dirtyNodePeerProperties.isEmpty())
+                UiScheduler.schedulePropertyChangeInAnimationFrame(this::updateDirtyNodePeerProperties);
+        }
+    }
+
+    /**
+     * Requests a pulse on the next animation frame, waking up the scene pulse if it was sleeping.
+     */
+    public void requestNextPulse() {
+        pulseRequested = true;
+        if (pulseStarted && pulseScheduled == null) {
+            pulseScheduled = UiScheduler.schedulePeriodicInAnimationFrame(this::runPulse, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+            pulseWakeUpCount++;
+        }
+        UiScheduler.requestNextScenePulse();
+    }
+
+    private void runPulse() {
+        pulseRequested = false;
+        pulseCount++;
+        pulseInProgress = true;
+        try {
+            scenePulseListener.pulse();
+        } finally {
+            pulseInProgress = false;
+        }
+        PulseProfiler.endScenePulse();
+        // Going back to sleep after a clean frame (i.e. nothing has been requested during this pulse)
+        if (!pulseRequested && isPulseClean())
+            sleepPulse();
+    }
+
+    private boolean isPulseClean() {
+        Parent root = getRoot();
+        return dirtyNodePeerProperties.isEmpty() && (root == null || root.layoutFlag == LayoutFlags.CLEAN);
+    }
+
+    private void sleepPulse() {
         if (pulseScheduled != null) {
             pulseScheduled.cancel();
             pulseScheduled = null;
@@ -1045,53 +1183,38 @@ public class Scene implements EventTarget,
         }
 */
 
+        // WebFX: the OpenJFX pulse logging and performance tracking are replaced by PulseProfiler (the time spent in
+        // each phase and the work done are recorded per frame when it is enabled).
         @Override
         public void pulse() {
             impl_getPeer().onBeforePulse();
 
-/*
-            if (Scene.this.tracker != null) {
-                Scene.this.tracker.pulse();
-            }
-            if (firstPulse) {
-                PerformanceTracker.logEvent("Scene - first repaint");
-            }
+            long start = PulseProfiler.startPhase();
+            Scene.this.updateDirtyNodePeerProperties();
+            PulseProfiler.endPhase(PulseProfiler.Phase.PEER_UPDATES, start);
 
+/*
             focusCleanup();
 
             disposeAccessibles();
-
-            if (PULSE_LOGGING_ENABLED) {
-                PulseLogger.newPhase("CSS Pass");
-            }
 */
+            start = PulseProfiler.startPhase();
             Scene.this.doCSSPass();
+            PulseProfiler.endPhase(PulseProfiler.Phase.CSS, start);
 
-/*
-            if (PULSE_LOGGING_ENABLED) {
-                PulseLogger.newPhase("Layout Pass");
-            }
-*/
+            start = PulseProfiler.startPhase();
             Scene.this.doLayoutPass();
+            PulseProfiler.endPhase(PulseProfiler.Phase.LAYOUT, start);
 
 /*
             boolean dirty = dirtyNodes == null || dirtyNodesSize != 0 || !isDirtyEmpty();
             if (dirty) {
-                if (PULSE_LOGGING_ENABLED) {
-                    PulseLogger.newPhase("Update bounds");
-                }
                 getRoot().updateBounds();
                 if (impl_peer != null) {
                     try {
-                        if (PULSE_LOGGING_ENABLED) {
-                            PulseLogger.newPhase("Waiting for previous rendering");
-                        }
                         impl_peer.waitForRenderingToComplete();
                         impl_peer.waitForSynchronization();
                         // synchronize scene properties
-                        if (PULSE_LOGGING_ENABLED) {
-                            PulseLogger.newPhase("Copy state to render graph");
-                        }
                         syncLights();
                         synchronizeSceneProperties();
                         // Run the synchronizer
@@ -1103,9 +1226,6 @@ public class Scene implements EventTarget,
                         impl_peer.releaseSynchronization(true);
                     }
                 } else {
-                    if (PULSE_LOGGING_ENABLED) {
-                        PulseLogger.newPhase("Synchronize with null peer");
-                    }
                     synchronizeSceneNodes();
                     Scene.this.mouseHandler.pulse();
                 }
@@ -1120,19 +1240,6 @@ public class Scene implements EventTarget,
             // required for image cursor created from animated image
             Scene.this.mouseHandler.updateCursorFrame();
 
-            if (firstPulse) {
-                if (PerformanceTracker.isLoggingEnabled()) {
-                    PerformanceTracker.logEvent("Scene - first repaint - layout complete");
-                    if (PrismSettings.perfLogFirstPaintFlush) {
-                        PerformanceTracker.outputLog();
-                    }
-                    if (PrismSettings.perfLogFirstPaintExit) {
-                        System.exit(0);
-                    }
-                }
-                firstPulse = false;
-            }
-
             if (testPulseListener != null) {
                 testPulseListener.run();
             }
@@ -2390,12 +2497,21 @@ public class Scene implements EventTarget,
     private static class SnapshotChange<E> extends SourceAdapterChange<E> {
 
         private final List<E> snapshotList;
+        private ObservableList<E> observableSnapshotList;
 
         SnapshotChange(ListChangeListener.Change<E> change) {
             super(change.getList(), change);
             snapshotList = new ArrayList<>(change.getList());
         }
 
+        @Override
+        public ObservableList<E> getList() {
+            // The list as it was when the change was recorded, so the added and permuted ranges still match it
+            if (observableSnapshotList == null)
+                observableSnapshotList = FXCollections.observableList(snapshotList);
+            return observableSnapshotList;
+        }
+
         @Override
         public List<E> getAddedSubList() {
             return wasAdded()? snapshotList.subList(getFrom(), getTo()) : java.util.Collections.emptyList();
@@ -54,35 +54,83 @@ public abstract class AbstractPixelWriter implements PixelWriter {
         throw new UnsupportedOperationException("setColor() in " + getClass());
     }
 
+    /**
+     * Writes a row of pixels. The default implementation writes them one by one, but subclasses should override it
+     * to write the whole row directly into their underlying pixel storage. The callers mark the image dirty once.
+     */
+    protected void setArgbRow(int x, int y, int[] argbRow, int offset, int w) {
+        for (int i = 0; i < w; i++)
+            setArgbImpl(x + i, y, argbRow[offset + i]);
+    }
+
     @Override
     public <T extends Buffer> void setPixels(int x, int y, int w, int h, PixelFormat<T> pixelformat, T buffer, int scanlineStride) {
-        throw new UnsupportedOperationException("setPixels() in " + getClass());
+        int[] argbRow = new int[w];
+        for (int y0 = 0; y0 < h; y0++) {
+            for (int x0 = 0; x0 < w; x0++)
+                argbRow[x0] = pixelformat.getArgb(buffer, x0, y0, scanlineStride);
+            setArgbRow(x, y + y0, argbRow, 0, w);
+        }
+        markImageCanvasDirty();
     }
 
     @Override
     public void setPixels(int x, int y, int w, int h, PixelFormat<ByteBuffer> pixelformat, byte[] buffer, int offset, int scanlineStride) {
-        ByteBuffer buf = ByteBuffer.wrap(buffer, offset, h * scanlineStride);
-        for (int y0 = 0; y0 < h; y0++)
-            for (int x0 = 0; x0 < w; x0++)
-                setArgbImpl(x + x0, y + y0, pixelformat.getArgb(buf, x0, y0, scanlineStride));
+        int[] argbRow = new int[w];
+        PixelFormat.Type type = pixelformat.getType();
+        ByteBuffer buf = null;
+        for (int y0 = 0; y0 < h; y0++) {
+            int index = offset + y0 * scanlineStride;
+            switch (type) {
+                case BYTE_BGRA:
+                case BYTE_BGRA_PRE:
+                    boolean premultiplied = type == PixelFormat.Type.BYTE_BGRA_PRE;
+                    for (int x0 = 0; x0 < w; x0++, index += 4) {
+                        int argb = (buffer[index + 3] & 0xff) << 24 | (buffer[index + 2] & 0xff) << 16 | (buffer[index + 1] & 0xff) << 8 | (buffer[index] & 0xff);
+                        argbRow[x0] = premultiplied ? PixelFormat.PretoNonPre(argb) : argb;
+                    }
+                    break;
+                case BYTE_RGB:
+                    for (int x0 = 0; x0 < w; x0++, index += 3)
+                        argbRow[x0] = 0xff << 24 | (buffer[index] & 0xff) << 16 | (buffer[index + 1] & 0xff) << 8 | (buffer[index + 2] & 0xff);
+                    break;
+                default: // Indexed formats
+                    if (buf == null)
+                        buf = ByteBuffer.wrap(buffer, offset, h * scanlineStride);
+                    for (int x0 = 0; x0 < w; x0++)
+                        argbRow[x0] = pixelformat.getArgb(buf, x0, y0, scanlineStride);
+            }
+            setArgbRow(x, y + y0, argbRow, 0, w);
+        }
         markImageCanvasDirty();
     }
 
     @Override
     public void setPixels(int x, int y, int w, int h, PixelFormat<IntBuffer> pixelformat, int[] buffer, int offset, int scanlineStride) {
-        throw new UnsupportedOperationException("setPixels() in " + getClass());
+        boolean premultiplied = pixelformat.getType() == PixelFormat.Type.INT_ARGB_PRE;
+        int[] argbRow = premultiplied ? new int[w] : null;
+        for (int y0 = 0; y0 < h; y0++) {
+            int index = offset + y0 * scanlineStride;
+            if (!premultiplied) // INT_ARGB => the buffer rows can be passed directly
+                setArgbRow(x, y + y0, buffer, index, w);
+            else {
+                for (int x0 = 0; x0 < w; x0++)
+                    argbRow[x0] = PixelFormat.PretoNonPre(buffer[index + x0]);
+                setArgbRow(x, y + y0, argbRow, 0, w);
+            }
+        }
+        markImageCanvasDirty();
     }
 
     @Override
     public void setPixels(int dstx, int dsty, int w, int h, PixelReader reader, int srcx, int srcy) {
-        //long t0 = System.currentTimeMillis();
+        int[] argbRow = new int[w];
         for (int y = 0; y < h; y++) {
-              for (int x = 0; x < w; x++) {
-                  setArgb(dstx + x, dsty + y, reader.getArgb(srcx + x, srcy + y));
-              }
+            for (int x = 0; x < w; x++)
+                argbRow[x] = reader.getArgb(srcx + x, srcy + y);
+            setArgbRow(dstx, dsty + y, argbRow, 0, w);
         }
-        //long t1 = System.currentTimeMillis();
-        //Console.log(getClass() + " executed non-optimised setPixels() executed in " + (t1 - t0) + "ms");
+        markImageCanvasDirty();
     }
 
 }
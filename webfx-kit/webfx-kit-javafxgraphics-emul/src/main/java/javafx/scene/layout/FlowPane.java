@@ -559,6 +559,11 @@ public class FlowPane extends Pane {
         return localPos == null ? VPos.CENTER : localPos;
     }
 
+    @Override
+    public boolean impl_dependsOnChildBaseline(Node child) { // WebFX addition (see Region.isRelayoutBoundary())
+        return (getOrientation() == HORIZONTAL && getRowValignmentInternal() == VPos.BASELINE) || super.impl_dependsOnChildBaseline(child);
+    }
+
     @Override public Orientation getContentBias() {
         return getOrientation();
     }
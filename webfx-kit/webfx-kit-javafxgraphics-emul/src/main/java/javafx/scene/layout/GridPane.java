@@ -950,6 +950,11 @@ public class GridPane extends Pane {
         return numColumns;
     }
 
+    @Override
+    public boolean impl_dependsOnChildBaseline(Node child) { // WebFX addition (see Region.isRelayoutBoundary())
+        return isNodePositionedByBaseline(child) || super.impl_dependsOnChildBaseline(child);
+    }
+
     private boolean isNodePositionedByBaseline(Node n){
         return (getRowValignment(getNodeRowIndex(n)) == VPos.BASELINE && getValignment(n) == null)
                 || getValignment(n) == VPos.BASELINE;
@@ -566,6 +566,11 @@ public class HBox extends Pane {
 
     private double baselineOffset = Double.NaN;
 
+    @Override
+    public boolean impl_dependsOnChildBaseline(Node child) { // WebFX addition (see Region.isRelayoutBoundary())
+        return getAlignmentInternal().getVpos() == VPos.BASELINE; // Used for both the layout and the baseline offset
+    }
+
     @Override
     public double getBaselineOffset() {
         List<Node> managed = getManagedChildren();
@@ -8,6 +8,7 @@ import com.sun.javafx.util.TempState;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.*;
 import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.geometry.*;
 import javafx.scene.Node;
 import javafx.scene.Parent;
@@ -70,6 +71,11 @@ public class Region extends Parent implements
         return heightProperty;
     }
 
+    @Override
+    protected String impl_getPeerUpdateKind(ObservableValue property) {
+        return property == widthProperty || property == heightProperty ? "size" : super.impl_getPeerUpdateKind(property);
+    }
+
     private class MinPrefMaxProperty extends SimpleDoubleProperty {
         public MinPrefMaxProperty() {
             super(USE_COMPUTED_SIZE);
@@ -190,6 +196,25 @@ public class Region extends Parent implements
         }
     };
 
+    /**
+     * A region whose min, pref and max sizes are all explicitly set to the same values is a relayout boundary, because
+     * its size can't depend on its children, unless its parent depends on its baseline offset (ex: baseline-aligned
+     * parent), as it is still computed from the children. Subclasses whose parent layout depends on something else
+     * computed from the children can override this method to return false.
+     */
+    @Override
+    protected boolean isRelayoutBoundary() {
+        if (!isFixedSize(getMinWidth(), getPrefWidth(), getMaxWidth())
+            || !isFixedSize(getMinHeight(), getPrefHeight(), getMaxHeight()))
+            return false;
+        Parent parent = getParent();
+        return parent == null || !parent.impl_dependsOnChildBaseline(this);
+    }
+
+    private static boolean isFixedSize(double min, double pref, double max) {
+        return pref >= 0 && (min == USE_PREF_SIZE || min == pref) && (max == USE_PREF_SIZE || max == pref);
+    }
+
     private final Property<Insets> padding = new SimpleObjectProperty<Insets>(Insets.EMPTY) {
         // Keep track of the last valid value for the sake of
         // rollback in case padding is set to null. Note that
@@ -251,6 +251,13 @@ public class StackPane extends Pane {
         return localPos == null ? Pos.CENTER : localPos;
     }
 
+    @Override
+    public boolean impl_dependsOnChildBaseline(Node child) { // WebFX addition (see Region.isRelayoutBoundary())
+        Pos childAlignment = StackPane.getAlignment(child);
+        VPos vpos = childAlignment != null ? childAlignment.getVpos() : getAlignmentInternal().getVpos();
+        return vpos == VPos.BASELINE || super.impl_dependsOnChildBaseline(child);
+    }
+
     /**
      *
      * @return the first non-null contentBias of its managed children or null if no managed children
@@ -55,9 +55,17 @@ public abstract class Transform {
         return inverseCache;
     }
 
+    // Incremented on each change, so that the nodes caching a matrix computed from this transform can detect its changes
+    private int version;
+
+    public int impl_getVersion() {
+        return version;
+    }
+
     protected void transformChanged() {
         inverseCache = null;
         affineCache = null;
+        version++;
     }
 
     public Point2D inverseTransform(double x, double y)  {
@@ -266,7 +266,6 @@ public class Window implements EventTarget,
      */
     private Property<Boolean> showing = new SimpleObjectProperty<Boolean>(false) {
         private boolean oldVisible;
-        private Scheduled pulseScheduled;
         //private boolean firstShowing = true;
 
         @Override protected void invalidated() {
@@ -300,8 +299,7 @@ public class Window implements EventTarget,
                     impl_peer.setTKStageListener(peerListener);
                     // Register pulse listener
                     // tk.addStageTkPulseListener(peerBoundsConfigurator);
-                    if (pulseScheduled == null)
-                        pulseScheduled = UiScheduler.schedulePeriodicInAnimationFrame(peerBoundsConfigurator::pulse, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+                    peerBoundsConfigurator.startPulse();
 
 
                     if (getScene() != null) {
@@ -363,10 +361,7 @@ public class Window implements EventTarget,
 
                     // Remove toolkit pulse listener
                     // tk.removeStageTkPulseListener(peerBoundsConfigurator);
-                    if (pulseScheduled != null) {
-                        pulseScheduled.cancel();
-                        pulseScheduled = null;
-                    }
+                    peerBoundsConfigurator.stopPulse();
                     // Remove listener for changes coming back from peer
                     impl_peer.setTKStageListener(null);
 
@@ -832,10 +827,38 @@ public class Window implements EventTarget,
 
         private boolean dirty;
 
+        // The pulse is demand-driven: it is scheduled only while the window is showing and some bounds are waiting to
+        // be applied, and goes back to sleep once they have been applied.
+        private boolean pulseStarted;
+        private Scheduled pulseScheduled;
+
         TKBoundsConfigurator() {
             reset();
         }
 
+        void startPulse() {
+            pulseStarted = true;
+            if (dirty)
+                wakeUpPulse();
+        }
+
+        void stopPulse() {
+            pulseStarted = false;
+            sleepPulse();
+        }
+
+        private void wakeUpPulse() {
+            if (pulseStarted && pulseScheduled == null)
+                pulseScheduled = UiScheduler.schedulePeriodicInAnimationFrame(this::pulse, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+        }
+
+        private void sleepPulse() {
+            if (pulseScheduled != null) {
+                pulseScheduled.cancel();
+                pulseScheduled = null;
+            }
+        }
+
         public void setX(final double x, final float xGravity) {
             this.x = x;
             this.xGravity = xGravity;
@@ -909,6 +932,8 @@ public class Window implements EventTarget,
         @Override
         public void pulse() {
             apply();
+            if (!dirty) // Nothing more to apply => going back to sleep until the next bounds change
+                sleepPulse();
         }
 
         private void reset() {
@@ -927,6 +952,7 @@ public class Window implements EventTarget,
             if (!dirty) {
                 UiScheduler.requestNextScenePulse();
                 dirty = true;
+                wakeUpPulse();
             }
         }
     }
@@ -0,0 +1,122 @@
+package com.sun.javafx.scene.text;
+
+import com.sun.javafx.geom.BaseBounds;
+import javafx.scene.text.Font;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the pure Java text layout with fixed glyph advances (no platform measurement involved).
+ *
+ * @author Bruno Salmon
+ */
+public class GlyphTextLayoutTest {
+
+    private static final Font FONT = new Font("Test", 10);
+    private static final double LINE_HEIGHT = 12;
+    private static final double BASELINE_OFFSET = 8;
+
+    private GlyphTextLayout layout;
+
+    @BeforeEach
+    void setUp() {
+        GlyphAdvanceTable.clear();
+        presetAdvances(10);
+        layout = new GlyphTextLayout();
+    }
+
+    // Each printable ASCII character (space included) has the same advance
+    private static void presetAdvances(float advance) {
+        FONT.setBaselineOffset(BASELINE_OFFSET);
+        GlyphAdvanceTable table = GlyphAdvanceTable.forFont(FONT);
+        for (char c = ' '; c <= '~'; c++)
+            table.setAdvance(c, advance);
+        table.setLineHeight(LINE_HEIGHT);
+    }
+
+    private void layout(String text, float wrapWidth) {
+        layout.setContent(text, FONT);
+        layout.setWrapWidth(wrapWidth);
+    }
+
+    private void assertLine(int line, int start, int end, double width) {
+        assertEquals(start, layout.getLineStart(line), "start of line " + line);
+        assertEquals(end, layout.getLineEnd(line), "end of line " + line);
+        assertEquals(width, layout.getLineWidth(line), 0, "width of line " + line);
+    }
+
+    @Test
+    void singleLineWithoutWrapWidth() {
+        layout("hello world", 0);
+        assertEquals(1, layout.getLineCount());
+        assertLine(0, 0, 11, 110);
+        BaseBounds bounds = layout.getBounds();
+        assertEquals(110, bounds.getWidth(), 0);
+        assertEquals(-BASELINE_OFFSET, bounds.getMinY(), 0);
+        assertEquals(LINE_HEIGHT, bounds.getHeight(), 0);
+    }
+
+    @Test
+    void breaksOnWhiteSpaceWithinWrapWidth() {
+        layout("hello world", 60);
+        assertEquals(2, layout.getLineCount());
+        assertLine(0, 0, 6, 50); // The trailing space stays on the first line but is not visible
+        assertLine(1, 6, 11, 50);
+        assertEquals(2 * LINE_HEIGHT, layout.getHeight(), 0);
+    }
+
+    @Test
+    void breaksInsideWordLongerThanWrapWidth() {
+        layout("abcdefgh", 30);
+        assertEquals(3, layout.getLineCount());
+        assertLine(0, 0, 3, 30);
+        assertLine(1, 3, 6, 30);
+        assertLine(2, 6, 8, 20);
+    }
+
+    @Test
+    void breaksOnExplicitNewLines() {
+        layout("ab\ncd\n", 0);
+        assertEquals(3, layout.getLineCount());
+        assertLine(0, 0, 2, 20);
+        assertLine(1, 3, 5, 20);
+        assertLine(2, 6, 6, 0); // Empty last line after the final new line
+    }
+
+    @Test
+    void lineSpacingIsAddedBetweenLines() {
+        layout("ab\ncd", 0);
+        layout.setLineSpacing(3);
+        assertEquals(2 * LINE_HEIGHT + 3, layout.getHeight(), 0);
+    }
+
+    @Test
+    void truncationIndexCountsTheCharactersFittingEntirely() {
+        layout("hello world", 0);
+        assertEquals(0, layout.getTruncationIndex(5));
+        assertEquals(3, layout.getTruncationIndex(35));
+        assertEquals(4, layout.getTruncationIndex(40));
+        assertEquals(11, layout.getTruncationIndex(500));
+    }
+
+    @Test
+    void wrapWidthChangeInvalidatesLayout() {
+        layout("hello world", 0);
+        assertEquals(1, layout.getLineCount());
+        layout.setWrapWidth(60);
+        assertEquals(2, layout.getLineCount());
+        layout.setWrapWidth(0);
+        assertEquals(1, layout.getLineCount());
+    }
+
+    @Test
+    void tableIsLookedUpAgainAfterClear() {
+        layout("hello", 0);
+        assertEquals(50, layout.getLineWidth(0), 0);
+        GlyphAdvanceTable.clear(); // Ex: the font has finished loading
+        presetAdvances(20);
+        assertEquals(100, layout.getLineWidth(0), 0);
+    }
+}
@@ -0,0 +1,88 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import javafx.geometry.BoundingBox;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the spatial index used by the canvas scene peers for picking.
+ *
+ * @author Bruno Salmon
+ */
+public class CanvasPickingGridTest {
+
+    private CanvasPickingGrid grid;
+    private final Node a = new TestNode(), b = new TestNode(), c = new TestNode();
+
+    @BeforeEach
+    void setUp() {
+        grid = new CanvasPickingGrid();
+        grid.reset(640, 480);
+    }
+
+    @Test
+    void candidatesAreSortedByDecreasingZOrder() {
+        grid.put(b, 1, new BoundingBox(0, 0, 100, 100));
+        grid.put(c, 2, new BoundingBox(70, 70, 100, 100));
+        grid.put(a, 0, new BoundingBox(0, 0, 640, 480));
+        // The candidates are the nodes of the grid cell (64px) under the point, the exact hit test being done later
+        assertEquals(Arrays.asList(c, b, a), grid.getCandidates(90, 90));
+        assertEquals(Arrays.asList(b, a), grid.getCandidates(10, 10));
+        assertEquals(Collections.singletonList(a), grid.getCandidates(600, 400));
+    }
+
+    @Test
+    void zOrderChangeIsReflected() {
+        grid.put(a, 0, new BoundingBox(0, 0, 100, 100));
+        grid.put(b, 1, new BoundingBox(0, 0, 100, 100));
+        grid.put(a, 2, new BoundingBox(0, 0, 100, 100)); // a brought to front
+        assertEquals(Arrays.asList(a, b), grid.getCandidates(10, 10));
+    }
+
+    @Test
+    void boundsUpdateMovesTheNodeToOtherCells() {
+        grid.put(a, 0, new BoundingBox(0, 0, 10, 10));
+        grid.updateBounds(a, new BoundingBox(300, 300, 10, 10));
+        assertEquals(Collections.emptyList(), grid.getCandidates(5, 5));
+        assertEquals(Collections.singletonList(a), grid.getCandidates(305, 305));
+    }
+
+    @Test
+    void nodesWithoutBoundsAreNotCandidates() {
+        grid.put(a, 0, null);
+        grid.put(b, 1, new BoundingBox(0, 0, -1, -1)); // empty bounds
+        assertEquals(Collections.emptyList(), grid.getCandidates(0, 0));
+        assertFalse(grid.hasNonIndexableNodes());
+    }
+
+    @Test
+    void nonFiniteBoundsRequireTheFallback() {
+        grid.put(a, 0, new BoundingBox(0, 0, 10, 10));
+        grid.put(b, 1, new BoundingBox(Double.NaN, Double.NaN, 10, 10)); // ex: non-invertible transform
+        assertTrue(grid.hasNonIndexableNodes()); // => the canvas scene peer walks the scene graph instead
+        grid.updateBounds(b, new BoundingBox(0, 0, 10, 10));
+        assertFalse(grid.hasNonIndexableNodes());
+        assertEquals(Arrays.asList(b, a), grid.getCandidates(5, 5));
+        grid.put(c, 2, new BoundingBox(0, 0, Double.POSITIVE_INFINITY, 10));
+        assertTrue(grid.hasNonIndexableNodes());
+        grid.reset(640, 480);
+        assertFalse(grid.hasNonIndexableNodes());
+    }
+
+    private static final class TestNode extends Node {
+        @Override
+        public BaseBounds impl_computeGeomBounds(BaseBounds bounds, BaseTransform tx) {
+            return bounds;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
+import javafx.scene.canvas.GraphicsContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the damage rectangle clipping done by the canvas scene peers painting through a GraphicsContext.
+ *
+ * @author Bruno Salmon
+ */
+public class GraphicsContextCanvasScenePeerTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private GraphicsContext gc;
+    private TestScenePeer scenePeer;
+
+    @BeforeEach
+    void setUp() {
+        // Graphics context recording the calls made on it
+        gc = (GraphicsContext) Proxy.newProxyInstance(GraphicsContext.class.getClassLoader(), new Class[]{GraphicsContext.class},
+                (proxy, method, args) -> {
+                    calls.add(args == null ? method.getName() : method.getName() + Arrays.toString(args));
+                    return null;
+                });
+        scenePeer = new TestScenePeer();
+    }
+
+    @Test
+    void clipIsSupported() {
+        assertTrue(scenePeer.clipCanvasContext(gc, 10, 20, 30, 40));
+        assertEquals(Arrays.asList("beginPath", "rect[10.0, 20.0, 30.0, 40.0]", "clip"), calls);
+    }
+
+    @Test
+    void clipIsRemovedWhenTheCanvasContextIsDisposed() {
+        GraphicsContext clippedContext = scenePeer.createCanvasContext(gc);
+        assertSame(gc, clippedContext);
+        scenePeer.clipCanvasContext(clippedContext, 0, 0, 5, 5);
+        scenePeer.disposeCanvasContext(clippedContext);
+        assertEquals(Arrays.asList("save", "beginPath", "rect[0.0, 0.0, 5.0, 5.0]", "clip", "restore"), calls);
+    }
+
+    @Test
+    void damagedAreaIsCleared() {
+        scenePeer.clearCanvasArea(gc, 1, 2, 3, 4);
+        assertEquals(Arrays.asList("clearRect[1.0, 2.0, 3.0, 4.0]"), calls);
+    }
+
+    private static final class TestScenePeer extends GraphicsContextCanvasScenePeer<CanvasNodePeer<?, GraphicsContext>> {
+
+        TestScenePeer() {
+            super(null); // The clipping doesn't need the scene
+        }
+
+        @Override
+        public void requestCanvasRepaint() {
+        }
+
+        @Override
+        public NodePeer pickPeer(double sceneX, double sceneY) {
+            return null;
+        }
+    }
+}
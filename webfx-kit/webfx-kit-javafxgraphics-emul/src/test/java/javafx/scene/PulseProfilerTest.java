@@ -0,0 +1,62 @@
+package javafx.scene;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the frames recorded by the pulse profiler when they are opened by the master timer.
+ *
+ * @author Bruno Salmon
+ */
+public class PulseProfilerTest {
+
+    @BeforeEach
+    void setUp() {
+        PulseProfiler.setEnabled(true);
+        PulseProfiler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PulseProfiler.setEnabled(false);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void eachAnimationFrameIsRecordedOnce() {
+        PulseProfiler.beginAnimationFrame();
+        PulseProfiler.count(PulseProfiler.Counter.LAID_OUT_NODES);
+        PulseProfiler.beginAnimationFrame();
+        PulseProfiler.count(PulseProfiler.Counter.LAID_OUT_NODES, 2);
+        PulseProfiler.beginAnimationFrame();
+        assertEquals(2, PulseProfiler.getFrameCount());
+        PulseProfiler.FrameSample[] frames = PulseProfiler.getFrameHistory();
+        assertEquals(1, frames[0].getCount(PulseProfiler.Counter.LAID_OUT_NODES));
+        assertEquals(2, frames[1].getCount(PulseProfiler.Counter.LAID_OUT_NODES));
+    }
+
+    @Test
+    void nestedPhaseTimeIsNotCountedInTheEnclosingPhase() {
+        PulseProfiler.beginAnimationFrame();
+        long layoutStart = PulseProfiler.startPhase();
+        long propertyChangesStart = PulseProfiler.startPhase();
+        sleep(30);
+        PulseProfiler.endPhase(PulseProfiler.Phase.PROPERTY_CHANGES, propertyChangesStart);
+        PulseProfiler.endPhase(PulseProfiler.Phase.LAYOUT, layoutStart);
+        PulseProfiler.beginAnimationFrame();
+        PulseProfiler.FrameSample frame = PulseProfiler.getLastFrame();
+        assertTrue(frame.getPhaseMillis(PulseProfiler.Phase.PROPERTY_CHANGES) >= 30);
+        assertTrue(frame.getPhaseMillis(PulseProfiler.Phase.LAYOUT) < 15, "layout time without the nested phase");
+    }
+}
@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import javafx.scene.shape.Arc;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -27,16 +26,14 @@ public class ArcPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N c = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(c.typeProperty(), changedProperty, p -> mixin.updateType(p))
-                || updateProperty(c.centerXProperty(), changedProperty, p -> mixin.updateCenterX(p.doubleValue()))
-                || updateProperty(c.centerYProperty(), changedProperty, p -> mixin.updateCenterY(p.doubleValue()))
-                || updateProperty(c.radiusXProperty(), changedProperty, p-> mixin.updateRadiusX(p.doubleValue()))
-                || updateProperty(c.radiusYProperty(), changedProperty, p-> mixin.updateRadiusY(p.doubleValue()))
-                || updateProperty(c.startAngleProperty(), changedProperty, p-> mixin.updateStartAngle(p.doubleValue()))
-                || updateProperty(c.lengthProperty(), changedProperty, p-> mixin.updateLength(p.doubleValue()))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Arc::typeProperty, (m, p) -> m.updateType(p));
+        updaters.add(Arc::centerXProperty, (m, p) -> m.updateCenterX(p.doubleValue()));
+        updaters.add(Arc::centerYProperty, (m, p) -> m.updateCenterY(p.doubleValue()));
+        updaters.add(Arc::radiusXProperty, (m, p) -> m.updateRadiusX(p.doubleValue()));
+        updaters.add(Arc::radiusYProperty, (m, p) -> m.updateRadiusY(p.doubleValue()));
+        updaters.add(Arc::startAngleProperty, (m, p) -> m.updateStartAngle(p.doubleValue()));
+        updaters.add(Arc::lengthProperty, (m, p) -> m.updateLength(p.doubleValue()));
     }
 }
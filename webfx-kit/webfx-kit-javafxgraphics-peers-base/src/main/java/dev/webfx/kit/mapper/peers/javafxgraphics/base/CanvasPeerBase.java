@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import javafx.scene.canvas.Canvas;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -22,10 +21,9 @@ public class CanvasPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.widthProperty(), changedProperty, mixin::updateWidth)
-                || updateProperty(node.heightProperty(), changedProperty, mixin::updateHeight)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Canvas::widthProperty, (m, p) -> m.updateWidth(p));
+        updaters.add(Canvas::heightProperty, (m, p) -> m.updateHeight(p));
     }
 }
@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import javafx.scene.shape.Circle;
 
@@ -23,12 +22,10 @@ public class CirclePeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N c = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(c.centerXProperty(), changedProperty, p -> mixin.updateCenterX(p.doubleValue()))
-                || updateProperty(c.centerYProperty(), changedProperty, p -> mixin.updateCenterY(p.doubleValue()))
-                || updateProperty(c.radiusProperty(), changedProperty, p-> mixin.updateRadius(p.doubleValue()))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Circle::centerXProperty, (m, p) -> m.updateCenterX(p.doubleValue()));
+        updaters.add(Circle::centerYProperty, (m, p) -> m.updateCenterY(p.doubleValue()));
+        updaters.add(Circle::radiusProperty, (m, p) -> m.updateRadius(p.doubleValue()));
     }
 }
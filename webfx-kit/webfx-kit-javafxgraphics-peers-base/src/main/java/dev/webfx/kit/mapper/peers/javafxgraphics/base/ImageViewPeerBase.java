@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -26,15 +25,14 @@ public class ImageViewPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.imageProperty(), changedProperty, this::updateImage)
-                || updateProperty(node.xProperty(), changedProperty, p -> mixin.updateX(p.doubleValue()))
-                || updateProperty(node.yProperty(), changedProperty, p -> mixin.updateY(p.doubleValue()))
-                || updateProperty(node.fitWidthProperty(), changedProperty, p -> mixin.updateFitWidth(p.doubleValue()))
-                || updateProperty(node.fitHeightProperty(), changedProperty, p -> mixin.updateFitHeight(p.doubleValue()))
-                || updateProperty(node.preserveRatioProperty(), changedProperty, p -> mixin.updatePreserveRatio(p))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(ImageView::imageProperty, (m, p) -> m.getNodePeerBase().updateImage(p));
+        updaters.add(ImageView::xProperty, (m, p) -> m.updateX(p.doubleValue()));
+        updaters.add(ImageView::yProperty, (m, p) -> m.updateY(p.doubleValue()));
+        updaters.add(ImageView::fitWidthProperty, (m, p) -> m.updateFitWidth(p.doubleValue()));
+        updaters.add(ImageView::fitHeightProperty, (m, p) -> m.updateFitHeight(p.doubleValue()));
+        updaters.add(ImageView::preserveRatioProperty, (m, p) -> m.updatePreserveRatio(p));
     }
 
     protected void updateImage(Image image) {
@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import javafx.scene.shape.Line;
 
@@ -24,13 +23,11 @@ public class LinePeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N c = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(c.startXProperty(), changedProperty, p -> mixin.updateStartX(p.doubleValue()))
-                || updateProperty(c.startYProperty(), changedProperty, p -> mixin.updateStartY(p.doubleValue()))
-                || updateProperty(c.endXProperty(), changedProperty, p -> mixin.updateEndX(p.doubleValue()))
-                || updateProperty(c.endYProperty(), changedProperty, p -> mixin.updateEndY(p.doubleValue()))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Line::startXProperty, (m, p) -> m.updateStartX(p.doubleValue()));
+        updaters.add(Line::startYProperty, (m, p) -> m.updateStartY(p.doubleValue()));
+        updaters.add(Line::endXProperty, (m, p) -> m.updateEndX(p.doubleValue()));
+        updaters.add(Line::endYProperty, (m, p) -> m.updateEndY(p.doubleValue()));
     }
 }
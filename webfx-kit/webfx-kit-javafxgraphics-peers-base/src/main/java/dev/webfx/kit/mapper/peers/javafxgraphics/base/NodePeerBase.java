@@ -13,9 +13,11 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import dev.webfx.kit.util.properties.ObservableLists;
 import dev.webfx.kit.util.properties.FXProperties;
+import dev.webfx.kit.util.properties.Unregisterable;
 import dev.webfx.platform.util.Arrays;
 import dev.webfx.platform.util.collection.Collections;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -30,6 +32,11 @@ public class NodePeerBase
 
     protected N node;
     protected NM mixin;
+    private NodePeerPropertyUpdaters<N, NM> propertyUpdaters;
+    private ObservableValue[] nodeProperties; // in the slots order of the shared property updaters
+    // The listeners registered by this peer while bound (unregistered on unbind, so the node doesn't retain the peer)
+    private List<Unregisterable> unregisterables;
+    private List<Unregisterable> transformsUnregisterables;
 
     public void setMixin(NM mixin) {
         this.mixin = mixin;
@@ -37,13 +44,15 @@ public class NodePeerBase
 
     @Override
     public void bind(N node, SceneRequester sceneRequester) {
-        this.node = node;
+        setNode(node);
+        NodePeerCounts.onPeerBound();
         requestUpdateProperty(sceneRequester, null);
         requestUpdateList(sceneRequester, null, null);
         requestUpdateOnListsChange(sceneRequester, node.getTransforms(), node.getStyleClass());
         requestUpdateOnPropertiesChange(sceneRequester
                 , node.idProperty()
                 , node.visibleProperty()
+                , node.impl_culledProperty()
                 , node.opacityProperty()
                 , node.disabledProperty()
                 , node.clipProperty()
@@ -64,7 +73,31 @@ public class NodePeerBase
 
     @Override
     public void unbind() {
-        node = null;
+        if (node == null)
+            return;
+        unregisterAll(transformsUnregisterables);
+        transformsUnregisterables = null;
+        unregisterAll(unregisterables);
+        unregisterables = null;
+        setNode(null);
+        NodePeerCounts.onPeerUnbound();
+    }
+
+    /**
+     * Keeps a listener registered by this peer while bound, so that it is unregistered when the peer is unbound.
+     */
+    public void addUnregisterable(Unregisterable unregisterable) {
+        if (unregisterables == null)
+            unregisterables = new ArrayList<>();
+        unregisterables.add(unregisterable);
+        NodePeerCounts.onListenersRegistered(1);
+    }
+
+    private static void unregisterAll(List<Unregisterable> unregisterables) {
+        if (unregisterables != null) {
+            unregisterables.forEach(Unregisterable::unregister);
+            NodePeerCounts.onListenersUnregistered(unregisterables.size());
+        }
     }
 
     public N getNode() {
@@ -73,6 +106,7 @@ public class NodePeerBase
 
     public void setNode(N node) {
         this.node = node;
+        nodeProperties = null;
     }
 
     @Override
@@ -80,7 +114,7 @@ public class NodePeerBase
     }
 
     protected void requestUpdateOnPropertiesChange(SceneRequester sceneRequester, ObservableValue... properties) {
-        FXProperties.runOnPropertiesChange(property -> requestUpdateProperty(sceneRequester, property), properties);
+        addUnregisterable(FXProperties.runOnPropertiesChange(property -> requestUpdateProperty(sceneRequester, property), properties));
     }
 
     private void requestUpdateProperty(SceneRequester sceneRequester, ObservableValue changedProperty) {
@@ -92,7 +126,7 @@ public class NodePeerBase
     }
 
     protected void requestUpdateOnListChange(SceneRequester sceneRequester, ObservableList list) {
-        ObservableLists.runOnListChange(c -> requestUpdateList(sceneRequester, list, c), list);
+        addUnregisterable(ObservableLists.runOnListChange(c -> requestUpdateList(sceneRequester, list, c), list));
     }
 
     void requestUpdateList(SceneRequester sceneRequester, ObservableList list, ListChangeListener.Change change) {
@@ -101,29 +135,55 @@ public class NodePeerBase
 
     @Override
     public boolean updateProperty(ObservableValue changedProperty) {
-        return updateProperty(node.mouseTransparentProperty(), changedProperty, mixin::updateMouseTransparent)
-               || updateProperty(node.idProperty(), changedProperty, mixin::updateId)
-               || updateProperty(node.visibleProperty(), changedProperty, mixin::updateVisible)
-               || updateProperty(node.disabledProperty(), changedProperty, mixin::updateDisabled)
-               || updateProperty(node.opacityProperty(), changedProperty, p-> mixin.updateOpacity(p.doubleValue()))
-               || updateProperty(node.clipProperty(), changedProperty, mixin::updateClip)
-               || updateProperty(node.blendModeProperty(), changedProperty, mixin::updateBlendMode)
-               || updateProperty(node.effectProperty(), changedProperty, mixin::updateEffect)
-               || updateProperty(node.layoutXProperty(), changedProperty, p -> mixin.updateLayoutX(p.doubleValue()))
-               || updateProperty(node.layoutYProperty(), changedProperty, p -> mixin.updateLayoutY(p.doubleValue()))
-               || updateProperty(node.translateXProperty(), changedProperty, p -> mixin.updateTranslateX(p.doubleValue()))
-               || updateProperty(node.translateYProperty(), changedProperty, p -> mixin.updateTranslateY(p.doubleValue()))
-               || updateProperty(node.rotateProperty(), changedProperty, p -> mixin.updateTranslateY(p.doubleValue()))
-               || updateProperty(node.scaleXProperty(), changedProperty, p -> mixin.updateScaleX(p.doubleValue()))
-               || updateProperty(node.scaleYProperty(), changedProperty, p -> mixin.updateScaleY(p.doubleValue()))
-               || updateProperty(node.cursorProperty(), changedProperty, mixin::updateCursor)
-               || updateProperty(node.onDragDetectedProperty(), changedProperty, mixin::updateOnDragDetected)
-               || updateProperty(node.onDragEnteredProperty(), changedProperty, mixin::updateOnDragEntered)
-               || updateProperty(node.onDragOverProperty(), changedProperty, mixin::updateOnDragOver)
-               || updateProperty(node.onDragDroppedProperty(), changedProperty, mixin::updateOnDragDropped)
-               || updateProperty(node.onDragExitedProperty(), changedProperty, mixin::updateOnDragExited)
-               || updateProperty(node.onDragDoneProperty(), changedProperty, mixin::updateOnDragDone)
-                ;
+        if (changedProperty == null) {
+            getPropertyUpdaters().updateAllProperties(node, mixin);
+            return false;
+        }
+        NodePeerPropertyUpdaters<N, NM> propertyUpdaters = getPropertyUpdaters();
+        if (nodeProperties == null)
+            nodeProperties = propertyUpdaters.getNodeProperties(node);
+        int slot = NodePeerPropertyUpdaters.getSlot(nodeProperties, changedProperty);
+        if (slot < 0)
+            return false;
+        propertyUpdaters.updateProperty(slot, mixin, changedProperty.getValue());
+        return true;
+    }
+
+    private NodePeerPropertyUpdaters<N, NM> getPropertyUpdaters() {
+        if (propertyUpdaters == null)
+            propertyUpdaters = NodePeerPropertyUpdaters.getOrCreate(this);
+        return propertyUpdaters;
+    }
+
+    /**
+     * Declares the node properties this peer base reacts to, with their updaters. This method is called only once per
+     * peer base class (the resulting table is shared by all its peers). Subclasses must call super first, so that the
+     * updaters are applied in the same order as the class hierarchy on a full update.
+     */
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        updaters.add(Node::mouseTransparentProperty, (m, p) -> m.updateMouseTransparent(p));
+        updaters.add(Node::idProperty, (m, p) -> m.updateId(p));
+        updaters.add(Node::visibleProperty, (m, p) -> m.updateVisible(p));
+        updaters.add(Node::impl_culledProperty, (m, p) -> m.updateCulled(p));
+        updaters.add(Node::disabledProperty, (m, p) -> m.updateDisabled(p));
+        updaters.add(Node::opacityProperty, (m, p) -> m.updateOpacity(p.doubleValue()));
+        updaters.add(Node::clipProperty, (m, p) -> m.updateClip(p));
+        updaters.add(Node::blendModeProperty, (m, p) -> m.updateBlendMode(p));
+        updaters.add(Node::effectProperty, (m, p) -> m.updateEffect(p));
+        updaters.add(Node::layoutXProperty, (m, p) -> m.updateLayoutX(p.doubleValue()));
+        updaters.add(Node::layoutYProperty, (m, p) -> m.updateLayoutY(p.doubleValue()));
+        updaters.add(Node::translateXProperty, (m, p) -> m.updateTranslateX(p.doubleValue()));
+        updaters.add(Node::translateYProperty, (m, p) -> m.updateTranslateY(p.doubleValue()));
+        updaters.add(Node::rotateProperty, (m, p) -> m.updateRotate(p.doubleValue()));
+        updaters.add(Node::scaleXProperty, (m, p) -> m.updateScaleX(p.doubleValue()));
+        updaters.add(Node::scaleYProperty, (m, p) -> m.updateScaleY(p.doubleValue()));
+        updaters.add(Node::cursorProperty, (m, p) -> m.updateCursor(p));
+        updaters.add(Node::onDragDetectedProperty, (m, p) -> m.updateOnDragDetected(p));
+        updaters.add(Node::onDragEnteredProperty, (m, p) -> m.updateOnDragEntered(p));
+        updaters.add(Node::onDragOverProperty, (m, p) -> m.updateOnDragOver(p));
+        updaters.add(Node::onDragDroppedProperty, (m, p) -> m.updateOnDragDropped(p));
+        updaters.add(Node::onDragExitedProperty, (m, p) -> m.updateOnDragExited(p));
+        updaters.add(Node::onDragDoneProperty, (m, p) -> m.updateOnDragDone(p));
     }
 
     @Override
@@ -135,6 +195,9 @@ public class NodePeerBase
 
     private void updateTransforms(List<Transform> transforms, ListChangeListener.Change<Transform> change) {
         mixin.updateTransforms(transforms, change);
+        // Rebinding the transforms (previous listeners are removed first, as the transforms may have changed)
+        unregisterAll(transformsUnregisterables);
+        transformsUnregisterables = null;
         Collections.forEach(transforms, this::bindTransform);
     }
 
@@ -150,25 +213,22 @@ public class NodePeerBase
             Scale scale = (Scale) transform;
             properties = new Property[]{scale.xProperty(), scale.yProperty(), scale.pivotXProperty(), scale.pivotYProperty()};
         }
-        if (properties != null)
-            FXProperties.runOnPropertiesChange(() -> {
+        if (properties != null) {
+            if (transformsUnregisterables == null)
+                transformsUnregisterables = new ArrayList<>();
+            transformsUnregisterables.add(FXProperties.runOnPropertiesChange(() -> {
                 mixin.updateTransforms(node.getTransforms(), null);
 /*
                 ScenePeer scenePeer = node.getScene().impl_getPeer();
                 if (scenePeer instanceof CanvasScenePeer)
                     ((CanvasScenePeer) scenePeer).requestCanvasRepaint();
 */
-            }, properties);
+            }, properties));
+            NodePeerCounts.onListenersRegistered(1);
+        }
     }
 
 
-    protected <T> boolean updateProperty(ObservableValue<T> property, ObservableValue changedProperty, Consumer<T> updater) {
-        boolean hitChangedProperty = property == changedProperty;
-        if (hitChangedProperty || changedProperty == null)
-            updater.accept(property.getValue());
-        return hitChangedProperty;
-    }
-
     protected <T> boolean updateList2(ObservableList<T> list, ObservableList<T> changedList, ListChangeListener.Change<T> change, BiConsumer<List<T>, ListChangeListener.Change<T>> updater) {
         boolean hitChangedProperty = list == changedList;
         if (hitChangedProperty || changedList == null)
@@ -0,0 +1,48 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+/**
+ * Live counts of the node peers currently bound to a node, and of the listeners they registered (on the node
+ * properties, lists and transforms). These counts should stay stable in a long-running application that keeps
+ * swapping views, as the peers of the nodes removed from the scene graph are eventually unbound and released (see
+ * javafx.scene.NodePeerLifecycle). A steady growth indicates that some detached nodes are still retained.
+ *
+ * @author Bruno Salmon
+ */
+public final class NodePeerCounts {
+
+    private static int livePeerCount;
+    private static int liveListenerCount;
+    private static long unboundPeerCount;
+
+    public static int getLivePeerCount() {
+        return livePeerCount;
+    }
+
+    public static int getLiveListenerCount() {
+        return liveListenerCount;
+    }
+
+    /**
+     * @return the number of peers that have been unbound so far (i.e. released after their node left the scene graph)
+     */
+    public static long getUnboundPeerCount() {
+        return unboundPeerCount;
+    }
+
+    static void onPeerBound() {
+        livePeerCount++;
+    }
+
+    static void onPeerUnbound() {
+        livePeerCount--;
+        unboundPeerCount++;
+    }
+
+    static void onListenersRegistered(int count) {
+        liveListenerCount += count;
+    }
+
+    static void onListenersUnregistered(int count) {
+        liveListenerCount -= count;
+    }
+}
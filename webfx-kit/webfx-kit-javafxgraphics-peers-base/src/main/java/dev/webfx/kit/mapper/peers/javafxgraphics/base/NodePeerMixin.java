@@ -68,6 +68,9 @@ public interface NodePeerMixin
 
     void updateVisible(Boolean visible);
 
+    // Culled nodes are not rendered (see Node.impl_setCulled()), which is ignored by default
+    default void updateCulled(Boolean culled) { }
+
     void updateOpacity(Double opacity);
 
     void updateClip(Node clip);
@@ -0,0 +1,75 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Table of the node properties a peer base class reacts to, with the updater to call on the mixin for each of them.
+ * The table is declared once per peer base class (see {@link NodePeerBase#registerPropertyUpdaters}) and shared by all
+ * the peers of that class. Each updater has a slot (its position in the table), and each peer just keeps the array of
+ * its node properties in the slots order, so the updater of a changed property is found by an identity scan of that
+ * small array, whatever the depth of the peer base class hierarchy.
+ *
+ * @author Bruno Salmon
+ */
+public final class NodePeerPropertyUpdaters<N extends Node, NM> {
+
+    private static final Map<Class<?>, NodePeerPropertyUpdaters<?, ?>> PEER_BASE_CLASS_UPDATERS = new HashMap<>();
+
+    private final List<Function<N, ObservableValue>> propertyGetters = new ArrayList<>();
+    private final List<BiConsumer<NM, Object>> updaters = new ArrayList<>();
+
+    private NodePeerPropertyUpdaters() {
+    }
+
+    public <T> void add(Function<? super N, ? extends ObservableValue<T>> propertyGetter, BiConsumer<? super NM, ? super T> updater) {
+        propertyGetters.add((Function<N, ObservableValue>) (Function) propertyGetter);
+        updaters.add((BiConsumer<NM, Object>) (BiConsumer) updater);
+    }
+
+    public int size() {
+        return updaters.size();
+    }
+
+    ObservableValue[] getNodeProperties(N node) {
+        ObservableValue[] properties = new ObservableValue[propertyGetters.size()];
+        for (int i = 0; i < properties.length; i++)
+            properties[i] = propertyGetters.get(i).apply(node);
+        return properties;
+    }
+
+    static int getSlot(ObservableValue[] nodeProperties, ObservableValue property) {
+        // Scanning backward, so the last updater wins if a property has been declared twice (ex: overridden updater)
+        for (int i = nodeProperties.length - 1; i >= 0; i--)
+            if (nodeProperties[i] == property)
+                return i;
+        return -1;
+    }
+
+    void updateProperty(int slot, NM mixin, Object value) {
+        updaters.get(slot).accept(mixin, value);
+    }
+
+    void updateAllProperties(N node, NM mixin) {
+        for (int i = 0, n = propertyGetters.size(); i < n; i++)
+            updaters.get(i).accept(mixin, propertyGetters.get(i).apply(node).getValue());
+    }
+
+    static <N extends Node, NM> NodePeerPropertyUpdaters<N, NM> getOrCreate(NodePeerBase<N, ?, ?> peerBase) {
+        Class<?> peerBaseClass = peerBase.getClass();
+        NodePeerPropertyUpdaters<N, NM> updaters = (NodePeerPropertyUpdaters<N, NM>) PEER_BASE_CLASS_UPDATERS.get(peerBaseClass);
+        if (updaters == null) {
+            updaters = new NodePeerPropertyUpdaters<>();
+            peerBase.registerPropertyUpdaters((NodePeerPropertyUpdaters) updaters);
+            PEER_BASE_CLASS_UPDATERS.put(peerBaseClass, updaters);
+        }
+        return updaters;
+    }
+}
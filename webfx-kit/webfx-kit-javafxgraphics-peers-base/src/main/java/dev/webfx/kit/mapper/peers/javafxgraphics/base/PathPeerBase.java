@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.shape.Path;
@@ -24,11 +23,9 @@ public class PathPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N c = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(c.fillRuleProperty(), changedProperty, p -> mixin.updateFillRule(p))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Path::fillRuleProperty, (m, p) -> m.updateFillRule(p));
     }
 
     @Override
@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import javafx.scene.shape.Rectangle;
 
@@ -26,15 +25,13 @@ public class RectanglePeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N r = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(r.xProperty(), changedProperty, p -> mixin.updateX(p.doubleValue()))
-                || updateProperty(r.yProperty(), changedProperty, p -> mixin.updateY(p.doubleValue()))
-                || updateProperty(r.widthProperty(), changedProperty, p -> mixin.updateWidth(p.doubleValue()))
-                || updateProperty(r.heightProperty(), changedProperty, p -> mixin.updateHeight(p.doubleValue()))
-                || updateProperty(r.arcWidthProperty(), changedProperty, p -> mixin.updateArcWidth(p.doubleValue()))
-                || updateProperty(r.arcHeightProperty(), changedProperty, p -> mixin.updateArcHeight(p.doubleValue()))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Rectangle::xProperty, (m, p) -> m.updateX(p.doubleValue()));
+        updaters.add(Rectangle::yProperty, (m, p) -> m.updateY(p.doubleValue()));
+        updaters.add(Rectangle::widthProperty, (m, p) -> m.updateWidth(p.doubleValue()));
+        updaters.add(Rectangle::heightProperty, (m, p) -> m.updateHeight(p.doubleValue()));
+        updaters.add(Rectangle::arcWidthProperty, (m, p) -> m.updateArcWidth(p.doubleValue()));
+        updaters.add(Rectangle::arcHeightProperty, (m, p) -> m.updateArcHeight(p.doubleValue()));
     }
 }
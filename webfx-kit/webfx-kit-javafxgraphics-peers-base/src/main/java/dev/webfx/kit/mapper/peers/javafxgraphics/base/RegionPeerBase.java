@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import javafx.scene.layout.Region;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -25,13 +24,12 @@ public class RegionPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.backgroundProperty(), changedProperty, mixin::updateBackground)
-                || updateProperty(node.borderProperty(), changedProperty, mixin::updateBorder)
-                || updateProperty(node.paddingProperty(), changedProperty, mixin::updatePadding)
-                || updateProperty(node.widthProperty(), changedProperty, mixin::updateWidth)
-                || updateProperty(node.heightProperty(), changedProperty, mixin::updateHeight)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Region::backgroundProperty, (m, p) -> m.updateBackground(p));
+        updaters.add(Region::borderProperty, (m, p) -> m.updateBorder(p));
+        updaters.add(Region::paddingProperty, (m, p) -> m.updatePadding(p));
+        updaters.add(Region::widthProperty, (m, p) -> m.updateWidth(p));
+        updaters.add(Region::heightProperty, (m, p) -> m.updateHeight(p));
     }
 }
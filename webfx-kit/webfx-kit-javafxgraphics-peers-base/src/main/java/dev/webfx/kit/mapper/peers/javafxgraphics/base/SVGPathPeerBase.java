@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import javafx.scene.shape.SVGPath;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 
@@ -22,12 +21,10 @@ public class SVGPathPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N c = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(c.fillRuleProperty(), changedProperty, p -> mixin.updateFillRule(p))
-                || updateProperty(c.contentProperty(), changedProperty, p -> mixin.updateContent(p))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(SVGPath::fillRuleProperty, (m, p) -> m.updateFillRule(p));
+        updaters.add(SVGPath::contentProperty, (m, p) -> m.updateContent(p));
     }
 
 }
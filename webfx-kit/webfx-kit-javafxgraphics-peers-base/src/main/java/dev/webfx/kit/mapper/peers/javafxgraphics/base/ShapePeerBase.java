@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -32,19 +31,17 @@ public abstract class ShapePeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        N s = node;
-        return super.updateProperty(changedProperty)
-               || updateProperty(s.fillProperty(), changedProperty, mixin::updateFill)
-               || updateProperty(s.smoothProperty(), changedProperty, mixin::updateSmooth)
-               || updateProperty(s.strokeProperty(), changedProperty, mixin::updateStroke)
-               || updateProperty(s.strokeTypeProperty(), changedProperty, mixin::updateStrokeType)
-               || updateProperty(s.strokeWidthProperty(), changedProperty, p -> mixin.updateStrokeWidth(p.doubleValue()))
-               || updateProperty(s.strokeLineCapProperty(), changedProperty, mixin::updateStrokeLineCap)
-               || updateProperty(s.strokeLineJoinProperty(), changedProperty, mixin::updateStrokeLineJoin)
-               || updateProperty(s.strokeMiterLimitProperty(), changedProperty, p -> mixin.updateStrokeMiterLimit(p.doubleValue()))
-               || updateProperty(s.strokeDashOffsetProperty(), changedProperty, p -> mixin.updateStrokeDashOffset(p.doubleValue()))
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Shape::fillProperty, (m, p) -> m.updateFill(p));
+        updaters.add(Shape::smoothProperty, (m, p) -> m.updateSmooth(p));
+        updaters.add(Shape::strokeProperty, (m, p) -> m.updateStroke(p));
+        updaters.add(Shape::strokeTypeProperty, (m, p) -> m.updateStrokeType(p));
+        updaters.add(Shape::strokeWidthProperty, (m, p) -> m.updateStrokeWidth(p.doubleValue()));
+        updaters.add(Shape::strokeLineCapProperty, (m, p) -> m.updateStrokeLineCap(p));
+        updaters.add(Shape::strokeLineJoinProperty, (m, p) -> m.updateStrokeLineJoin(p));
+        updaters.add(Shape::strokeMiterLimitProperty, (m, p) -> m.updateStrokeMiterLimit(p.doubleValue()));
+        updaters.add(Shape::strokeDashOffsetProperty, (m, p) -> m.updateStrokeDashOffset(p.doubleValue()));
     }
 
     @Override
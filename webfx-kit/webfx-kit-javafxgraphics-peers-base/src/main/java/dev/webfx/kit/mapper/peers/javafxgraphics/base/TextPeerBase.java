@@ -1,6 +1,5 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
-import javafx.beans.value.ObservableValue;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import javafx.scene.text.Text;
 
@@ -28,17 +27,15 @@ public class TextPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        Text ts = node;
-        return super.updateProperty(changedProperty)
-                || updateProperty(ts.textProperty(), changedProperty, mixin::updateText)
-                || updateProperty(ts.xProperty(), changedProperty, p -> mixin.updateX(p.doubleValue()))
-                || updateProperty(ts.yProperty(), changedProperty, p -> mixin.updateY(p.doubleValue()))
-                || updateProperty(ts.wrappingWidthProperty(), changedProperty, p -> mixin.updateWrappingWidth(p.doubleValue()))
-                || updateProperty(ts.lineSpacingProperty(), changedProperty, mixin::updateLineSpacing)
-                || updateProperty(ts.textAlignmentProperty(), changedProperty, mixin::updateTextAlignment)
-                || updateProperty(ts.textOriginProperty(), changedProperty, mixin::updateTextOrigin)
-                || updateProperty(ts.fontProperty(), changedProperty, mixin::updateFont)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(Text::textProperty, (m, p) -> m.updateText(p));
+        updaters.add(Text::xProperty, (m, p) -> m.updateX(p.doubleValue()));
+        updaters.add(Text::yProperty, (m, p) -> m.updateY(p.doubleValue()));
+        updaters.add(Text::wrappingWidthProperty, (m, p) -> m.updateWrappingWidth(p.doubleValue()));
+        updaters.add(Text::lineSpacingProperty, (m, p) -> m.updateLineSpacing(p));
+        updaters.add(Text::textAlignmentProperty, (m, p) -> m.updateTextAlignment(p));
+        updaters.add(Text::textOriginProperty, (m, p) -> m.updateTextOrigin(p));
+        updaters.add(Text::fontProperty, (m, p) -> m.updateFont(p));
     }
 }
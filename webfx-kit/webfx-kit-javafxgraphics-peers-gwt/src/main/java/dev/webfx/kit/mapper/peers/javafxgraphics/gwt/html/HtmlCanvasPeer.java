@@ -32,6 +32,12 @@ public final class HtmlCanvasPeer
     private HTMLCanvasElement getCanvasElement() {
         return (HTMLCanvasElement) getElement();
     }
+
+    @Override
+    public boolean isReleasable() {
+        return false; // The canvas pixels (and the graphics context possibly kept by the application) are in the peer
+    }
+
     @Override
     public void updateWidth(Number width) {
         // Note: probably already updated by HtmlGraphicsContext
@@ -3,7 +3,7 @@ package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 import elemental2.dom.CSSProperties;
 import elemental2.dom.CSSStyleDeclaration;
 import elemental2.dom.HTMLElement;
-import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import javafx.scene.shape.Circle;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.CirclePeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.CirclePeerMixin;
@@ -18,7 +18,7 @@ public final class HtmlCirclePeer
         implements CirclePeerMixin<N, NB, NM> {
 
     public HtmlCirclePeer() {
-        this((NB) new CirclePeerBase(), HtmlUtil.createElement("fx-circle"));
+        this((NB) new CirclePeerBase(), HtmlElementTemplates.createNodeElement("fx-circle"));
     }
 
     public HtmlCirclePeer(NB base, HTMLElement element) {
@@ -1,6 +1,7 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
 import dev.webfx.kit.launcher.WebFxKitLauncher;
+import dev.webfx.kit.launcher.spi.impl.base.TextMetricsCache;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlFonts;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlPaints;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
@@ -9,6 +10,7 @@ import dev.webfx.platform.util.Objects;
 import elemental2.core.Function;
 import elemental2.core.JsArray;
 import elemental2.dom.*;
+import javafx.geometry.BoundingBox;
 import javafx.geometry.VPos;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -373,12 +375,13 @@ public class HtmlGraphicsContext implements GraphicsContext {
     }
 
     private double measureTextWidth(String text) {
-        return ctx.measureText(text).width;
+        // Using the canvas font definition as font key, as it's the one actually used by measureText()
+        return TextMetricsCache.getOrMeasure(text, ctx.font, 0, () -> new BoundingBox(0, 0, ctx.measureText(text).width, 0)).getWidth();
     }
 
     private double measureTextHeight() {
         // Pb: measureText() doesn't return height nor any information about the font (should change in the future)
-        return ctx.measureText("M").width; // Quick dirty approximation for now
+        return measureTextWidth("M"); // Quick dirty approximation for now
     }
 
     private void applyProportionalFillLinearGradiantForTextIfApplicable(String text, double x, double y) {
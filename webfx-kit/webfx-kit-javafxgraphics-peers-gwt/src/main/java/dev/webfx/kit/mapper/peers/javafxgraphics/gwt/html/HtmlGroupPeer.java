@@ -1,7 +1,7 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
 import elemental2.dom.HTMLElement;
-import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import javafx.scene.Group;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.GroupPeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.GroupPeerMixin;
@@ -20,7 +20,7 @@ public final class HtmlGroupPeer
     }
 
     public HtmlGroupPeer(String tagName) {
-        this((NB) new GroupPeerBase(), HtmlUtil.createElement(tagName));
+        this((NB) new GroupPeerBase(), HtmlElementTemplates.createNodeElement(tagName));
     }
 
     public HtmlGroupPeer(NB base, HTMLElement element) {
@@ -2,7 +2,7 @@ package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
 import javafx.geometry.Insets;
 import javafx.scene.layout.Region;
-import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.RegionPeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.RegionPeerMixin;
 
@@ -16,7 +16,7 @@ public final class HtmlLayoutPeer
         implements NoWrapWhiteSpacePeer {
 
     public HtmlLayoutPeer(String tag) {
-        super((NB) new RegionPeerBase<N, NB, NM>(), HtmlUtil.createElement(tag));
+        super((NB) new RegionPeerBase<N, NB, NM>(), HtmlElementTemplates.createNodeElement(tag, "nowrap"));
     }
 
     @Override
@@ -4,7 +4,7 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.base.LinePeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.LinePeerMixin;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg.SvgLinePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg.SvgShapePeer;
-import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import elemental2.dom.HTMLElement;
 import javafx.scene.Cursor;
 import javafx.scene.shape.Line;
@@ -22,7 +22,7 @@ public final class HtmlLinePeer
 
 
     public HtmlLinePeer() {
-        this((NB) new LinePeerBase(), HtmlUtil.createElement("fx-line"));
+        this((NB) new LinePeerBase(), HtmlElementTemplates.createNodeElement("fx-line"));
     }
 
     public HtmlLinePeer(NB base, HTMLElement element) {
@@ -18,6 +18,7 @@ import javafx.scene.text.TextAlignment;
 import javafx.scene.transform.Transform;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Bruno Salmon
@@ -31,8 +32,28 @@ public abstract class HtmlNodePeer
         super(base, element);
     }
 
+    private boolean matrixTransformApplied; // true if the last transform was applied from the local-to-parent matrix
+    private String matrixTransform; // that last transform
+
+    @Override
+    protected boolean updateLocalToParentMatrix(double[] matrix) {
+        Element container = getVisibleContainer();
+        if (!(container instanceof HTMLElement))
+            return false;
+        String transform = HtmlTransforms.toHtmlMatrix(matrix);
+        if (!matrixTransformApplied || !Objects.equals(transform, matrixTransform)) { // skipping unchanged DOM writes
+            matrixTransformApplied = true;
+            matrixTransform = transform;
+            CSSStyleDeclaration style = ((HTMLElement) container).style;
+            style.transform = transform;
+            style.transformOrigin = CSSProperties.TransformOriginUnionType.of("0px 0px"); // the matrix includes the pivot
+        }
+        return true;
+    }
+
     @Override
     public void updateAllNodeTransforms(List<Transform> allNodeTransforms) {
+        matrixTransformApplied = false;
         Element container = getVisibleContainer();
         if (!(container instanceof HTMLElement))
             super.updateAllNodeTransforms(allNodeTransforms);
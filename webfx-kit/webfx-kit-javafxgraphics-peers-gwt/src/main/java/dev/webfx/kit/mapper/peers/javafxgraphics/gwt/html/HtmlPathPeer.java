@@ -9,6 +9,7 @@ import javafx.scene.shape.PathElement;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRoot;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRootBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg.SvgPathPeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
@@ -29,7 +30,7 @@ public final class HtmlPathPeer
     private final SvgPathPeer svgPathPeer = new SvgPathPeer();
 
     public HtmlPathPeer() {
-        this((NB) new PathPeerBase(), HtmlUtil.createElement("fx-path"));
+        this((NB) new PathPeerBase(), HtmlElementTemplates.createNodeElement("fx-path"));
     }
 
     public HtmlPathPeer(NB base, HTMLElement element) {
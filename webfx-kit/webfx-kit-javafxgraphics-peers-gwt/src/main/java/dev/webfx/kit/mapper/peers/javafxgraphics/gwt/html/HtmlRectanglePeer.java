@@ -2,7 +2,7 @@ package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
 import elemental2.dom.CSSProperties;
 import elemental2.dom.HTMLElement;
-import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import javafx.scene.shape.Rectangle;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.RectanglePeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.RectanglePeerMixin;
@@ -21,7 +21,7 @@ public final class HtmlRectanglePeer
     }
 
     public HtmlRectanglePeer(String tagName) {
-        this((NB) new RectanglePeerBase(), HtmlUtil.createElement(tagName));
+        this((NB) new RectanglePeerBase(), HtmlElementTemplates.createNodeElement(tagName));
     }
 
     public HtmlRectanglePeer(NB base, HTMLElement element) {
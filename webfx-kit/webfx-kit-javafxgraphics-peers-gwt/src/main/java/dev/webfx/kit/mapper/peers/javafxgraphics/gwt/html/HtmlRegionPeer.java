@@ -2,7 +2,9 @@ package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.RegionPeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.RegionPeerMixin;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.CssValueCache;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.DomType;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlPaints;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
 import dev.webfx.platform.util.collection.Collections;
@@ -15,6 +17,7 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Paint;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Bruno Salmon
@@ -25,27 +28,38 @@ public abstract class HtmlRegionPeer
         extends HtmlNodePeer<N, NB, NM>
         implements RegionPeerMixin<N, NB, NM> {
 
+    // Backgrounds & border strokes are immutable and often shared between regions, so their CSS values are cached
+    private static final CssValueCache<Background, String> CSS_BACKGROUNDS = new CssValueCache<>(bg -> toCssBackground(bg, new StringBuilder()).toString());
+    private static final CssValueCache<BorderStroke, String[]> CSS_BORDER_SIDES = new CssValueCache<>(HtmlRegionPeer::toCssBorderSides);
+
     private final HTMLElement fxBackground = createBehindElement("fx-background");
     private final HTMLElement fxBorder = createBehindElement("fx-border");
+    // Last applied values, to skip the DOM writes when an equal value is set again (ex: CSS pass, hover toggles)
+    private Background appliedBackground;
+    private BorderStroke appliedBorderStroke;
+    private boolean backgroundApplied, borderApplied;
 
     protected HtmlRegionPeer(NB base, HTMLElement element) {
         super(base, element);
-        fxBorder.style.boxSizing = "border-box";
         HTMLElement fxChildren = createBehindElement("fx-children");
         setChildrenContainer(fxChildren);
         HtmlUtil.setChildren(element, fxBackground, fxBorder, fxChildren);
     }
 
     private static HTMLElement createBehindElement(String tag) {
-        HTMLElement element = HtmlUtil.createElement(tag);
-        CSSStyleDeclaration style = element.style;
-        style.display = "block";
-        style.width =  CSSProperties.WidthUnionType.of("100%");
-        style.height = CSSProperties.HeightUnionType.of("100%");
-        style.position = "absolute";
-        style.left = "0";
-        style.top = "0";
-        return element;
+        return HtmlElementTemplates.cloneTemplate(tag + "|behind", () -> {
+            HTMLElement element = HtmlUtil.createElement(tag);
+            CSSStyleDeclaration style = element.style;
+            style.display = "block";
+            style.width =  CSSProperties.WidthUnionType.of("100%");
+            style.height = CSSProperties.HeightUnionType.of("100%");
+            style.position = "absolute";
+            style.left = "0";
+            style.top = "0";
+            if ("fx-border".equals(tag))
+                style.boxSizing = "border-box";
+            return element;
+        });
     }
 
     @Override
@@ -68,8 +82,12 @@ public abstract class HtmlRegionPeer
 
     @Override
     public void updateBackground(Background background) {
+        if (backgroundApplied && Objects.equals(background, appliedBackground))
+            return;
+        backgroundApplied = true;
+        appliedBackground = background;
         CSSStyleDeclaration style = getBackgroundElement().style;
-        style.background = toCssBackground(background);
+        style.background = CSS_BACKGROUNDS.get(background);
         CornerRadii radii = null;
         if (background != null) {
             // Note: for now, we support only one border that we take from the first background fill
@@ -100,14 +118,18 @@ public abstract class HtmlRegionPeer
         CSSStyleDeclaration style = getBorderElement().style;
         // Note: for now, we support only one border that we take from the first border stroke
         BorderStroke firstStroke = border == null ? null : Collections.get(border.getStrokes(), 0);
+        if (borderApplied && Objects.equals(firstStroke, appliedBorderStroke))
+            return;
+        borderApplied = true;
+        appliedBorderStroke = firstStroke;
         if (firstStroke == null) {
             style.borderLeft = style.borderTop = style.borderRight = style.borderBottom = null;
         } else {
-            BorderWidths widths = firstStroke.getWidths();
-            style.borderLeft   = toCssBorder(firstStroke.getLeftStroke(),   firstStroke.getLeftStyle(),   widths.getLeft(),   widths.isLeftAsPercentage());
-            style.borderTop    = toCssBorder(firstStroke.getTopStroke(),    firstStroke.getTopStyle(),    widths.getTop(),    widths.isTopAsPercentage());
-            style.borderRight  = toCssBorder(firstStroke.getRightStroke(),  firstStroke.getRightStyle(),  widths.getRight(),  widths.isRightAsPercentage());
-            style.borderBottom = toCssBorder(firstStroke.getBottomStroke(), firstStroke.getBottomStyle(), widths.getBottom(), widths.isBottomAsPercentage());
+            String[] sides = CSS_BORDER_SIDES.get(firstStroke);
+            style.borderLeft   = sides[0];
+            style.borderTop    = sides[1];
+            style.borderRight  = sides[2];
+            style.borderBottom = sides[3];
             applyBorderRadii(firstStroke.getRadii(), style);
         }
     }
@@ -137,6 +159,16 @@ public abstract class HtmlRegionPeer
         }
     }
 
+    private static String[] toCssBorderSides(BorderStroke stroke) {
+        BorderWidths widths = stroke.getWidths();
+        return new String[] {
+                toCssBorder(stroke.getLeftStroke(),   stroke.getLeftStyle(),   widths.getLeft(),   widths.isLeftAsPercentage()),
+                toCssBorder(stroke.getTopStroke(),    stroke.getTopStyle(),    widths.getTop(),    widths.isTopAsPercentage()),
+                toCssBorder(stroke.getRightStroke(),  stroke.getRightStyle(),  widths.getRight(),  widths.isRightAsPercentage()),
+                toCssBorder(stroke.getBottomStroke(), stroke.getBottomStyle(), widths.getBottom(), widths.isBottomAsPercentage())
+        };
+    }
+
     private static String toCssBorder(Paint stroke, BorderStrokeStyle style, double width, boolean isPercentage) {
         return toCssBorder(stroke, style, width, isPercentage, new StringBuilder()).toString();
     }
@@ -157,10 +189,6 @@ public abstract class HtmlRegionPeer
         return null;
     }
 
-    private static String toCssBackground(Background bg) {
-        return bg == null ? null : toCssBackground(bg, new StringBuilder()).toString();
-    }
-
     private static StringBuilder toCssBackground(Background bg, StringBuilder sb) {
         List<BackgroundFill> fills = bg.getFills();
         List<BackgroundImage> images = bg.getImages();
@@ -5,7 +5,7 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.base.SVGPathPeerMixin;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlLayoutCache;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlLayoutMeasurableNoGrow;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg.SvgPathPeer;
-import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import elemental2.dom.HTMLElement;
 import elemental2.svg.SVGRect;
 import javafx.geometry.BoundingBox;
@@ -25,7 +25,7 @@ public final class HtmlSVGPathPeer
     private final SvgPathPeer svgPathPeer = new SvgPathPeer();
 
     public HtmlSVGPathPeer() {
-        this((NB) new SVGPathPeerBase(), HtmlUtil.createElement("fx-svgpath"));
+        this((NB) new SVGPathPeerBase(), HtmlElementTemplates.createNodeElement("fx-svgpath"));
     }
 
     public HtmlSVGPathPeer(NB base, HTMLElement element) {
@@ -75,4 +75,9 @@ public final class HtmlSVGPathPeer
         return width ? getBBox().width : getBBox().height;
     }
 
+    @Override
+    public boolean isBatchMeasurable() {
+        return false; // as sizeAndMeasure() is overridden
+    }
+
 }
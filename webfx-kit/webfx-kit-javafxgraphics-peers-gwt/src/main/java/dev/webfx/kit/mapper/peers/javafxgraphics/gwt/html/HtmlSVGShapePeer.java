@@ -204,4 +204,19 @@ public abstract class HtmlSVGShapePeer
         super.updateAllNodeTransforms(allNodeTransforms);
     }
 
+    @Override
+    protected boolean updateLocalToParentMatrix(double[] matrix) {
+        // Same BBox shift as above: translate(-bBox) x matrix x translate(bBox), which changes only the translation
+        double tx = getBBox().x, ty = bBox.y;
+        if (tx != 0 || ty != 0)
+            matrix = new double[] { matrix[0], matrix[1], matrix[2], matrix[3],
+                    matrix[4] + matrix[0] * tx + matrix[2] * ty - tx, matrix[5] + matrix[1] * tx + matrix[3] * ty - ty };
+        return super.updateLocalToParentMatrix(matrix);
+    }
+
+    @Override
+    protected String toNativeAnimationTransform(List<Transform> allNodeTransforms) {
+        return null; // Not supported because of the possible BBox shift (see above)
+    }
+
 }
@@ -1,10 +1,14 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
+import dev.webfx.kit.launcher.spi.impl.base.TextMetricsCache;
 import dev.webfx.kit.mapper.peers.javafxgraphics.HasNoChildrenPeers;
 import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.base.ScenePeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlMeasurementScheduler;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.HtmlSvgNodePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.FxEvents;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlChildrenReconciler;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlEventCoalescer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlPaints;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
 import dev.webfx.kit.util.properties.FXProperties;
@@ -12,12 +16,13 @@ import dev.webfx.platform.console.Console;
 import dev.webfx.platform.uischeduler.UiScheduler;
 import dev.webfx.platform.util.Numbers;
 import dev.webfx.platform.util.Strings;
-import dev.webfx.platform.util.collection.Collections;
+import elemental2.core.JsArray;
 import elemental2.dom.*;
 import elemental2.webstorage.WebStorageWindow;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventType;
+import javafx.geometry.Point2D;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -28,8 +33,11 @@ import javafx.scene.layout.LayoutFlags;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextFlow;
 import javafx.stage.Stage;
+import jsinterop.base.Js;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -85,6 +93,7 @@ public final class HtmlScenePeer extends ScenePeerBase {
                 // last mouse event will be the oncontextmenu event).
                 /*&& lastMouseEvent != null && "mouseup".equals(lastMouseEvent.type)*/) {
                 MouseEvent me = (MouseEvent) e;
+                HtmlEventCoalescer.flush(); // Passing any pending mouse move first
                 // Finally we generate the menu event for JavaFX
                 listener.menuEvent(me.x, me.y, me.screenX, me.screenY, false);
             }
@@ -96,43 +105,42 @@ public final class HtmlScenePeer extends ScenePeerBase {
     }
 
     private void registerMouseListener(String type) {
-        container.addEventListener(type, e -> passHtmlMouseEventOnToFx((MouseEvent) e, type));
+        container.addEventListener(type, e -> {
+            MouseEvent me = (MouseEvent) e;
+            Element target = getEventTargetElement(me); // captured now, as it's the target of that latest mouse event
+            if ("mousedown".equals(type))
+                pressedTargetElement = target;
+            // Mouse moves & drags can happen several times per frame, so they are coalesced and passed to JavaFX only
+            // once per animation frame. This is possible only when no JavaFX handler can consume them, as we would
+            // otherwise need to know now if JavaFX consumes that event (to stop its propagation).
+            boolean coalescable = "mousemove".equals(type) && !HtmlSvgNodePeer.mayConsumeMouseMove(getScene(), target, me.buttons != 0 ? pressedTargetElement : null);
+            // Note: converted now, as this depends on the buttons state
+            javafx.scene.input.MouseEvent fxMouseEvent = coalescable ? FxEvents.toFxMouseEvent(me, type) : null;
+            if (fxMouseEvent != null)
+                HtmlEventCoalescer.coalesce(this, type, 0, fxMouseEvent, coalescedFxMouseEvent -> passFxMouseEventOnToFx(coalescedFxMouseEvent, target));
+            else {
+                HtmlEventCoalescer.flush(); // Passing any pending mouse move first, so the events order is preserved
+                passHtmlMouseEventOnToFx(me, type);
+            }
+        });
     }
 
     private boolean atLeastOneAnimationFrameOccurredSinceLastMousePressed = true;
+    // Target of the last mouse down (the mouse drags are passed to the node that has been pressed)
+    private Element pressedTargetElement;
+
+    // Target of the browser pointer event being processed by JavaFX (used to resolve the picks at its coordinates)
+    private Element pointerEventTarget;
+    private double pointerEventX, pointerEventY;
+    // Picks resolved with document.elementFromPoint() in the current frame
+    private final Map<Point2D, NodePeer> framePickCache = new HashMap<>();
 
     private void passHtmlMouseEventOnToFx(MouseEvent e, String type) {
         javafx.scene.input.MouseEvent fxMouseEvent = FxEvents.toFxMouseEvent(e, type);
         if (fxMouseEvent != null) {
-            boolean isMousePressed = fxMouseEvent.getEventType() == javafx.scene.input.MouseEvent.MOUSE_PRESSED;
-            boolean isMouseReleased = fxMouseEvent.getEventType() == javafx.scene.input.MouseEvent.MOUSE_RELEASED;
-            UserInteraction.setUserInteracting(isMousePressed || isMouseReleased);
-            // We now need to call Scene.impl_processMouseEvent() to pass the event to the JavaFX stack
-            Scene scene = getScene();
-            // Also fixing a problem: mouse released and mouse pressed are sent very closely on mobiles and might be
-            // treated in the same animation frame, which prevents the button pressed state (ex: a background bound to
-            // the button pressedProperty) to appear before the action (which might be time-consuming) is fired, so the
-            // user doesn't know if the button has been successfully pressed or not during the action execution.
-            if (isMouseReleased && !atLeastOneAnimationFrameOccurredSinceLastMousePressed)
-                UiScheduler.scheduleInAnimationFrame(() -> scene.impl_processMouseEvent(fxMouseEvent), 1);
-            else {
-                scene.impl_processMouseEvent(fxMouseEvent);
-                if (isMousePressed) {
-                    atLeastOneAnimationFrameOccurredSinceLastMousePressed = false;
-                    UiScheduler.scheduleInAnimationFrame(() -> atLeastOneAnimationFrameOccurredSinceLastMousePressed = true, 1);
-                    /* Try to uncomment this code if the focus hasn't been updated after clicking on a Node (not necessary so far)
-                    if (scene.mouseHandler.lastEvent != null) {
-                        PickResult pickResult = scene.mouseHandler.lastEvent.getPickResult();
-                        if (pickResult != null) {
-                            Node node = pickResult.getIntersectedNode();
-                            if (node != null && node.isFocusTraversable()) {
-                                node.requestFocus();
-                            }
-                        }
-                    }*/
-                }
-            }
-            UserInteraction.setUserInteracting(false);
+            // Note: mouseenter & mouseleave are targeting the container, so they don't give any hint for the picking
+            Element target = "mouseenter".equals(type) || "mouseleave".equals(type) ? null : getEventTargetElement(e);
+            passFxMouseEventOnToFx(fxMouseEvent, target);
             // Stopping propagation if the event has been consumed by JavaFX
             if (fxMouseEvent.isConsumed())
                 e.stopPropagation();
@@ -140,6 +148,65 @@ public final class HtmlScenePeer extends ScenePeerBase {
         }
     }
 
+    private void passFxMouseEventOnToFx(javafx.scene.input.MouseEvent fxMouseEvent, Element target) {
+        boolean isMousePressed = fxMouseEvent.getEventType() == javafx.scene.input.MouseEvent.MOUSE_PRESSED;
+        boolean isMouseReleased = fxMouseEvent.getEventType() == javafx.scene.input.MouseEvent.MOUSE_RELEASED;
+        UserInteraction.setUserInteracting(isMousePressed || isMouseReleased);
+        // We now need to call Scene.impl_processMouseEvent() to pass the event to the JavaFX stack
+        // Also fixing a problem: mouse released and mouse pressed are sent very closely on mobiles and might be
+        // treated in the same animation frame, which prevents the button pressed state (ex: a background bound to
+        // the button pressedProperty) to appear before the action (which might be time-consuming) is fired, so the
+        // user doesn't know if the button has been successfully pressed or not during the action execution.
+        if (isMouseReleased && !atLeastOneAnimationFrameOccurredSinceLastMousePressed)
+            UiScheduler.scheduleInAnimationFrame(() -> processMouseEventOnTarget(fxMouseEvent, target), 1);
+        else {
+            processMouseEventOnTarget(fxMouseEvent, target);
+            if (isMousePressed) {
+                atLeastOneAnimationFrameOccurredSinceLastMousePressed = false;
+                UiScheduler.scheduleInAnimationFrame(() -> atLeastOneAnimationFrameOccurredSinceLastMousePressed = true, 1);
+                /* Try to uncomment this code if the focus hasn't been updated after clicking on a Node (not necessary so far)
+                if (scene.mouseHandler.lastEvent != null) {
+                    PickResult pickResult = scene.mouseHandler.lastEvent.getPickResult();
+                    if (pickResult != null) {
+                        Node node = pickResult.getIntersectedNode();
+                        if (node != null && node.isFocusTraversable()) {
+                            node.requestFocus();
+                        }
+                    }
+                }*/
+            }
+        }
+        UserInteraction.setUserInteracting(false);
+    }
+
+    private void processMouseEventOnTarget(javafx.scene.input.MouseEvent fxMouseEvent, Element target) {
+        // The picks made by JavaFX at the event coordinates during its processing will be resolved from the target
+        Element previousTarget = pointerEventTarget;
+        double previousX = pointerEventX, previousY = pointerEventY;
+        pointerEventTarget = target;
+        pointerEventX = fxMouseEvent.getSceneX();
+        pointerEventY = fxMouseEvent.getSceneY();
+        try {
+            getScene().impl_processMouseEvent(fxMouseEvent);
+        } finally {
+            pointerEventTarget = previousTarget;
+            pointerEventX = previousX;
+            pointerEventY = previousY;
+        }
+    }
+
+    private static Element getEventTargetElement(Event e) {
+        // The first element of the composed path is the actual target, even when the event has been retargeted to a
+        // shadow host (in which case e.target is that host). composedPath() is not available on old browsers.
+        EventTarget target = e.target;
+        if ("function".equals(Js.typeof(Js.asPropertyMap(e).get("composedPath")))) {
+            JsArray<EventTarget> path = e.composedPath();
+            if (path.length > 0)
+                target = path.getAt(0);
+        }
+        return target instanceof Element ? (Element) target : null;
+    }
+
     private void installStylesheetsListener(Scene scene) {
         mapObservableList(scene.getStylesheets(), s -> addStyleSheets(s), s -> removeStyleSheets(s));
     }
@@ -217,6 +284,7 @@ public final class HtmlScenePeer extends ScenePeerBase {
     }
 
     private void onCssOrFontLoaded() {
+        TextMetricsCache.clear(); // The previous text measurements may have been done with a fallback font
         forceWholeSceneGraphLayout(scene);
     }
 
@@ -283,8 +351,25 @@ public final class HtmlScenePeer extends ScenePeerBase {
 
     @Override
     public NodePeer pickPeer(double sceneX, double sceneY) {
-        Element element = document.elementFromPoint(sceneX, sceneY);
-        NodePeer peer = HtmlSvgNodePeer.getPeerFromElementOrParents(element);
+        // When JavaFX is processing a browser pointer event, the browser has already resolved the element under the
+        // pointer (the event target), so we use it rather than document.elementFromPoint() which may force a
+        // synchronous reflow (if the DOM has been modified since the last layout). elementFromPoint() is therefore
+        // called only for the synthetic picks (ex: the mouse handler checking what is under the cursor after a pulse),
+        // and its result is cached until the next animation frame or pulse (as the DOM may then have changed).
+        if (pointerEventTarget != null && sceneX == pointerEventX && sceneY == pointerEventY)
+            return toScenePeer(HtmlSvgNodePeer.getPeerFromElementOrParents(pointerEventTarget));
+        Point2D point = new Point2D(sceneX, sceneY);
+        NodePeer peer = framePickCache.get(point);
+        if (peer == null && !framePickCache.containsKey(point)) {
+            peer = toScenePeer(HtmlSvgNodePeer.getPeerFromElementOrParents(document.elementFromPoint(sceneX, sceneY)));
+            if (framePickCache.isEmpty())
+                UiScheduler.scheduleInAnimationFrame(framePickCache::clear, 1);
+            framePickCache.put(point, peer);
+        }
+        return peer;
+    }
+
+    private NodePeer toScenePeer(NodePeer peer) {
         // Checking that we pick it from the right scene (in case there are several windows/scenes within the DOM)
         if (peer != null) {
             Node node = peer.getNode();
@@ -299,6 +384,13 @@ public final class HtmlScenePeer extends ScenePeerBase {
         HtmlUtil.setChildren(container, HtmlSvgNodePeer.toContainerElement(scene.getRoot()));
     }
 
+    @Override
+    public void onAfterPulse() {
+        HtmlSvgNodePeer.flushPendingTransforms(); // once per frame, after the layout pass
+        HtmlMeasurementScheduler.onPulseEnd(scene);
+        framePickCache.clear(); // The pulse may have changed what is under the pointer
+    }
+
     @Override
     public void updateParentAndChildrenPeers(Parent parent, ListChangeListener.Change<? extends Node> childrenChange) {
         HtmlSvgNodePeer parentPeer = HtmlSvgNodePeer.toNodePeer(parent);
@@ -308,41 +400,69 @@ public final class HtmlScenePeer extends ScenePeerBase {
         Element childrenContainer = parentPeer.getChildrenContainer();
         ObservableList<Node> fxChildren = parent.getChildren();
         if (childrenChange == null) { // Indicates we need to map children (not just a partial change)
-            List<Element> childElements = toChildElements(fxChildren, null);
-            HtmlUtil.setChildren(childrenContainer, childElements);
+            // Note: the elements already in place (ex: parent reinserted in the scene graph) are not moved
+            HtmlChildrenReconciler.setChildren(childrenContainer, toChildElements(fxChildren));
         } else { // partial change of children. The above code (remap all children) would also work, but the code below
             // is more optimized because it applies only the partial changes to the DOM.
             while (childrenChange.next()) {
+                if (childrenChange.wasPermutated()) { // Ex: sort => the elements are moved in place
+                    int from = childrenChange.getFrom(), to = childrenChange.getTo();
+                    int[] oldIndexes = new int[to - from];
+                    for (int i = from; i < to; i++)
+                        oldIndexes[childrenChange.getPermutation(i) - from] = i - from;
+                    // Taking the permuted range from the change list (snapshot when the change has been deferred) and
+                    // not from fxChildren which may have been modified again since the change was recorded
+                    List<? extends Node> permuted = new ArrayList<>(childrenChange.getList().subList(from, to));
+                    HtmlChildrenReconciler.permuteChildren(childrenContainer, toChildElements(permuted), oldIndexes);
+                    continue;
+                }
                 List<? extends Node> removed = childrenChange.getRemoved();
                 List<? extends Node> addedSubList = childrenChange.getAddedSubList();
-                // When fxChildren have been removed from the scene graph, we remove their associated elements from the DOM
+                // When fxChildren have been removed from the scene graph, we remove their associated elements from the
+                // DOM, except those that are added back (they will just be moved by the insertion below)
                 if (!removed.isEmpty()) {
-                    HtmlUtil.removeChildren(childrenContainer, toChildElements(removed, addedSubList));
+                    Map<Node, Boolean> added = new IdentityHashMap<>(); // identity set of the added nodes
+                    for (Node node : addedSubList)
+                        added.put(node, Boolean.TRUE);
+                    List<Element> removedElements = new ArrayList<>(removed.size());
+                    for (Node node : removed) {
+                        NodePeer nodePeer = node.getNodePeer(); // no need to create the peer if it doesn't exist
+                        if (!added.containsKey(node) && nodePeer instanceof HtmlSvgNodePeer)
+                            removedElements.add(((HtmlSvgNodePeer) nodePeer).getContainer());
+                    }
+                    HtmlChildrenReconciler.removeChildren(childrenContainer, removedElements);
                 }
                 // When children have been added to the scene graph, we add their associated elements to the DOM
                 if (!addedSubList.isEmpty()) {
                     // Getting the associated elements we will need to add into the DOM
-                    List<Element> childElementsToAdd = toChildElements(addedSubList, null);
-                    // Getting the index of the node this is now just after these added nodes (changes have already being applied in fxChildren)
-                    int fxNodeAfterAddedIndex = childrenChange.getTo();
-                    // Case when the nodes have been appended at the end => we need to append the elements to the DOM too
-                    if (fxNodeAfterAddedIndex >= fxChildren.size()) {
-                        HtmlUtil.appendChildren(childrenContainer, childElementsToAdd);
-                    } else { // Case when they are inserted at a specific index, before the end
-                        // Getting the JavaFX node just after the added nodes
-                        Node fxNodeAfterAdded = fxChildren.get(fxNodeAfterAddedIndex);
-                        // Getting its associated DOM element
-                        elemental2.dom.Node insertBeforeDomNode = toChildElement(fxNodeAfterAdded);
-                        // All added elements need to be inserted before that node
-                        childElementsToAdd.forEach(elementToAdd -> childrenContainer.insertBefore(elementToAdd, insertBeforeDomNode));
-                    }
+                    List<Element> childElementsToAdd = toChildElements(addedSubList);
+                    // They need to be inserted before the element of the node that is now just after these added nodes
+                    // (changes have already being applied in fxChildren), or appended if they are at the end
+                    HtmlChildrenReconciler.insertChildren(childrenContainer, childElementsToAdd, getChildElementAfter(fxChildren, childrenChange.getTo(), childrenContainer));
                 }
             }
         }
     }
 
-    private List<Element> toChildElements(List<? extends Node> nodes, List<? extends Node> nodesToIgnore) {
-        return Collections.filterMap(nodes, node -> nodesToIgnore == null || !nodesToIgnore.contains(node), this::toChildElement);
+    private List<Element> toChildElements(List<? extends Node> nodes) {
+        List<Element> elements = new ArrayList<>(nodes.size());
+        for (Node node : nodes)
+            elements.add(toChildElement(node));
+        return elements;
+    }
+
+    private static Element getChildElementAfter(List<Node> fxChildren, int index, Element childrenContainer) {
+        // Note: the element of the next node may not be in the DOM yet (if added by a next sub-change), in which case
+        // we take the following one
+        for (int i = index; i < fxChildren.size(); i++) {
+            NodePeer nodePeer = fxChildren.get(i).getNodePeer();
+            if (nodePeer instanceof HtmlSvgNodePeer) {
+                Element element = ((HtmlSvgNodePeer) nodePeer).getContainer();
+                if (element.parentNode == childrenContainer)
+                    return element;
+            }
+        }
+        return null;
     }
 
     private Element toChildElement(Node node) {
@@ -361,15 +481,17 @@ public final class HtmlScenePeer extends ScenePeerBase {
         if (nodePeer instanceof HtmlNodePeer) {
             HtmlNodePeer htmlNodePeer = (HtmlNodePeer) nodePeer;
             HTMLElement htmlElement = (HTMLElement) htmlNodePeer.getVisibleContainer();
-            HtmlUtil.absolutePosition(htmlElement);
             CSSStyleDeclaration style = htmlElement.style;
-            // Positioned to left top corner by default
-            style.left = "0px";
-            style.top = "0px";
-            if (htmlNodePeer instanceof NormalWhiteSpacePeer)
-                style.whiteSpace = "normal";
-            else if (htmlNodePeer instanceof NoWrapWhiteSpacePeer)
-                style.whiteSpace = "nowrap";
+            // Positioned to left top corner by default (already the case for the elements cloned from a node template,
+            // see HtmlElementTemplates.createNodeElement())
+            if (!"absolute".equals(style.position) || !"0px".equals(style.left) || !"0px".equals(style.top)) {
+                HtmlUtil.absolutePosition(htmlElement);
+                style.left = "0px";
+                style.top = "0px";
+            }
+            String whiteSpace = htmlNodePeer instanceof NormalWhiteSpacePeer ? "normal" : htmlNodePeer instanceof NoWrapWhiteSpacePeer ? "nowrap" : null;
+            if (whiteSpace != null && !whiteSpace.equals(style.whiteSpace))
+                style.whiteSpace = whiteSpace;
         }
     }
 
@@ -6,7 +6,7 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.HasSizeChangedCal
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlLayoutCache;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlLayoutMeasurableNoHGrow;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlPaints;
-import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlElementTemplates;
 import dev.webfx.platform.uischeduler.UiScheduler;
 import dev.webfx.platform.util.Numbers;
 import elemental2.dom.CSSProperties;
@@ -34,9 +34,9 @@ public final class HtmlTextPeer
     }
 
     public HtmlTextPeer(NB base) {
-        super(base, HtmlUtil.createElement("fx-text"));
-        // Commented line-height: 100% below, because of Text being used in LabeledSkinBase (see noWrappingText field)
-        // for measuring label text width & height => must return same measures as label (so with normal line-height)
+        super(base, HtmlElementTemplates.createNodeElement("fx-text"));
+        // Commented line-height: 100% below, because the label texts are measured with the normal line-height (see
+        // LabeledSkinBase and WebFxKitLauncher.measureLineHeight()) => must return same measures as label
         // TODO: See if it's a deviation from JavaFX (check the expected Text height in JavaFX)
         // setElementStyleAttribute("line-height", "100%"); // 100% means node height = font height with no extra on top & bottom
     }
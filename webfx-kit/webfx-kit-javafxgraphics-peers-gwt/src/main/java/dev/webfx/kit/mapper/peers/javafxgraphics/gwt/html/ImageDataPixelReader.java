@@ -27,6 +27,10 @@ public class ImageDataPixelReader implements PixelReader {
         return PixelFormat.getByteBgraInstance();
     }
 
+    public ImageData getImageData() {
+        return imageData;
+    }
+
     private int getIndex(int x, int y) {
         return (y * imageData.width + x) * 4;
     }
@@ -57,15 +61,71 @@ public class ImageDataPixelReader implements PixelReader {
 
     @Override
     public <T extends Buffer> void getPixels(int x, int y, int w, int h, WritablePixelFormat<T> pixelformat, T buffer, int scanlineStride) {
-
+        int[] argbRow = new int[w];
+        for (int y0 = 0; y0 < h; y0++) {
+            getArgbRow(x, y + y0, w, argbRow);
+            for (int x0 = 0; x0 < w; x0++)
+                pixelformat.setArgb(buffer, x0, y0, scanlineStride, argbRow[x0]);
+        }
     }
 
     @Override
     public void getPixels(int x, int y, int w, int h, WritablePixelFormat<ByteBuffer> pixelformat, byte[] buffer, int offset, int scanlineStride) {
+        boolean premultiplied = pixelformat.getType() == PixelFormat.Type.BYTE_BGRA_PRE;
+        Uint8ClampedArray data = imageData.data;
+        for (int y0 = 0; y0 < h; y0++) {
+            int i = getIndex(x, y + y0);
+            int index = offset + y0 * scanlineStride;
+            for (int x0 = 0; x0 < w; x0++, i += 4, index += 4) {
+                // RGBA -> BGRA
+                int r = data.getAt(i).intValue();
+                int g = data.getAt(i + 1).intValue();
+                int b = data.getAt(i + 2).intValue();
+                int a = data.getAt(i + 3).intValue();
+                if (premultiplied && a < 0xff) {
+                    r = premultiply(r, a);
+                    g = premultiply(g, a);
+                    b = premultiply(b, a);
+                }
+                buffer[index]     = (byte) b;
+                buffer[index + 1] = (byte) g;
+                buffer[index + 2] = (byte) r;
+                buffer[index + 3] = (byte) a;
+            }
+        }
     }
 
     @Override
     public void getPixels(int x, int y, int w, int h, WritablePixelFormat<IntBuffer> pixelformat, int[] buffer, int offset, int scanlineStride) {
+        boolean premultiplied = pixelformat.getType() == PixelFormat.Type.INT_ARGB_PRE;
+        Uint8ClampedArray data = imageData.data;
+        for (int y0 = 0; y0 < h; y0++) {
+            int i = getIndex(x, y + y0);
+            int index = offset + y0 * scanlineStride;
+            for (int x0 = 0; x0 < w; x0++, i += 4) {
+                int r = data.getAt(i).intValue();
+                int g = data.getAt(i + 1).intValue();
+                int b = data.getAt(i + 2).intValue();
+                int a = data.getAt(i + 3).intValue();
+                if (premultiplied && a < 0xff) {
+                    r = premultiply(r, a);
+                    g = premultiply(g, a);
+                    b = premultiply(b, a);
+                }
+                buffer[index++] = a << 24 | r << 16 | g << 8 | b;
+            }
+        }
+    }
+
+    private void getArgbRow(int x, int y, int w, int[] argbRow) {
+        Uint8ClampedArray data = imageData.data;
+        int i = getIndex(x, y);
+        for (int x0 = 0; x0 < w; x0++, i += 4)
+            argbRow[x0] = data.getAt(i + 3).intValue() << 24 | data.getAt(i).intValue() << 16 | data.getAt(i + 1).intValue() << 8 | data.getAt(i + 2).intValue();
+    }
 
+    // Same rounding as the JavaFX premultiplied pixel formats
+    private static int premultiply(int c, int a) {
+        return (c * a + 127) / 0xff;
     }
 }
@@ -1,9 +1,11 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
+import elemental2.core.Uint8ClampedArray;
 import elemental2.dom.ImageData;
 import javafx.scene.image.AbstractPixelWriter;
 import javafx.scene.image.Image;
 import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
 import javafx.scene.paint.Color;
 
 /**
@@ -33,19 +35,64 @@ public class ImageDataPixelWriter extends AbstractPixelWriter {
 
     @Override
     protected void setArgb(int x, int y, int a, int r, int g, int b) {
-        setRgba(x, y, r, g, b, a);
+        setRgbaImpl(x, y, r, g, b, a);
     }
 
     protected void setRgba(int x, int y, double r, double g, double b, double a) {
-        int index = (y * imageData.width + x) * 4;
-        imageData.data.setAt(index++, r);
-        imageData.data.setAt(index++, g);
-        imageData.data.setAt(index++, b);
-        imageData.data.setAt(index, a);
+        setRgbaImpl(x, y, r, g, b, a);
         markImageCanvasDirty();
     }
-        @Override
+
+    private void setRgbaImpl(int x, int y, double r, double g, double b, double a) {
+        int index = (y * imageData.width + x) * 4;
+        Uint8ClampedArray data = imageData.data;
+        data.setAt(index++, r);
+        data.setAt(index++, g);
+        data.setAt(index++, b);
+        data.setAt(index, a);
+    }
+
+    @Override
     public void setColor(int x, int y, Color c) {
         setRgba(x, y, c.getRed() * 255, c.getGreen() * 255, c.getBlue() * 255, c.getOpacity() * 255);
     }
+
+    @Override
+    protected void setArgbRow(int x, int y, int[] argbRow, int offset, int w) {
+        // Writing the row straight into the image data (ARGB -> RGBA)
+        Uint8ClampedArray data = imageData.data;
+        int index = (y * imageData.width + x) * 4;
+        for (int i = offset, end = offset + w; i < end; i++) {
+            int argb = argbRow[i];
+            data.setAt(index++, (double) ((argb >> 16) & 0xff));
+            data.setAt(index++, (double) ((argb >>  8) & 0xff));
+            data.setAt(index++, (double) ( argb        & 0xff));
+            data.setAt(index++, (double) ((argb >>> 24)));
+        }
+    }
+
+    @Override
+    public void setPixels(int dstx, int dsty, int w, int h, PixelReader reader, int srcx, int srcy) {
+        if (!(reader instanceof ImageDataPixelReader)) {
+            super.setPixels(dstx, dsty, w, h, reader, srcx, srcy);
+            return;
+        }
+        // Image data to image data copy => same RGBA layout, so the rows can be copied natively
+        ImageData srcImageData = ((ImageDataPixelReader) reader).getImageData();
+        Uint8ClampedArray srcData = srcImageData.data, dstData = imageData.data;
+        int rowLength = w * 4;
+        if (srcData == dstData && srcy < dsty) { // Overlapping copy in the same image => copying from the bottom
+            for (int y = h - 1; y >= 0; y--)
+                copyRow(srcData, (((srcy + y) * srcImageData.width) + srcx) * 4, dstData, (((dsty + y) * imageData.width) + dstx) * 4, rowLength);
+        } else {
+            for (int y = 0; y < h; y++)
+                copyRow(srcData, (((srcy + y) * srcImageData.width) + srcx) * 4, dstData, (((dsty + y) * imageData.width) + dstx) * 4, rowLength);
+        }
+        markImageCanvasDirty();
+    }
+
+    private static void copyRow(Uint8ClampedArray srcData, int srcIndex, Uint8ClampedArray dstData, int dstIndex, int rowLength) {
+        // Note: TypedArray.set() handles correctly the overlapping source and target (as memmove)
+        dstData.set(srcData.subarray(srcIndex, srcIndex + rowLength), dstIndex);
+    }
 }
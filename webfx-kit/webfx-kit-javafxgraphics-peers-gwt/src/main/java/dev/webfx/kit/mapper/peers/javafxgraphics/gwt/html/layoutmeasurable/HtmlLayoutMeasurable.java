@@ -8,6 +8,7 @@ import elemental2.dom.DOMRect;
 import elemental2.dom.HTMLElement;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
+import javafx.scene.PulseProfiler;
 
 /**
  * @author Bruno Salmon
@@ -75,9 +76,15 @@ public interface HtmlLayoutMeasurable extends LayoutMeasurable {
         HtmlLayoutCache cache = getCache();
         if (cache != null) {
             double cachedSize = cache.getCachedSize(value, width);
+            if (cachedSize < 0) {
+                // Not in the cache, but it may be after measuring all the pending elements in one batch
+                HtmlMeasurementScheduler.flushPendingMeasures(this);
+                cachedSize = cache.getCachedSize(value, width);
+            }
             if (cachedSize >= 0)
                 return cachedSize;
         }
+        HtmlMeasurementScheduler.onForcedReflow();
         HTMLElement e = getElement();
         CSSStyleDeclaration style = e.style;
         CSSProperties.WidthUnionType styleWidth = style.width;
@@ -100,6 +107,7 @@ public interface HtmlLayoutMeasurable extends LayoutMeasurable {
     }
 
     default double measure(HTMLElement e, boolean width) {
+        PulseProfiler.count(PulseProfiler.Counter.DOM_MEASUREMENTS);
         // offsetWidth & offsetHeight return the correct values (including transforms), unfortunately their precision is
         // only integer... This diminution can cause problems (ex: text in Label wrapped to next line while it shouldn't).
         int i = width ? e.offsetWidth : e.offsetHeight;
@@ -122,10 +130,18 @@ public interface HtmlLayoutMeasurable extends LayoutMeasurable {
         return null;
     }
 
+    // Indicates if the measurements can be batched by HtmlMeasurementScheduler, which requires the default
+    // sizeAndMeasure() implementation (i.e. measurement by temporarily resetting the element width or height style).
+    default boolean isBatchMeasurable() {
+        return getCache() != null;
+    }
+
     @Override
     default void clearCache() {
         HtmlLayoutCache cache = getCache();
-        if (cache != null)
+        if (cache != null) {
             cache.clearCache();
+            HtmlMeasurementScheduler.requestMeasure(this);
+        }
     }
 }
@@ -0,0 +1,131 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
+import elemental2.dom.CSSProperties;
+import elemental2.dom.HTMLElement;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the layout measurables whose cache has been cleared, and measures them all in one batch the first time a
+ * measurement is actually requested during the layout pass. Instead of forcing a synchronous browser reflow for each
+ * element (style write, read, style restore, next element...), all the style writes are done first, then all the
+ * reads, which causes only one reflow per phase for the whole batch. The results are stored in the peers caches, so
+ * the subsequent measurement requests of the layout pass are served from there.
+ *
+ * Only the unconstrained sizes (i.e. prefWidth(-1) and prefHeight(-1)) - which are the most frequently requested - are
+ * measured in advance, the constrained ones are still measured on demand.
+ *
+ * The pending measurables are kept per scene, as each scene has its own pulse.
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlMeasurementScheduler {
+
+    private static final Map<Scene, Set<HtmlLayoutMeasurable>> PENDING_MEASURABLES = new HashMap<>();
+
+    private static int pulseForcedReflowCount;
+    private static int lastPulseForcedReflowCount;
+    private static long totalForcedReflowCount;
+
+    private HtmlMeasurementScheduler() {
+    }
+
+    private static Scene getScene(HtmlLayoutMeasurable measurable) {
+        Node node = measurable instanceof NodePeer ? ((NodePeer<?>) measurable).getNode() : null;
+        return node == null ? null : node.getScene();
+    }
+
+    static void requestMeasure(HtmlLayoutMeasurable measurable) {
+        if (measurable.isBatchMeasurable()) {
+            Scene scene = getScene(measurable);
+            if (scene != null) // otherwise the element is not in the DOM, so it won't be measured in a batch anyway
+                PENDING_MEASURABLES.computeIfAbsent(scene, s -> new LinkedHashSet<>()).add(measurable);
+        }
+    }
+
+    // Measures the pending measurables of the scene of the passed measurable (i.e. the scene being laid out)
+    static void flushPendingMeasures(HtmlLayoutMeasurable requestingMeasurable) {
+        if (PENDING_MEASURABLES.isEmpty())
+            return;
+        Set<HtmlLayoutMeasurable> pendingMeasurables = PENDING_MEASURABLES.remove(getScene(requestingMeasurable));
+        if (pendingMeasurables == null)
+            return;
+        List<HtmlLayoutMeasurable> measurables = new ArrayList<>(pendingMeasurables.size());
+        for (HtmlLayoutMeasurable measurable : pendingMeasurables) {
+            // Skipping the elements not in the DOM, as their measurements are not cached anyway
+            if (measurable.getCache() != null && measurable.getElement().isConnected)
+                measurables.add(measurable);
+        }
+        if (measurables.isEmpty())
+            return;
+        int n = measurables.size();
+        HTMLElement[] elements = new HTMLElement[n];
+        CSSProperties.WidthUnionType[] styleWidths = new CSSProperties.WidthUnionType[n];
+        CSSProperties.HeightUnionType[] styleHeights = new CSSProperties.HeightUnionType[n];
+        double[] sizes = new double[n];
+        for (int i = 0; i < n; i++) {
+            HTMLElement e = elements[i] = measurables.get(i).getElement();
+            styleWidths[i] = e.style.width;
+            styleHeights[i] = e.style.height;
+        }
+        // Width phase: same style changes as sizeAndMeasure(-1, true), first all writes and then all reads
+        for (int i = 0; i < n; i++)
+            elements[i].style.width = null;
+        for (int i = 0; i < n; i++)
+            sizes[i] = measurables.get(i).measure(elements[i], true);
+        pulseForcedReflowCount++;
+        for (int i = 0; i < n; i++) {
+            elements[i].style.width = styleWidths[i];
+            measurables.get(i).getCache().setCachedSize(-1, true, sizes[i]);
+        }
+        // Height phase: same style changes as sizeAndMeasure(-1, false)
+        for (int i = 0; i < n; i++)
+            elements[i].style.height = null;
+        for (int i = 0; i < n; i++)
+            sizes[i] = measurables.get(i).measure(elements[i], false);
+        pulseForcedReflowCount++;
+        for (int i = 0; i < n; i++) {
+            elements[i].style.height = styleHeights[i];
+            measurables.get(i).getCache().setCachedSize(-1, false, sizes[i]);
+        }
+    }
+
+    static void onForcedReflow() {
+        pulseForcedReflowCount++;
+    }
+
+    /**
+     * Called by the scene peer at the end of each pulse of its scene to reset the per-pulse statistics.
+     */
+    public static void onPulseEnd(Scene scene) {
+        // Pending measurables of this scene not flushed during its pulse were not requested by the layout pass, so they
+        // will be measured on demand if needed later (the pending measurables of the other scenes are kept for their
+        // own pulse)
+        PENDING_MEASURABLES.remove(scene);
+        lastPulseForcedReflowCount = pulseForcedReflowCount;
+        totalForcedReflowCount += pulseForcedReflowCount;
+        pulseForcedReflowCount = 0;
+    }
+
+    /**
+     * @return the number of synchronous browser reflows forced by the layout measurements during the last pulse.
+     */
+    public static int getLastPulseForcedReflowCount() {
+        return lastPulseForcedReflowCount;
+    }
+
+    /**
+     * @return the total number of synchronous browser reflows forced by the layout measurements so far.
+     */
+    public static long getTotalForcedReflowCount() {
+        return totalForcedReflowCount + pulseForcedReflowCount;
+    }
+}
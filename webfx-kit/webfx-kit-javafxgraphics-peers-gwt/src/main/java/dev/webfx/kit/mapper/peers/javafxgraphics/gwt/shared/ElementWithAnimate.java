@@ -0,0 +1,16 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared;
+
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * @author Bruno Salmon
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Element")
+final class ElementWithAnimate {
+
+    @JsMethod
+    public native WebAnimation animate(Object keyframes, Object options);
+
+}
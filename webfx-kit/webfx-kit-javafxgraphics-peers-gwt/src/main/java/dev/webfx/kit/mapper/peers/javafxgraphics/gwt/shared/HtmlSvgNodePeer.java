@@ -11,6 +11,9 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerImpl;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerMixin;
 import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.LayoutMeasurable;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.NativeAnimatablePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.NativeAnimation;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.NativeAnimationSpec;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.UserInteraction;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg.SvgNodePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.*;
@@ -18,12 +21,14 @@ import dev.webfx.platform.uischeduler.UiScheduler;
 import dev.webfx.platform.util.Booleans;
 import dev.webfx.platform.util.Strings;
 import dev.webfx.platform.util.collection.Collections;
+import elemental2.core.JsArray;
 import elemental2.dom.MouseEvent;
 import elemental2.dom.TouchEvent;
 import elemental2.dom.*;
 import javafx.collections.ListChangeListener;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
+import javafx.geometry.Bounds;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
 import javafx.scene.Parent;
@@ -33,12 +38,19 @@ import javafx.scene.effect.Effect;
 import javafx.scene.input.DragEvent;
 import javafx.scene.input.*;
 import javafx.scene.text.Font;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Scale;
 import javafx.scene.transform.Transform;
+import javafx.scene.transform.Translate;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -47,13 +59,19 @@ import java.util.stream.Collectors;
  */
 public abstract class HtmlSvgNodePeer
         <E extends Element, N extends Node, NB extends NodePeerBase<N, NB, NM>, NM extends NodePeerMixin<N, NB, NM>>
-        extends NodePeerImpl<N, NB, NM> {
+        extends NodePeerImpl<N, NB, NM>
+        implements NativeAnimatablePeer {
 
     private final E element;
     private Element container;
     private boolean containerInvisible;
     private Element childrenContainer;
     protected DomType containerType;
+    // Last applied filter & font, to skip the DOM writes when they are unchanged
+    private String appliedFilter;
+    private boolean filterApplied;
+    private Font appliedFont;
+    private Element appliedFontElement;
 
     public HtmlSvgNodePeer(NB base, E element) {
         super(base);
@@ -96,13 +114,17 @@ public abstract class HtmlSvgNodePeer
         // If we found it, we need to check that it's still an active peer bound to the scene graph.
         if (nodePeer != null) {
             Node node = nodePeer.getNode();
+            if (node == null) // The peer has been released (see unbind())
+                return null;
             Scene scene = node.getScene();
             // If the node has been removed from the scene graph, we try to search again from its highest possible element
             if (scene == null) {
                 while (true) {
                     Parent parent = node.getParent();
-                    if (parent == null)
-                        return getPeerFromElementOrParents((Element) ((HtmlSvgNodePeer) node.getNodePeer()).container.parentNode);
+                    if (parent == null) {
+                        NodePeer highestPeer = node.getNodePeer();
+                        return highestPeer instanceof HtmlSvgNodePeer ? getPeerFromElementOrParents((Element) ((HtmlSvgNodePeer) highestPeer).container.parentNode) : null;
+                    }
                     node = parent;
                 }
             }
@@ -110,6 +132,23 @@ public abstract class HtmlSvgNodePeer
         return nodePeer;
     }
 
+    @Override
+    public void unbind() {
+        // Called when the node has been removed from the scene graph for a while (see javafx.scene.NodePeerLifecycle)
+        if (getNode() == null) // Already unbound
+            return;
+        if (nativeOpacityAnimation != null)
+            nativeOpacityAnimation.cancel();
+        if (nativeTransformsAnimation != null)
+            nativeTransformsAnimation.cancel();
+        super.unbind(); // unregisters the node listeners
+        // Releasing the DOM element: detaching it from its (detached) parent element, and removing its link to this peer
+        if (container.parentNode != null)
+            container.parentNode.removeChild(container);
+        HtmlUtil.setJsJavaObjectAttribute(container, "nodePeer", null);
+        PENDING_TRANSFORMS_PEERS.remove(this);
+    }
+
     public Element getContainer() {
         return container;
     }
@@ -331,11 +370,18 @@ public abstract class HtmlSvgNodePeer
 
     @Override
     public void updateLayoutX(Number layoutX) {
-        updateAllNodeTransforms();
+        updateAllNodeTransformsAndCancelNativeAnimation();
     }
 
     static {
         EventHandlerManager.setEventSourcesListener((eventType, eventSource) -> {
+            if (isMouseMoveEventType(eventType)) // Recording the sources that may consume the mouse moves & drags
+                if (eventSource instanceof Node)
+                    ((Node) eventSource).getProperties().put(MOUSE_MOVE_HANDLER_PROPERTY, Boolean.TRUE);
+                else if (eventSource instanceof Scene)
+                    ((Scene) eventSource).getProperties().put(MOUSE_MOVE_HANDLER_PROPERTY, Boolean.TRUE);
+                else // ex: window
+                    mouseMoveHandlerOutsideScenes = true;
             if (eventSource instanceof Node) {
                 EventType<?> superType = eventType.getSuperType();
                 if (superType == ScrollEvent.ANY) // registering for scroll events
@@ -348,6 +394,36 @@ public abstract class HtmlSvgNodePeer
         });
     }
 
+    private static final String MOUSE_MOVE_HANDLER_PROPERTY = "webfx-mouse-move-handler";
+    private static boolean mouseMoveHandlerOutsideScenes;
+
+    private static boolean isMouseMoveEventType(EventType<?> eventType) {
+        return eventType == javafx.scene.input.MouseEvent.MOUSE_MOVED || eventType == javafx.scene.input.MouseEvent.MOUSE_DRAGGED
+               || eventType == MouseDragEvent.ANY || eventType.getSuperType() == MouseDragEvent.ANY // full press-drag-release
+               || eventType == javafx.scene.input.MouseEvent.ANY || eventType == javafx.scene.input.InputEvent.ANY || eventType == javafx.event.Event.ANY;
+    }
+
+    /**
+     * Tells if JavaFX may consume a mouse move or drag, i.e. if a handler or filter of these events has been registered
+     * on the scene, or on the nodes (or their parents) of the passed target element (under the pointer) or pressed
+     * element (the target of the drags).
+     */
+    public static boolean mayConsumeMouseMove(Scene scene, Element targetElement, Element pressedElement) {
+        return mouseMoveHandlerOutsideScenes
+               || Boolean.TRUE.equals(scene.getProperties().get(MOUSE_MOVE_HANDLER_PROPERTY))
+               || nodeOrParentsMayConsumeMouseMove(scene, targetElement)
+               || pressedElement != null && nodeOrParentsMayConsumeMouseMove(scene, pressedElement);
+    }
+
+    private static boolean nodeOrParentsMayConsumeMouseMove(Scene scene, Element element) {
+        NodePeer peer = element == null ? null : getPeerFromElementOrParents(element);
+        // If no peer is found, the event is passed to the scene root
+        for (Node node = peer == null ? scene.getRoot() : peer.getNode(); node != null; node = node.getParent())
+            if (node.hasProperties() && Boolean.TRUE.equals(node.getProperties().get(MOUSE_MOVE_HANDLER_PROPERTY)))
+                return true;
+        return false;
+    }
+
     static void callPeerWhenReady(Object nodeSource, Consumer<HtmlSvgNodePeer> peerCaller) {
         ((Node) nodeSource).onNodePeerReady(peer -> {
             if (peer instanceof HtmlSvgNodePeer)
@@ -359,12 +435,14 @@ public abstract class HtmlSvgNodePeer
         // Listening mouse wheel scroll only for now
         element.onwheel = e -> {
             WheelEvent we = (WheelEvent) e;
-            N node = getNode();
-            ScrollEvent fxEvent = new ScrollEvent(node, node, ScrollEvent.SCROLL, we.pageX, we.pageY, we.screenX, we.screenY,
-                    we.shiftKey, we.ctrlKey, we.altKey, we.metaKey, true,false, we.deltaX, we.deltaY, we.deltaX, we.deltaY,
-                    ScrollEvent.HorizontalTextScrollUnits.NONE, 0, ScrollEvent.VerticalTextScrollUnits.NONE, 0, 0, new PickResult(node, we.pageX, we.pageY));
-            boolean stopPropagation = passOnToFx(node, fxEvent);
-            if (stopPropagation) {
+            // Wheel events can happen several times per frame, so they are coalesced (with summed deltas) and passed to
+            // JavaFX once per animation frame. The first one is passed immediately, so we know if JavaFX consumes it.
+            // The subsequent ones of the same frame are passed to JavaFX later, so the browser must not scroll with
+            // their deltas too (their default is prevented).
+            boolean consumed = !HtmlEventCoalescer.coalesce(this, "wheel", 0, new CoalescedWheel(we, we.deltaX, we.deltaY),
+                    (w1, w2) -> new CoalescedWheel(w2.lastEvent, w1.deltaX + w2.deltaX, w1.deltaY + w2.deltaY), true,
+                    this::passWheelOnToFx) || wheelConsumed;
+            if (consumed) {
                 e.stopPropagation();
                 e.preventDefault();
             }
@@ -372,6 +450,28 @@ public abstract class HtmlSvgNodePeer
         };
     }
 
+    private boolean wheelConsumed; // Set by the wheel delivered immediately by the coalescer (see above)
+
+    private void passWheelOnToFx(CoalescedWheel wheel) {
+        WheelEvent we = wheel.lastEvent;
+        N node = getNode();
+        ScrollEvent fxEvent = new ScrollEvent(node, node, ScrollEvent.SCROLL, we.pageX, we.pageY, we.screenX, we.screenY,
+                we.shiftKey, we.ctrlKey, we.altKey, we.metaKey, true,false, wheel.deltaX, wheel.deltaY, wheel.deltaX, wheel.deltaY,
+                ScrollEvent.HorizontalTextScrollUnits.NONE, 0, ScrollEvent.VerticalTextScrollUnits.NONE, 0, 0, new PickResult(node, we.pageX, we.pageY));
+        wheelConsumed = passOnToFx(node, fxEvent);
+    }
+
+    private static final class CoalescedWheel {
+        private final WheelEvent lastEvent;
+        private final double deltaX, deltaY;
+
+        CoalescedWheel(WheelEvent lastEvent, double deltaX, double deltaY) {
+            this.lastEvent = lastEvent;
+            this.deltaX = deltaX;
+            this.deltaY = deltaY;
+        }
+    }
+
     private void installSwipeListeners() {
         installTouchListeners(true);
     }
@@ -404,8 +504,21 @@ public abstract class HtmlSvgNodePeer
         AddEventListenerOptions passiveOption = AddEventListenerOptions.create();
         passiveOption.setPassive(false); // May be set to true in some cases to improve Lighthouse score
         htmlTarget.addEventListener(type, e -> {
-            boolean fxConsumed = passHtmlTouchEventOnToFx((TouchEvent) e, type, fxTarget);
-            if (fxConsumed) {
+            TouchEvent te = (TouchEvent) e;
+            boolean[] fxConsumed = { false };
+            if ("touchmove".equals(type) && !isTouchReactiveHtmlTarget(te)) {
+                // Touch moves can happen several times per frame, so they are coalesced (per touch) and passed to JavaFX
+                // once per animation frame. The first one is passed immediately, so we know if JavaFX consumes it. The
+                // subsequent ones of the same frame are passed to JavaFX later, so the browser must not scroll with them
+                // (they are considered as consumed).
+                int touchId = te.changedTouches.length > 0 ? te.changedTouches.getAt(0).identifier : 0;
+                fxConsumed[0] = !HtmlEventCoalescer.coalesce(fxTarget, type, touchId, te, null, true,
+                        coalescedEvent -> fxConsumed[0] = passHtmlTouchEventOnToFx(coalescedEvent, type, fxTarget)) || fxConsumed[0];
+            } else {
+                HtmlEventCoalescer.flush(); // Passing any pending touch move first, so the events order is preserved
+                fxConsumed[0] = passHtmlTouchEventOnToFx(te, type, fxTarget);
+            }
+            if (fxConsumed[0]) {
                 e.stopPropagation();
                 if (!UserInteraction.nextUserRunnableRequiresTouchEventDefault())
                     e.preventDefault();
@@ -413,6 +526,13 @@ public abstract class HtmlSvgNodePeer
         }, passiveOption);
     }
 
+    // Standard html tags reacting to touch events (their built-in behaviour is kept when JavaFX doesn't consume them)
+    private static boolean isTouchReactiveHtmlTarget(TouchEvent e) {
+        return e.target instanceof HTMLAnchorElement // <a> clickable link
+               || e.target instanceof HTMLInputElement // <input> (ex: slider)
+               || e.target instanceof HTMLLabelElement; // <label> that may embed an <input> such as WebFX Extras FilePicker button
+    }
+
     protected static boolean passHtmlTouchEventOnToFx(TouchEvent e, String type, javafx.event.EventTarget fxTarget) {
         javafx.scene.input.TouchEvent fxTouchEvent = toFxTouchEvent(e, type, fxTarget);
         boolean consumed = passOnToFx(fxTarget, fxTouchEvent);
@@ -430,9 +550,7 @@ public abstract class HtmlSvgNodePeer
             ((Scene) fxTarget).impl_processMouseEvent(mouseEvent);
             // We return true (even if not consumed) to always prevent browsers built-in touch scrolling, unless if the
             // target is a standard html tag that reacts to touch elements, such as:
-            consumed = !(e.target instanceof HTMLAnchorElement) // <a> clickable link
-                       && !(e.target instanceof HTMLInputElement) // <input> (ex: slider)
-                       && !(e.target instanceof HTMLLabelElement); // <label> that may embed an <input> such as WebFX Extras FilePicker button
+            consumed = !isTouchReactiveHtmlTarget(e);
         }
         return consumed; // should be normally: return consumed
     }
@@ -480,41 +598,108 @@ public abstract class HtmlSvgNodePeer
 
     @Override
     public void updateLayoutY(Number layoutY) {
-        updateAllNodeTransforms();
+        updateAllNodeTransformsAndCancelNativeAnimation();
     }
 
     @Override
     public void updateTranslateX(Number translateX) {
-        updateAllNodeTransforms();
+        updateAnimatableNodeTransforms();
     }
 
     @Override
     public void updateTranslateY(Number translateY) {
-        updateAllNodeTransforms();
+        updateAnimatableNodeTransforms();
     }
 
     @Override
     public void updateScaleX(Number scaleX) {
-        updateAllNodeTransforms();
+        updateAnimatableNodeTransforms();
     }
 
     @Override
     public void updateScaleY(Number scaleX) {
-        updateAllNodeTransforms();
+        updateAnimatableNodeTransforms();
     }
 
     @Override
     public void updateRotate(Number rotate) {
-        updateAllNodeTransforms();
+        updateAnimatableNodeTransforms();
     }
 
     @Override
     public void updateTransforms(List<Transform> transforms, ListChangeListener.Change<Transform> change) {
-        updateAllNodeTransforms();
+        updateAllNodeTransformsAndCancelNativeAnimation();
     }
 
+    private void updateAnimatableNodeTransforms() {
+        if (nativeTransformsAnimation == null) // Otherwise the native animation is already rendering these transforms
+            updateAllNodeTransforms();
+    }
+
+    private void updateAllNodeTransformsAndCancelNativeAnimation() {
+        // The native animation keyframes include the layout position and the transforms list, so they are now wrong
+        if (nativeTransformsAnimation != null)
+            nativeTransformsAnimation.cancel(); // will update all node transforms
+        else
+            updateAllNodeTransforms();
+    }
+
+    // Peers whose transforms need to be updated. The transforms depend on several properties (layoutX/Y, translateX/Y,
+    // rotate, scaleX/Y, transforms) that often change together, so the update is done only once at the end of the pulse.
+    private static final Set<HtmlSvgNodePeer> PENDING_TRANSFORMS_PEERS = new LinkedHashSet<>();
+    private static boolean pendingTransformsFlushScheduled;
+
     private void updateAllNodeTransforms() {
-        updateAllNodeTransforms(getNodePeerBase().getNode().getAllNodeTransforms());
+        PENDING_TRANSFORMS_PEERS.add(this);
+        N node = getNode();
+        Scene scene = node == null ? null : node.getScene();
+        // During the pulse, the flush is done by the scene peer at the end of it (onAfterPulse())
+        if (scene != null && scene.isPulseInProgress())
+            return;
+        // In an animation frame outside the pulse (ex: animations while the pulse sleeps), the other properties are
+        // applied immediately, so the transforms are flushed immediately too, to stay in sync with them
+        if (UiScheduler.isAnimationFrameNow()) {
+            flushPendingTransforms();
+            return;
+        }
+        // Otherwise the flush will be done by the next pulse, or scheduled if there is no pulse (scene not shown)
+        if (scene != null && scene.isPulseRunning())
+            scene.requestNextPulse();
+        else if (!pendingTransformsFlushScheduled) {
+            pendingTransformsFlushScheduled = true;
+            UiScheduler.scheduleInAnimationFrame(() -> {
+                pendingTransformsFlushScheduled = false;
+                flushPendingTransforms();
+            }, 1);
+        }
+    }
+
+    public static void flushPendingTransforms() {
+        if (PENDING_TRANSFORMS_PEERS.isEmpty())
+            return;
+        List<HtmlSvgNodePeer> peers = new ArrayList<>(PENDING_TRANSFORMS_PEERS);
+        PENDING_TRANSFORMS_PEERS.clear();
+        for (HtmlSvgNodePeer peer : peers)
+            peer.applyAllNodeTransforms();
+    }
+
+    private void applyAllNodeTransforms() {
+        N node = getNode();
+        if (node == null) // unbound meanwhile
+            return;
+        // Without explicit transforms, the node transforms are applied from the cached local-to-parent matrix, when
+        // supported by the peer (otherwise from the transforms list)
+        if (!node.getTransforms().isEmpty() || !updateLocalToParentMatrix(node.impl_getLocalToParentMatrix()))
+            updateAllNodeTransforms(node.getAllNodeTransforms());
+    }
+
+    /**
+     * Applies the node transforms from its local-to-parent matrix (mxx, myx, mxy, myy, tx, ty).
+     *
+     * @return false if not supported by this peer (the transforms list is then passed to updateAllNodeTransforms())
+     */
+    protected boolean updateLocalToParentMatrix(double[] matrix) {
+        return false;
     }
 
     @Override
@@ -566,12 +751,133 @@ public abstract class HtmlSvgNodePeer
 
     @Override
     public void updateVisible(Boolean visible) {
-        setElementAttribute("visibility", visible ? null : "hidden");
+        updateVisibility(visible, getNode().impl_isCulled());
+    }
+
+    @Override
+    public void updateCulled(Boolean culled) {
+        updateVisibility(getNode().isVisible(), culled);
+    }
+
+    // Culled nodes are hidden with visibility (and not display: none or content-visibility), because the browser then
+    // skips their painting and hit-testing, but they keep their size, so the DOM measurement of their texts still works.
+    private void updateVisibility(boolean visible, boolean culled) {
+        setElementAttribute("visibility", visible && !culled ? null : "hidden");
     }
 
     @Override
     public void updateOpacity(Double opacity) {
-        setElementAttribute("opacity", opacity == 1d ? null : opacity);
+        if (nativeOpacityAnimation == null) // Otherwise the native animation is already rendering the opacity
+            setElementAttribute("opacity", opacity == 1d ? null : opacity);
+    }
+
+    /*************************************** Native animations (Web Animations API) ***********************************/
+
+    private HtmlNativeAnimation nativeOpacityAnimation;
+    private HtmlNativeAnimation nativeTransformsAnimation;
+
+    @Override
+    public NativeAnimation animateNatively(NativeAnimationSpec spec) {
+        Element container = getVisibleContainer();
+        boolean animatesOpacity = spec.animatesOpacity(), animatesTransforms = spec.animatesTransforms();
+        // Only HTML elements can be animated through CSS properties (SVG opacity and transforms are attributes), and
+        // we don't combine several native animations on the same property
+        if (containerType != DomType.HTML || !(container instanceof HTMLElement)
+                || animatesOpacity && nativeOpacityAnimation != null
+                || animatesTransforms && nativeTransformsAnimation != null)
+            return null;
+        N node = getNode();
+        double[] offsets = spec.getOffsets();
+        JsArray<JsPropertyMap<Object>> keyframes = new JsArray<>();
+        for (int i = 0; i < offsets.length; i++) {
+            JsPropertyMap<Object> keyframe = JsPropertyMap.of();
+            keyframe.set("offset", offsets[i]);
+            if (animatesOpacity)
+                keyframe.set("opacity", spec.getOpacities()[i]);
+            if (animatesTransforms) {
+                String transform = toNativeAnimationTransform(getNativeAnimationTransforms(node, spec, i));
+                if (transform == null)
+                    return null;
+                keyframe.set("transform", transform);
+                // Same transform origin as set by HtmlNodePeer.updateAllNodeTransforms()
+                keyframe.set("transformOrigin", Strings.contains(transform, "matrix") ? "0px 0px" : "center");
+            }
+            keyframes.push(keyframe);
+        }
+        JsPropertyMap<Object> options = JsPropertyMap.of();
+        options.set("duration", spec.getCycleMillis());
+        options.set("iterations", spec.getIterations());
+        options.set("direction", spec.getDirection());
+        options.set("delay", spec.getDelayMillis());
+        options.set("fill", "forwards"); // Keeping the final values until the JavaFX animation finishes
+        WebAnimation webAnimation = Js.<ElementWithAnimate>uncheckedCast(container).animate(keyframes, options);
+        webAnimation.playbackRate = spec.getPlaybackRate();
+        HtmlNativeAnimation nativeAnimation = new HtmlNativeAnimation(webAnimation);
+        if (animatesOpacity)
+            nativeOpacityAnimation = nativeAnimation;
+        if (animatesTransforms)
+            nativeTransformsAnimation = nativeAnimation;
+        return nativeAnimation;
+    }
+
+    // Returns the CSS transform of a native animation keyframe, or null if it's not supported by this peer
+    protected String toNativeAnimationTransform(List<Transform> allNodeTransforms) {
+        String transform = HtmlTransforms.toHtmlTransforms(allNodeTransforms);
+        return transform == null ? "none" : transform;
+    }
+
+    // Same transforms as Node.getAllNodeTransforms() but with the sampled values of the native animation
+    private static List<Transform> getNativeAnimationTransforms(Node node, NativeAnimationSpec spec, int i) {
+        double translateX = sampledValue(spec.getTranslateXs(), i, node.getTranslateX());
+        double translateY = sampledValue(spec.getTranslateYs(), i, node.getTranslateY());
+        double rotate = sampledValue(spec.getRotates(), i, node.getRotate());
+        double scaleX = sampledValue(spec.getScaleXs(), i, node.getScaleX());
+        double scaleY = sampledValue(spec.getScaleYs(), i, node.getScaleY());
+        List<Transform> transforms = new ArrayList<>();
+        double ltX = translateX + node.getLayoutX(), ltY = translateY + node.getLayoutY();
+        if (ltX != 0 || ltY != 0)
+            transforms.add(new Translate(ltX, ltY));
+        if (rotate != 0 || scaleX != 1 || scaleY != 1) {
+            Bounds b = node.getBoundsInLocal();
+            double pivotX = (b.getMinX() + b.getMaxX()) / 2, pivotY = (b.getMinY() + b.getMaxY()) / 2;
+            if (rotate != 0)
+                transforms.add(new Rotate(rotate, pivotX, pivotY));
+            if (scaleX != 1 || scaleY != 1)
+                transforms.add(new Scale(scaleX, scaleY, pivotX, pivotY));
+        }
+        transforms.addAll(node.getTransforms());
+        return transforms;
+    }
+
+    private static double sampledValue(double[] values, int i, double currentValue) {
+        return values != null ? values[i] : currentValue;
+    }
+
+    private final class HtmlNativeAnimation implements NativeAnimation {
+
+        private final WebAnimation webAnimation;
+
+        HtmlNativeAnimation(WebAnimation webAnimation) {
+            this.webAnimation = webAnimation;
+        }
+
+        @Override
+        public void cancel() {
+            boolean opacity = nativeOpacityAnimation == this, transforms = nativeTransformsAnimation == this;
+            if (!opacity && !transforms) // Already cancelled
+                return;
+            if (opacity)
+                nativeOpacityAnimation = null;
+            if (transforms)
+                nativeTransformsAnimation = null;
+            webAnimation.cancel();
+            // Reconciling the DOM with the current values of the node properties
+            N node = getNode();
+            if (opacity)
+                updateOpacity(node.getOpacity());
+            if (transforms)
+                updateAllNodeTransforms();
+        }
     }
 
     @Override
@@ -646,7 +952,13 @@ public abstract class HtmlSvgNodePeer
 
     @Override
     public void updateEffect(Effect effect) {
-        setElementAttribute("filter", effect == null ? null : toFilter(effect));
+        // Effects are mutable, so their filter can't be cached, but we skip the DOM write when it is unchanged
+        String filter = effect == null ? null : toFilter(effect);
+        if (filterApplied && Objects.equals(filter, appliedFilter))
+            return;
+        filterApplied = true;
+        appliedFilter = filter;
+        setElementAttribute("filter", filter);
     }
 
     protected abstract String toFilter(Effect effect);
@@ -738,6 +1050,10 @@ public abstract class HtmlSvgNodePeer
     }
 
     protected void setFontAttributes(Font font, Element element) {
+        if (element == appliedFontElement && Objects.equals(font, appliedFont))
+            return;
+        appliedFontElement = element;
+        appliedFont = font;
         HtmlFonts.setHtmlFontStyleAttributes(font, element);
     }
 
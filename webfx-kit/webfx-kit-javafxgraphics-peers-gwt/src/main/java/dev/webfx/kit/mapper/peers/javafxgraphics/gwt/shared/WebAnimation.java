@@ -0,0 +1,18 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared;
+
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * @author Bruno Salmon
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Animation")
+final class WebAnimation {
+
+    public double playbackRate;
+
+    @JsMethod
+    public native void cancel();
+
+}
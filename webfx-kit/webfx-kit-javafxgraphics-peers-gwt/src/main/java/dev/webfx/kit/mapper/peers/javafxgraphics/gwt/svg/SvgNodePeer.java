@@ -29,6 +29,8 @@ public abstract class SvgNodePeer
         extends HtmlSvgNodePeer<Element, N, NB, NM> {
 
     private Map<String, Element> svgLinearGradients, svgRadialGradients;
+    // Gradients last applied to the defs above (immutable, so an equal gradient doesn't need to rewrite its def stops)
+    private Map<Element, Paint> appliedGradients;
     private Element svgClipPath;
 
     SvgNodePeer(NB base, Element element) {
@@ -172,7 +174,8 @@ public abstract class SvgNodePeer
             Element svgLinearGradient = svgLinearGradients.get(name);
             if (svgLinearGradient == null)
                 svgLinearGradients.put(name, svgLinearGradient = getSvgRoot().addDef(SvgUtil.createLinearGradient()));
-            SvgUtil.updateLinearGradient((LinearGradient) paint, svgLinearGradient);
+            if (isGradientChanged(svgLinearGradient, paint))
+                SvgUtil.updateLinearGradient((LinearGradient) paint, svgLinearGradient);
             value = SvgUtil.getDefUrl(svgLinearGradient);
         } else if (paint instanceof RadialGradient) {
             if (svgRadialGradients == null)
@@ -180,12 +183,19 @@ public abstract class SvgNodePeer
             Element svgRadialGradient = svgRadialGradients.get(name);
             if (svgRadialGradient == null)
                 svgRadialGradients.put(name, svgRadialGradient = getSvgRoot().addDef(SvgUtil.createRadialGradient()));
-            SvgUtil.updateRadialGradient((RadialGradient) paint, svgRadialGradient);
+            if (isGradientChanged(svgRadialGradient, paint))
+                SvgUtil.updateRadialGradient((RadialGradient) paint, svgRadialGradient);
             value = SvgUtil.getDefUrl(svgRadialGradient);
         }
         return value;
     }
 
+    private boolean isGradientChanged(Element svgGradient, Paint gradient) {
+        if (appliedGradients == null)
+            appliedGradients = new HashMap<>();
+        return !gradient.equals(appliedGradients.put(svgGradient, gradient));
+    }
+
     static String vPosToSvgAlignmentBaseLine(VPos vpos) {
         if (vpos != null)
             switch (vpos) {
@@ -0,0 +1,77 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import dev.webfx.kit.launcher.spi.impl.base.LruCache;
+
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the CSS values computed from immutable JavaFX values (paints, fonts, backgrounds, borders...). Most
+ * of these values are shared (ex: Color.WHITE, the same Background reused by hundreds of regions), so their CSS value
+ * is computed only once, and the same (interned) String instance is returned each time. This also allows the peers to
+ * cheaply detect that a value hasn't changed and skip the DOM write. The values are looked up by identity first (the
+ * last one), and then by equality. When the cache is full, the least recently used entry is evicted.
+ * <p>
+ * Only immutable keys implementing equals() and hashCode() must be used (not mutable objects such as effects).
+ *
+ * @author Bruno Salmon
+ */
+public final class CssValueCache<K, V> {
+
+    private static final int DEFAULT_MAX_SIZE = 256;
+
+    private final Function<K, V> converter;
+    private final LruCache<K, V> cache;
+    private K lastKey;
+    private V lastValue;
+    private long hitCount, missCount;
+
+    public CssValueCache(Function<K, V> converter) {
+        this(converter, DEFAULT_MAX_SIZE);
+    }
+
+    public CssValueCache(Function<K, V> converter, int maxSize) {
+        this.converter = converter;
+        cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @return the CSS value of the key (null for a null key)
+     */
+    public V get(K key) {
+        if (key == null)
+            return null;
+        if (key == lastKey) {
+            hitCount++;
+            return lastValue;
+        }
+        V value = cache.get(key);
+        if (value != null || cache.containsKey(key))
+            hitCount++;
+        else {
+            missCount++;
+            value = converter.apply(key);
+            cache.put(key, value);
+        }
+        lastKey = key;
+        lastValue = value;
+        return value;
+    }
+
+    public void clear() {
+        cache.clear();
+        lastKey = null;
+        lastValue = null;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,166 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.Element;
+import elemental2.dom.Node;
+import javafx.scene.PulseProfiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static elemental2.dom.DomGlobal.document;
+
+/**
+ * Applies the changes of a children list to the DOM with a minimal number of mutations (each one possibly triggering
+ * a style recalculation or reflow). The elements are identified by identity (no list scans), contiguous runs of
+ * inserted elements are inserted at once through a document fragment, and reordered elements are moved in place: only
+ * the elements out of the longest sequence already in the right order are moved.
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlChildrenReconciler {
+
+    /**
+     * Makes the container children exactly the passed elements, in that order (the other children are removed).
+     */
+    public static void setChildren(Element container, List<? extends Element> children) {
+        Element activeElement = document.activeElement; // Moving or removing the focused element may cause a focus lost
+        Map<Node, Integer> childrenIndexes = new IdentityHashMap<>(children.size());
+        for (int i = 0; i < children.size(); i++)
+            childrenIndexes.put(children.get(i), i);
+        // Removing the current children that are not in the list, and getting the current order of the others
+        int[] currentOrder = new int[children.size()];
+        Arrays.fill(currentOrder, -1);
+        int position = 0;
+        for (Node child = container.firstChild; child != null; ) {
+            Node next = child.nextSibling;
+            Integer index = childrenIndexes.get(child);
+            if (index == null) {
+                container.removeChild(child);
+                PulseProfiler.count(PulseProfiler.Counter.DOM_CHILD_MUTATIONS);
+            }
+            else
+                currentOrder[index] = position++;
+            child = next;
+        }
+        reorder(container, children, currentOrder, null);
+        restoreFocus(activeElement);
+    }
+
+    /**
+     * Inserts the elements before the passed child (or at the end if null), in one single DOM insertion.
+     */
+    public static void insertChildren(Element container, List<? extends Element> children, Node before) {
+        if (children.isEmpty())
+            return;
+        Element activeElement = document.activeElement; // The inserted elements may be moved from elsewhere
+        if (children.size() == 1)
+            container.insertBefore(children.get(0), before);
+        else {
+            DocumentFragment fragment = document.createDocumentFragment();
+            for (Element child : children)
+                fragment.appendChild(child);
+            container.insertBefore(fragment, before);
+        }
+        PulseProfiler.count(PulseProfiler.Counter.DOM_CHILD_MUTATIONS);
+        restoreFocus(activeElement);
+    }
+
+    public static void removeChildren(Element container, List<? extends Element> children) {
+        for (Element child : children)
+            if (child.parentNode == container) {
+                container.removeChild(child);
+                PulseProfiler.count(PulseProfiler.Counter.DOM_CHILD_MUTATIONS);
+            }
+    }
+
+    /**
+     * Reorders elements that are already contiguous children of the container.
+     *
+     * @param children the elements in their new order
+     * @param oldIndexes the previous position of each element (in the same order as children)
+     */
+    public static void permuteChildren(Element container, List<? extends Element> children, int[] oldIndexes) {
+        if (children.isEmpty())
+            return;
+        Element activeElement = document.activeElement;
+        // The elements must stay before the node that is after them, which is the sibling of the previously last one
+        Node after = null;
+        for (int i = 0; i < oldIndexes.length; i++)
+            if (oldIndexes[i] == oldIndexes.length - 1)
+                after = children.get(i).nextSibling;
+        reorder(container, children, oldIndexes, after);
+        restoreFocus(activeElement);
+    }
+
+    // Places the children in the requested order just before the passed node (or at the end if null). currentOrder
+    // gives the current relative position of each child (-1 if not yet in the container). The children forming the
+    // longest increasing sequence of current positions stay in place, the others are moved (or inserted) before their
+    // next sibling, by runs (processed backward so that the next sibling is always already well placed).
+    private static void reorder(Element container, List<? extends Element> children, int[] currentOrder, Node after) {
+        boolean[] stays = longestIncreasingSubsequence(currentOrder);
+        Node anchor = after;
+        List<Element> run = new ArrayList<>();
+        for (int i = children.size() - 1; i >= 0; i--) {
+            Element child = children.get(i);
+            if (stays[i]) {
+                insertRun(container, run, anchor);
+                anchor = child;
+            } else
+                run.add(child);
+        }
+        insertRun(container, run, anchor);
+    }
+
+    private static void insertRun(Element container, List<Element> reversedRun, Node before) {
+        if (reversedRun.isEmpty())
+            return;
+        if (reversedRun.size() == 1)
+            container.insertBefore(reversedRun.get(0), before);
+        else {
+            DocumentFragment fragment = document.createDocumentFragment();
+            for (int i = reversedRun.size() - 1; i >= 0; i--)
+                fragment.appendChild(reversedRun.get(i));
+            container.insertBefore(fragment, before);
+        }
+        PulseProfiler.count(PulseProfiler.Counter.DOM_CHILD_MUTATIONS);
+        reversedRun.clear();
+    }
+
+    // Returns the members of a longest strictly increasing subsequence of the non-negative values (O(n log n))
+    private static boolean[] longestIncreasingSubsequence(int[] values) {
+        int n = values.length;
+        int[] tailIndexes = new int[n]; // index of the smallest tail value of the increasing subsequences of each length
+        int[] predecessors = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int value = values[i];
+            if (value < 0)
+                continue;
+            int low = 0, high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[tailIndexes[middle]] < value)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            predecessors[i] = low > 0 ? tailIndexes[low - 1] : -1;
+            tailIndexes[low] = i;
+            if (low == length)
+                length++;
+        }
+        boolean[] members = new boolean[n];
+        for (int i = length > 0 ? tailIndexes[length - 1] : -1; i >= 0; i = predecessors[i])
+            members[i] = true;
+        return members;
+    }
+
+    private static void restoreFocus(Element activeElement) {
+        if (activeElement != null && activeElement != document.activeElement)
+            activeElement.focus();
+    }
+}
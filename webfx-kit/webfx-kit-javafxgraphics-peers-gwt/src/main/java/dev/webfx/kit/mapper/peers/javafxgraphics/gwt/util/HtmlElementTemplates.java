@@ -0,0 +1,57 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import elemental2.dom.CSSStyleDeclaration;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Prototype elements for the DOM structures created for each node peer. The first time, the template is created and
+ * styled, and then each new element is a deep clone of it (cloneNode(true) is much faster than creating the element,
+ * its possible children, and applying their styles one by one, which makes a difference for screens with thousands of
+ * nodes).
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlElementTemplates {
+
+    private static final Map<String, Element> TEMPLATES = new HashMap<>();
+
+    /**
+     * @param key the template identifier
+     * @param templateCreator creates the template the first time (the template itself is never inserted in the DOM)
+     * @return a new deep clone of the template
+     */
+    public static <E extends Element> E cloneTemplate(String key, Supplier<? extends Element> templateCreator) {
+        Element template = TEMPLATES.get(key);
+        if (template == null)
+            TEMPLATES.put(key, template = templateCreator.get());
+        return (E) template.cloneNode(true);
+    }
+
+    /**
+     * @return a new element with the default style of the scene graph nodes (absolutely positioned to the left top
+     * corner of their parent), which is otherwise applied in HtmlScenePeer.onNodePeerCreated().
+     */
+    public static <E extends HTMLElement> E createNodeElement(String tagName) {
+        return createNodeElement(tagName, null);
+    }
+
+    /**
+     * Same as {@link #createNodeElement(String)} but with an additional white space style (ignored if null).
+     */
+    public static <E extends HTMLElement> E createNodeElement(String tagName, String whiteSpace) {
+        return cloneTemplate(whiteSpace == null ? tagName : tagName + '|' + whiteSpace, () -> {
+            HTMLElement template = HtmlUtil.absolutePosition(HtmlUtil.createElement(tagName));
+            CSSStyleDeclaration style = template.style;
+            style.left = "0px";
+            style.top = "0px";
+            if (whiteSpace != null)
+                style.whiteSpace = whiteSpace;
+            return template;
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import dev.webfx.platform.uischeduler.UiScheduler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces the high-frequency browser events (mouse moves & drags, touch moves, wheel) that would otherwise be passed
+ * to JavaFX several times per frame (ex: high polling rate mice), each time with a full pick and enter/exit processing.
+ * Only the latest state per target, type and pointer is kept (or a merged state, such as summed wheel deltas), and it
+ * is delivered once per animation frame. The discrete events (press, release, enter, exit, touch start & end) are not
+ * coalesced, but they must call {@link #flush()} before being passed to JavaFX, so that the events order is preserved.
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlEventCoalescer {
+
+    private static final Map<Key, Pending<?>> PENDING_EVENTS = new LinkedHashMap<>();
+    private static boolean flushScheduled;
+    private static long coalescedEventCount;
+    private static long deliveredEventCount;
+
+    /**
+     * Coalesces the event with the pending one of the same target, type and pointer (if any), and delivers the result
+     * on next animation frame.
+     *
+     * @param merger merges the pending event with the new one, or null to simply keep the new one
+     * @param leadingEdge if true, the first event after a frame is delivered immediately (for the cases where the
+     *                    browser event default handling depends on the JavaFX consumption), and only the subsequent
+     *                    events of the same frame are coalesced
+     * @return true if the event has been delivered immediately, false if its delivery is deferred (in which case the
+     *         caller can't know if JavaFX will consume it)
+     */
+    public static <T> boolean coalesce(Object target, String type, int pointerId, T event, BinaryOperator<T> merger, boolean leadingEdge, Consumer<T> delivery) {
+        Key key = new Key(target, type, pointerId);
+        Pending<T> pending = (Pending<T>) PENDING_EVENTS.get(key);
+        if (pending == null) {
+            pending = new Pending<>(delivery);
+            PENDING_EVENTS.put(key, pending);
+            scheduleFlush();
+            if (leadingEdge) {
+                deliver(delivery, event);
+                return true; // pending event stays null (just a marker that an event has already been delivered in this frame)
+            }
+        } else if (pending.event != null) {
+            coalescedEventCount++;
+            if (merger != null)
+                event = merger.apply(pending.event, event);
+        }
+        pending.event = event;
+        pending.delivery = delivery;
+        return false;
+    }
+
+    public static <T> boolean coalesce(Object target, String type, int pointerId, T event, Consumer<T> delivery) {
+        return coalesce(target, type, pointerId, event, null, false, delivery);
+    }
+
+    /**
+     * Delivers all pending events immediately (in their arrival order).
+     */
+    public static void flush() {
+        if (PENDING_EVENTS.isEmpty())
+            return;
+        List<Pending<?>> pendingEvents = new ArrayList<>(PENDING_EVENTS.values());
+        PENDING_EVENTS.clear();
+        for (Pending<?> pending : pendingEvents)
+            pending.deliver();
+    }
+
+    private static void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            UiScheduler.scheduleInAnimationFrame(() -> {
+                flushScheduled = false;
+                flush();
+            }, 1);
+        }
+    }
+
+    private static <T> void deliver(Consumer<T> delivery, T event) {
+        deliveredEventCount++;
+        delivery.accept(event);
+    }
+
+    /**
+     * @return the number of events that have been coalesced (i.e. not delivered individually) so far
+     */
+    public static long getCoalescedEventCount() {
+        return coalescedEventCount;
+    }
+
+    public static long getDeliveredEventCount() {
+        return deliveredEventCount;
+    }
+
+    public static void resetCounts() {
+        coalescedEventCount = deliveredEventCount = 0;
+    }
+
+    private static final class Pending<T> {
+        private Consumer<T> delivery;
+        private T event;
+
+        Pending(Consumer<T> delivery) {
+            this.delivery = delivery;
+        }
+
+        void deliver() {
+            if (event != null)
+                HtmlEventCoalescer.deliver(delivery, event);
+        }
+    }
+
+    private static final class Key {
+        private final Object target;
+        private final String type;
+        private final int pointerId;
+
+        Key(Object target, String type, int pointerId) {
+            this.target = target;
+            this.type = type;
+            this.pointerId = pointerId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return target == key.target && pointerId == key.pointerId && type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(target), type, pointerId);
+        }
+    }
+}
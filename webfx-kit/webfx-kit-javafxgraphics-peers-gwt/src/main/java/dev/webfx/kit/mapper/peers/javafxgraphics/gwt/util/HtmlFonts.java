@@ -10,8 +10,11 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.HtmlNodePeer;
  */
 public final class HtmlFonts {
 
+    private static final CssValueCache<Font, String> HTML_FONT_DEFINITIONS = new CssValueCache<>(font ->
+            getHtmlFontStyle(font) + " " + getHtmlFontWeight(font) + " " + getHtmlFontSize(font) + " " + getHtmlFontFamily(font));
+
     public static String getHtmlFontDefinition(Font font) {
-        return font == null ? null : getHtmlFontStyle(font) + " " + getHtmlFontWeight(font) + " " + getHtmlFontSize(font) + " " + getHtmlFontFamily(font);
+        return HTML_FONT_DEFINITIONS.get(font);
     }
 
     public static void setHtmlFontStyleAttributes(Font font, Element element) {
@@ -9,6 +9,10 @@ import java.util.List;
  */
 public final class HtmlPaints {
 
+    private static final CssValueCache<Paint, String> HTML_CSS_PAINTS = new CssValueCache<>(paint -> computeCssPaint(paint, DomType.HTML));
+    private static final CssValueCache<Paint, String> SVG_CSS_PAINTS = new CssValueCache<>(paint -> computeCssPaint(paint, DomType.SVG));
+    private static final CssValueCache<Color, String> CSS_COLORS = new CssValueCache<>(color -> toCssColor(color, new StringBuilder()).toString());
+
     public static String toHtmlCssPaint(Paint paint) {
         return toCssPaint(paint, DomType.HTML);
     }
@@ -18,6 +22,10 @@ public final class HtmlPaints {
     }
 
     public static String toCssPaint(Paint paint, DomType domType) {
+        return (domType == DomType.SVG ? SVG_CSS_PAINTS : HTML_CSS_PAINTS).get(paint);
+    }
+
+    private static String computeCssPaint(Paint paint, DomType domType) {
         if (paint instanceof Color)
             return toCssColor((Color) paint);
         if (paint instanceof LinearGradient)
@@ -28,7 +36,7 @@ public final class HtmlPaints {
     }
 
     public static String toCssColor(Color color) {
-        return color == null ? null : toCssColor(color, new StringBuilder()).toString();
+        return CSS_COLORS.get(color);
     }
 
     public static String toCssOpaqueColor(Color color) {
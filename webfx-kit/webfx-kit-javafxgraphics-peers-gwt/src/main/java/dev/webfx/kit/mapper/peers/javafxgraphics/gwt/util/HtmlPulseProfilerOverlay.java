@@ -0,0 +1,103 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import dev.webfx.platform.scheduler.Scheduled;
+import dev.webfx.platform.uischeduler.UiScheduler;
+import elemental2.core.JsArray;
+import elemental2.dom.HTMLElement;
+import javafx.scene.PulseProfiler;
+import jsinterop.base.JsPropertyMap;
+
+import java.util.Map;
+
+import static elemental2.dom.DomGlobal.document;
+
+/**
+ * Browser front-end of the pulse profiler: an optional on-screen overlay showing the average phases times, the work
+ * done in the last frame and the frame time histogram of the rolling history, and a dump of the rolling history in the
+ * browser console (console.table). Showing the overlay enables the profiler.
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlPulseProfilerOverlay {
+
+    private static final long REFRESH_MILLIS = 500;
+
+    private static HTMLElement overlay;
+    private static Scheduled refreshScheduled;
+
+    public static void show() {
+        PulseProfiler.setEnabled(true);
+        if (overlay == null) {
+            overlay = (HTMLElement) document.createElement("pre");
+            overlay.style.cssText = "position: fixed; top: 0; right: 0; z-index: 2147483647; margin: 0; padding: 4px 8px;"
+                                    + " background: rgba(0, 0, 0, 0.75); color: #0f0; font: 11px monospace; pointer-events: none";
+            document.body.appendChild(overlay);
+            refreshScheduled = UiScheduler.schedulePeriodic(REFRESH_MILLIS, HtmlPulseProfilerOverlay::refresh);
+        }
+        refresh();
+    }
+
+    /**
+     * Removes the overlay (the profiler stays enabled).
+     */
+    public static void hide() {
+        if (overlay != null) {
+            refreshScheduled.cancel();
+            refreshScheduled = null;
+            overlay.remove();
+            overlay = null;
+        }
+    }
+
+    public static boolean isShowing() {
+        return overlay != null;
+    }
+
+    private static void refresh() {
+        if (overlay == null)
+            return;
+        StringBuilder sb = new StringBuilder("Pulse profiler - frames: ").append(PulseProfiler.getFrameCount());
+        sb.append("\n\nAverage time (ms)");
+        for (PulseProfiler.Phase phase : PulseProfiler.Phase.values())
+            sb.append('\n').append(phase).append(": ").append(format(PulseProfiler.getAveragePhaseMillis(phase)));
+        PulseProfiler.FrameSample lastFrame = PulseProfiler.getLastFrame();
+        if (lastFrame != null) {
+            sb.append("\n\nLast frame (").append(format(lastFrame.getTotalMillis())).append(" ms)");
+            for (PulseProfiler.Counter counter : PulseProfiler.Counter.values())
+                sb.append('\n').append(counter).append(": ").append(lastFrame.getCount(counter));
+        }
+        sb.append("\n\nFrame times");
+        double[] bounds = PulseProfiler.getHistogramBucketBoundsMillis();
+        int[] histogram = PulseProfiler.getFrameTimeHistogram();
+        for (int i = 0; i < histogram.length; i++)
+            sb.append('\n').append(i < bounds.length ? "< " + bounds[i] : ">= " + bounds[bounds.length - 1]).append(" ms: ").append(histogram[i]);
+        overlay.textContent = sb.toString();
+    }
+
+    /**
+     * Dumps the frames of the rolling history (one row per frame) and the peer updates by property kind in the browser
+     * console, as tables.
+     */
+    public static void dumpTable() {
+        JsArray<JsPropertyMap<Object>> rows = new JsArray<>();
+        for (PulseProfiler.FrameSample frame : PulseProfiler.getFrameHistory()) {
+            JsPropertyMap<Object> row = JsPropertyMap.of();
+            row.set("frame", (double) frame.getFrameNumber());
+            row.set("total (ms)", frame.getTotalMillis());
+            for (PulseProfiler.Phase phase : PulseProfiler.Phase.values())
+                row.set(phase + " (ms)", frame.getPhaseMillis(phase));
+            for (PulseProfiler.Counter counter : PulseProfiler.Counter.values())
+                row.set(counter.toString(), (double) frame.getCount(counter));
+            rows.push(row);
+        }
+        JsConsole.table(rows);
+        JsPropertyMap<Object> peerUpdates = JsPropertyMap.of();
+        for (Map.Entry<String, Long> entry : PulseProfiler.getPeerUpdatesByKind().entrySet())
+            peerUpdates.set(entry.getKey(), (double) entry.getValue());
+        JsConsole.table(peerUpdates);
+    }
+
+    private static String format(double millis) {
+        return String.valueOf(Math.round(millis * 100) / 100d);
+    }
+}
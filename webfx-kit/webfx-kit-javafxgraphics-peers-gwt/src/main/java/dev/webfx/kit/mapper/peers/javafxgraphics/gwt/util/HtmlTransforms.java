@@ -16,6 +16,16 @@ public final class HtmlTransforms {
         return toHtmlTransforms(transforms, new StringBuilder()).toString();
     }
 
+    /**
+     * @param matrix a 2D affine matrix (mxx, myx, mxy, myy, tx, ty)
+     * @return the CSS transform of that matrix, or null for the identity
+     */
+    public static String toHtmlMatrix(double[] matrix) {
+        if (matrix[0] == 1 && matrix[1] == 0 && matrix[2] == 0 && matrix[3] == 1 && matrix[4] == 0 && matrix[5] == 0)
+            return null;
+        return new StringBuilder("matrix(").append(matrix[0]).append(',').append(matrix[1]).append(',').append(matrix[2]).append(',').append(matrix[3]).append(',').append(matrix[4]).append(',').append(matrix[5]).append(')').toString();
+    }
+
     private static StringBuilder toHtmlTransforms(Collection<Transform> transforms, StringBuilder sb) {
         Collections.forEach(transforms, transform -> toHtmlTransform(transform, sb));
         return sb;
@@ -0,0 +1,14 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * @author Bruno Salmon
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "console")
+final class JsConsole {
+
+    public static native void table(Object tabularData);
+
+}
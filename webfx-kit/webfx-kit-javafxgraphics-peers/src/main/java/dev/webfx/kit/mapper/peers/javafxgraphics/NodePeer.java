@@ -28,6 +28,12 @@ public interface NodePeer<N extends Node> {
         return true;
     }
 
+    // Returns false if this peer holds a state that is not in the node (ex: canvas pixels), so it must not be released
+    // (and then recreated) when the node is removed from the scene graph for a while (see javafx.scene.NodePeerLifecycle)
+    default boolean isReleasable() {
+        return true;
+    }
+
     default WritableImage snapshot(SnapshotParameters params, WritableImage image) {
         throw new UnsupportedOperationException();
     }
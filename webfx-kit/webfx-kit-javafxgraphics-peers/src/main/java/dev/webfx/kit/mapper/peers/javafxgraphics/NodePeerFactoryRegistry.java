@@ -19,21 +19,35 @@ public final class NodePeerFactoryRegistry {
     private final static Map<Class<? extends Node>, Function<String, ? extends NodePeer>> customTagNodePeerFactories = new HashMap<>();
     private static Function<Region, NodePeer<Region>> defaultRegionFactory;
     private static Function<Group, NodePeer<Group>> defaultGroupFactory;
+    // Factories resolved from a super class (cleared on each new registration), and tags computed from the node class
+    private final static Map<Class<?>, Factory<? extends NodePeer>> resolvedNodePeerFactories = new HashMap<>();
+    private final static Map<Class<?>, Function<String, ? extends NodePeer>> resolvedCustomTagNodePeerFactories = new HashMap<>();
+    private final static Map<Class<?>, String> classTags = new HashMap<>();
 
     public static <N extends Node, V extends NodePeer<? super N>> void registerNodePeerFactory(Class<N> nodeClass, Factory<V> factory) {
         nodePeerFactories.put(nodeClass, factory);
+        clearResolvedFactories();
     }
 
     public static <N extends Node, V extends NodePeer<? super N>> void registerCustomTagNodePeerFactory(Class<N> nodeClass, Function<String, V> factory) {
         customTagNodePeerFactories.put(nodeClass, factory);
+        clearResolvedFactories();
     }
 
     public static void registerDefaultRegionPeerFactory(Function<Region, NodePeer<Region>> defaultRegionFactory) {
         NodePeerFactoryRegistry.defaultRegionFactory = defaultRegionFactory;
+        clearResolvedFactories();
     }
 
     public static void registerDefaultGroupPeerFactory(Function<Group, NodePeer<Group>> defaultGroupFactory) {
         NodePeerFactoryRegistry.defaultGroupFactory = defaultGroupFactory;
+        clearResolvedFactories();
+    }
+
+    // Any new registration may take precedence over the factories previously resolved from super classes
+    private static void clearResolvedFactories() {
+        resolvedNodePeerFactories.clear();
+        resolvedCustomTagNodePeerFactories.clear();
     }
 
     public static String requestedCustomTag(Node node) {
@@ -41,7 +55,11 @@ public final class NodePeerFactoryRegistry {
     }
 
     public static String classTag(Node node) {
-        return "fx-" + node.getClass().getSimpleName().toLowerCase();
+        Class<?> nodeClass = node.getClass();
+        String classTag = classTags.get(nodeClass);
+        if (classTag == null)
+            classTags.put(nodeClass, classTag = "fx-" + nodeClass.getSimpleName().toLowerCase());
+        return classTag;
     }
 
     public static <N extends Node, V extends NodePeer<N>> V createNodePeer(N node) {
@@ -51,10 +69,14 @@ public final class NodePeerFactoryRegistry {
         Function<String, ? extends NodePeer> customTagFactory;
         if (customTag != null) {
             customTagFactory = customTagNodePeerFactories.get(nodeClass);
+            if (customTagFactory == null)
+                customTagFactory = resolvedCustomTagNodePeerFactories.get(nodeClass);
             if (customTagFactory != null)
                 return (V) customTagFactory.apply(customTag);
         }
         Factory<? extends NodePeer> factory = nodePeerFactories.get(nodeClass);
+        if (factory == null && customTag == null) // (with a custom tag, a custom tag factory may be found first in super classes)
+            factory = resolvedNodePeerFactories.get(nodeClass);
         if (factory != null)
             return (V) factory.create();
         // If not found, it can be because it's a derived class
@@ -63,17 +85,23 @@ public final class NodePeerFactoryRegistry {
             return (V) defaultRegionFactory.apply((Region) node);
         if (node instanceof Group && defaultGroupFactory != null)
             return (V) defaultGroupFactory.apply((Group) node);
-        // For other nodes, we search recursively in super classes
-        while (nodeClass != null) {
-            nodeClass = nodeClass.getSuperclass();
+        // For other nodes, we search recursively in super classes, and memorize the result for the next nodes
+        Class<?> superClass = nodeClass;
+        while (superClass != null) {
+            superClass = superClass.getSuperclass();
             if (customTag != null) {
-                customTagFactory = customTagNodePeerFactories.get(nodeClass);
-                if (customTagFactory != null)
+                customTagFactory = customTagNodePeerFactories.get(superClass);
+                if (customTagFactory != null) {
+                    resolvedCustomTagNodePeerFactories.put(nodeClass, customTagFactory);
                     return (V) customTagFactory.apply(customTag);
+                }
             }
-            factory = nodePeerFactories.get(nodeClass);
-            if (factory != null)
+            factory = nodePeerFactories.get(superClass);
+            if (factory != null) {
+                if (customTag == null)
+                    resolvedNodePeerFactories.put(nodeClass, factory);
                 return (V) factory.create();
+            }
         }
         // If still not found, we return null after logging the problem
         Console.log("WARNING: No NodePeer factory registered for " + node.getClass());
@@ -0,0 +1,34 @@
+package dev.webfx.kit.registry.javafxgraphics;
+
+/**
+ * Implementation of the registry that registers no peers, for the plain JVM (ex: unit tests and benchmarks) where the
+ * native methods of the interface module can't be linked. The peers factories are then registered by the caller
+ * through the NodePeerFactoryRegistry.
+ *
+ * @author Bruno Salmon
+ */
+public class JavaFxGraphicsRegistry {
+
+    public static void registerGroup() { }
+
+    public static void registerRectangle() { }
+
+    public static void registerArc() { }
+
+    public static void registerCircle() { }
+
+    public static void registerLine() { }
+
+    public static void registerText() { }
+
+    public static void registerImageView() { }
+
+    public static void registerCanvas() { }
+
+    public static void registerPath() { }
+
+    public static void registerSVGPath() { }
+
+    public static void registerRegion() { }
+
+}
@@ -0,0 +1,8 @@
+// File managed by WebFX (DO NOT EDIT MANUALLY)
+
+module webfx.kit.javafxgraphics.registry.none {
+
+    // Exported packages
+    exports dev.webfx.kit.registry.javafxgraphics;
+
+}
\ No newline at end of file
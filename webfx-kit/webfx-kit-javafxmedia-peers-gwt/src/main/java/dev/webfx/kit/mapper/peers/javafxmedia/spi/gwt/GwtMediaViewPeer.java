@@ -59,6 +59,11 @@ public class GwtMediaViewPeer
         };
     }
 
+    @Override
+    public boolean isReleasable() {
+        return false; // The video element is shared with the media player peer (which keeps playing)
+    }
+
     // Emulating the JavaFX API behaviour where min/pref/max width/height always returns the video min/height
 
     @Override
@@ -1,8 +1,8 @@
 package dev.webfx.kit.mapper.peers.javafxweb.base;
 
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerBase;
-import javafx.beans.value.ObservableValue;
 import javafx.scene.web.WebView;
 
 /**
@@ -22,11 +22,10 @@ public class WebViewPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.widthProperty(), changedProperty, mixin::updateWidth)
-                || updateProperty(node.heightProperty(), changedProperty, mixin::updateHeight)
-                ;
-        }
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(WebView::widthProperty, (m, p) -> m.updateWidth(p));
+        updaters.add(WebView::heightProperty, (m, p) -> m.updateHeight(p));
+    }
 }
 
@@ -1,8 +1,8 @@
 package dev.webfx.kit.mapper.peers.javafxweb.spi.gwt;
 
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerPropertyUpdaters;
 import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
 import dev.webfx.kit.mapper.peers.javafxweb.base.WebViewPeerBase;
-import javafx.beans.value.ObservableValue;
 import javafx.scene.web.WebView;
 
 /**
@@ -22,11 +22,10 @@ public class EmulWebViewPeerBase
     }
 
     @Override
-    public boolean updateProperty(ObservableValue changedProperty) {
-        return super.updateProperty(changedProperty)
-                || updateProperty(node.urlProperty(), changedProperty, mixin::updateUrl)
-                || updateProperty(node.loadContentProperty(), changedProperty, mixin::updateLoadContent)
-                ;
+    protected void registerPropertyUpdaters(NodePeerPropertyUpdaters<N, NM> updaters) {
+        super.registerPropertyUpdaters(updaters);
+        updaters.add(WebView::urlProperty, (m, p) -> m.updateUrl(p));
+        updaters.add(WebView::loadContentProperty, (m, p) -> m.updateLoadContent(p));
     }
 
 }
\ No newline at end of file
@@ -66,6 +66,11 @@ public class HtmlWebViewPeer
         return iFrame;
     }
 
+    @Override
+    public boolean isReleasable() {
+        return false; // The loaded web content is in the iFrame, and would be lost if the peer was recreated
+    }
+
     private void reportError() {
         EventHandler<WebErrorEvent> onError = getNode().getEngine().getOnError();
         if (onError != null)
@@ -114,6 +114,14 @@ public final class WebFxKitLauncher {
         return getProvider().measureBaselineOffset(font);
     }
 
+    public static double measureLineHeight(Font font) {
+        return getProvider().measureLineHeight(font);
+    }
+
+    public static Bounds measureTextNode(String text, Font font, double wrappingWidth, double lineSpacing) {
+        return getProvider().measureTextNode(text, font, wrappingWidth, lineSpacing);
+    }
+
     public static ObservableList<Font> loadingFonts() {
         return getProvider().loadingFonts();
     }
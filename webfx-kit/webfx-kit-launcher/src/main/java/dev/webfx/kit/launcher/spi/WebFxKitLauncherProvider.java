@@ -92,6 +92,18 @@ public interface WebFxKitLauncherProvider {
 
     double measureBaselineOffset(Font font);
 
+    default double measureLineHeight(Font font) {
+        return measureText("Ág", font).getHeight(); // Default implementation for toolkits returning the logical bounds (such as OpenJFX)
+    }
+
+    /**
+     * Measures the text as it would be rendered by a Text node with the passed wrapping width (0 = no wrapping) and
+     * line spacing, but without any node in the scene graph. The default implementation ignores the wrapping.
+     */
+    default Bounds measureTextNode(String text, Font font, double wrappingWidth, double lineSpacing) {
+        return measureText(text, font);
+    }
+
     default ObservableList<Font> loadingFonts() {
         return FXCollections.emptyObservableList(); // Default implementation fpr synchronous font loading toolkits (such as OpenJFX)
     }
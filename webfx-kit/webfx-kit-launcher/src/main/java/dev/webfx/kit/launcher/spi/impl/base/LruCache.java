@@ -0,0 +1,64 @@
+package dev.webfx.kit.launcher.spi.impl.base;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small size-bounded cache evicting the least recently used entry when full (based on an access-ordered LinkedHashMap).
+ * Used by the measurement and CSS values caches (ex: TextMetricsCache).
+ *
+ * @author Bruno Salmon
+ */
+public final class LruCache<K, V> {
+
+    private final Map<K, V> map;
+    private int maxSize;
+
+    public LruCache(int maxSize) {
+        this(maxSize, 16);
+    }
+
+    public LruCache(int maxSize, int initialCapacity) {
+        this.maxSize = maxSize;
+        map = new LinkedHashMap<K, V>(initialCapacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    public V get(K key) {
+        return map.get(key);
+    }
+
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    public void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        // Evicting the least recently used entries that don't fit anymore (the iteration starts with the eldest)
+        for (Iterator<K> it = map.keySet().iterator(); map.size() > maxSize && it.hasNext(); ) {
+            it.next();
+            it.remove();
+        }
+    }
+}
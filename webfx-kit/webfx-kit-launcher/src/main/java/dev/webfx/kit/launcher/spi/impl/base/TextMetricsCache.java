@@ -0,0 +1,113 @@
+package dev.webfx.kit.launcher.spi.impl.base;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Bounds;
+import javafx.scene.text.Font;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Global size-bounded LRU cache of text measurements, keyed by text, font and wrapping width. The same strings are
+ * usually measured again and again with the same fonts (ex: in tables and forms), so this cache prevents asking the
+ * platform (which is costly in the browser) each time. The font key can be a JavaFX Font or any other object that
+ * identifies the font for the platform (ex: the CSS font definition of a canvas context).
+ *
+ * @author Bruno Salmon
+ */
+public final class TextMetricsCache {
+
+    private static final int DEFAULT_MAX_SIZE = 4096;
+
+    private static final LruCache<Key, Bounds> CACHE = new LruCache<>(DEFAULT_MAX_SIZE, 256);
+
+    private static long hitCount;
+    private static long missCount;
+
+    private TextMetricsCache() {
+    }
+
+    public static Bounds getOrMeasure(String text, Object fontKey, double wrappingWidth, Supplier<Bounds> measurer) {
+        if (text == null || fontKey == null) // Not cacheable
+            return measurer.get();
+        Key key = new Key(text, fontKey, wrappingWidth);
+        Bounds bounds = CACHE.get(key);
+        if (bounds != null)
+            hitCount++;
+        else {
+            missCount++;
+            bounds = measurer.get();
+            if (bounds != null)
+                CACHE.put(key, bounds);
+        }
+        return bounds;
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    // The measurements made before a font is loaded are done with a fallback font, so they must be discarded
+    public static void clearOnFontsLoaded(ObservableList<Font> loadingFonts) {
+        loadingFonts.addListener((ListChangeListener<Font>) c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    clear();
+                    return;
+                }
+            }
+        });
+    }
+
+    public static void setMaxSize(int maxSize) {
+        CACHE.setMaxSize(maxSize);
+    }
+
+    public static int getMaxSize() {
+        return CACHE.getMaxSize();
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static long getHitCount() {
+        return hitCount;
+    }
+
+    public static long getMissCount() {
+        return missCount;
+    }
+
+    public static void resetStatistics() {
+        hitCount = missCount = 0;
+    }
+
+    private static final class Key {
+        private final String text;
+        private final Object fontKey;
+        private final double wrappingWidth;
+        private final int hashCode;
+
+        private Key(String text, Object fontKey, double wrappingWidth) {
+            this.text = text;
+            this.fontKey = fontKey;
+            this.wrappingWidth = wrappingWidth;
+            hashCode = Objects.hash(text, fontKey, wrappingWidth);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Double.compare(key.wrappingWidth, wrappingWidth) == 0 && text.equals(key.text) && fontKey.equals(key.fontKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
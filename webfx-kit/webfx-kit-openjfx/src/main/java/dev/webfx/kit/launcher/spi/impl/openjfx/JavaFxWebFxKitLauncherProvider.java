@@ -134,4 +134,14 @@ public final class JavaFxWebFxKitLauncherProvider extends WebFxKitLauncherProvid
         measurementText.setFont(font);
         return measurementText.getBaselineOffset();
     }
+
+    private final Text measurementTextNode = new Text();
+    @Override
+    public Bounds measureTextNode(String text, Font font, double wrappingWidth, double lineSpacing) {
+        measurementTextNode.setText(text);
+        measurementTextNode.setFont(font);
+        measurementTextNode.setWrappingWidth(wrappingWidth);
+        measurementTextNode.setLineSpacing(lineSpacing);
+        return measurementTextNode.getLayoutBounds();
+    }
 }
@@ -4,10 +4,14 @@ import dev.webfx.platform.util.Arrays;
 import dev.webfx.platform.util.Objects;
 import dev.webfx.platform.util.collection.Collections;
 import dev.webfx.platform.util.function.Converter;
+import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -15,6 +19,8 @@ import java.util.function.Function;
  */
 public final class ObservableLists {
 
+    private static boolean syncElementsCheckEnabled;
+
     public static <T> void setAllNonNulls(ObservableList<T> list, T... elements) {
         if (elements != null) {
             if (Arrays.allNonNulls(elements))
@@ -44,24 +50,126 @@ public final class ObservableLists {
         setAllNonNulls(bList, Collections.map(aList, aToBConverter));
     }
 
+    /**
+     * Applies the change of aList to bList (supposed to mirror aList through the converter) with the same minimal range
+     * operations, so that only the added elements are converted. A full resync is done instead on a null change (initial
+     * call) or if bList is not in sync with aList.
+     *
+     * @param aToBConverter the converter, or null if both lists share the same elements
+     */
+    public static <A, B> void applyChangeConverted(ListChangeListener.Change<? extends A> aChange, List<A> aList, Converter<A, B> aToBConverter, ObservableList<B> bList) {
+        if (aChange == null || !isInSyncBeforeChange(aChange, aList, bList, aToBConverter)) {
+            if (aToBConverter != null)
+                setAllConverted(aList, aToBConverter, bList);
+            else
+                bList.setAll((List<B>) aList);
+            return;
+        }
+        while (aChange.next()) {
+            int from = aChange.getFrom(), to = aChange.getTo();
+            if (aChange.wasPermutated())
+                applyPermutation(aChange, bList);
+            else if (aChange.wasUpdated()) {
+                if (aToBConverter != null) // Otherwise it's the same element, so nothing to do
+                    for (int i = from; i < to; i++) {
+                        B b = aToBConverter.convert(aList.get(i));
+                        if (b != bList.get(i))
+                            bList.set(i, b);
+                    }
+            } else {
+                int removedSize = aChange.getRemovedSize();
+                List<B> added = convert(aChange.getAddedSubList(), aToBConverter);
+                if (removedSize == 1 && added.size() == 1)
+                    bList.set(from, added.get(0));
+                else {
+                    if (removedSize > 0)
+                        bList.remove(from, from + removedSize);
+                    if (!added.isEmpty())
+                        bList.addAll(from, added);
+                }
+            }
+        }
+    }
+
+    private static <A, B> void applyPermutation(ListChangeListener.Change<? extends A> aChange, ObservableList<B> bList) {
+        int from = aChange.getFrom(), to = aChange.getTo();
+        // Forwarded as a real permutation (sorting bList by the new index of each element), so that bList fires a
+        // permutation change too, and not a removal & insertion that would recreate the peers of the moved nodes
+        Map<B, Integer> newIndexes = new IdentityHashMap<>(bList.size());
+        for (int i = 0; i < bList.size(); i++)
+            newIndexes.put(bList.get(i), i < from || i >= to ? i : aChange.getPermutation(i));
+        if (newIndexes.size() == bList.size())
+            FXCollections.sort(bList, (b1, b2) -> Integer.compare(newIndexes.get(b1), newIndexes.get(b2)));
+        else { // Same element present several times => can't be ranked by identity, so we reset the permuted range
+            List<B> permuted = new ArrayList<>(bList.subList(from, to));
+            for (int i = from; i < to; i++)
+                permuted.set(aChange.getPermutation(i) - from, bList.get(i));
+            bList.remove(from, to);
+            bList.addAll(from, permuted);
+        }
+    }
+
+    /**
+     * Enables the full elements comparison (and not just the sizes) when checking that bList mirrors aList before
+     * applying a change. This is a debug option, because it calls the converter on all the unchanged elements.
+     */
+    public static void setSyncElementsCheckEnabled(boolean enabled) {
+        syncElementsCheckEnabled = enabled;
+    }
+
+    private static <A, B> boolean isInSyncBeforeChange(ListChangeListener.Change<? extends A> aChange, List<A> aList, List<B> bList, Converter<A, B> aToBConverter) {
+        int sizeDelta = 0, firstFrom = aList.size(), lastTo = 0;
+        while (aChange.next()) {
+            sizeDelta += aChange.getAddedSize() - aChange.getRemovedSize();
+            firstFrom = Math.min(firstFrom, aChange.getFrom());
+            lastTo = Math.max(lastTo, aChange.getTo());
+        }
+        aChange.reset();
+        if (bList.size() != aList.size() - sizeDelta)
+            return false;
+        // The elements before the first changed index and after the last one are not affected by the change, so they
+        // must be the same in both lists. Without converter, they are the same instances, so the check is cheap.
+        if (aToBConverter == null || syncElementsCheckEnabled) {
+            for (int i = 0; i < firstFrom; i++)
+                if (!isSameElement(aList.get(i), bList.get(i), aToBConverter))
+                    return false;
+            for (int i = lastTo; i < aList.size(); i++)
+                if (!isSameElement(aList.get(i), bList.get(i - sizeDelta), aToBConverter))
+                    return false;
+        }
+        return true;
+    }
+
+    private static <A, B> boolean isSameElement(A a, B b, Converter<A, B> aToBConverter) {
+        return aToBConverter == null ? a == b : Objects.areEquals(aToBConverter.convert(a), b);
+    }
+
+    private static <A, B> List<B> convert(List<? extends A> aList, Converter<A, B> aToBConverter) {
+        List<B> bList = new ArrayList<>(aList.size());
+        for (A a : aList)
+            bList.add(aToBConverter != null ? aToBConverter.convert(a) : (B) a);
+        return bList;
+    }
+
     public static <T> void bind(ObservableList<T> list1, ObservableList<T> list2) {
-        runNowAndOnListChange(c -> list1.setAll(list2), list2);
+        runNowAndOnListChange(c -> applyChangeConverted(c, list2, null, list1), list2);
     }
 
+    // Note: the transformer applies to the whole list, so the change can't be forwarded incrementally here
     public static <A, B> void bindTransformed(ObservableList<A> aList, ObservableList<B> bList, Function<List<B>, List<A>> bToAListTransformer) {
         runNowAndOnListChange(c -> aList.setAll(bToAListTransformer.apply(bList)), bList);
     }
 
     public static <A, B> void bindConverted(ObservableList<A> aList, ObservableList<B> bList, Converter<B, A> bToAConverter) {
-        runNowAndOnListChange(c -> setAllConverted(bList, bToAConverter, aList), bList);
+        runNowAndOnListChange(c -> applyChangeConverted(c, bList, bToAConverter, aList), bList);
     }
 
-    public static <T> void runNowAndOnListChange(ListChangeListener<T> listener, ObservableList<T> list) {
+    public static <T> Unregisterable runNowAndOnListChange(ListChangeListener<T> listener, ObservableList<T> list) {
         listener.onChanged(null);
-        runOnListChange(listener, list);
+        return runOnListChange(listener, list);
     }
 
-    public static <T> void runOnListChange(ListChangeListener<T> listener, ObservableList<T> list) {
-        list.addListener(listener);
+    public static <T> Unregisterable runOnListChange(ListChangeListener<T> listener, ObservableList<T> list) {
+        return new UnregisterableListListener<>(listener, list);
     }
 }
\ No newline at end of file
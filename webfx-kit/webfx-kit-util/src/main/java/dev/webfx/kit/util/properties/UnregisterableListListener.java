@@ -0,0 +1,38 @@
+package dev.webfx.kit.util.properties;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * @author Bruno Salmon
+ */
+public class UnregisterableListListener<T> implements Unregisterable {
+
+    private final ListChangeListener<T> listChangeListener;
+    private final ObservableList<T> list;
+    private boolean registered;
+
+    public UnregisterableListListener(ListChangeListener<T> listChangeListener, ObservableList<T> list) {
+        this.listChangeListener = listChangeListener;
+        this.list = list;
+        register();
+    }
+
+    @Override
+    public void register() {
+        if (!registered) {
+            if (list != null)
+                list.addListener(listChangeListener);
+            registered = true;
+        }
+    }
+
+    @Override
+    public void unregister() {
+        if (registered) {
+            if (list != null)
+                list.removeListener(listChangeListener);
+            registered = false;
+        }
+    }
+}
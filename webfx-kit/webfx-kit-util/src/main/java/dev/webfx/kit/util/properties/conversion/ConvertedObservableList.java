@@ -20,14 +20,14 @@ public final class ConvertedObservableList {
         aList.addListener((ListChangeListener<A>) c -> {
             if (!syncing.get()) {
                 syncing.set(true);
-                ObservableLists.setAllConverted(aList, aToBConverter, bList);
+                ObservableLists.applyChangeConverted(c, aList, aToBConverter, bList);
                 syncing.set(false);
             }
         });
         bList.addListener((ListChangeListener<B>) c -> {
             if (!syncing.get()) {
                 syncing.set(true);
-                ObservableLists.setAllConverted(bList, bToAConverter, aList);
+                ObservableLists.applyChangeConverted(c, bList, bToAConverter, aList);
                 syncing.set(false);
             }
         });